@@ -0,0 +1,390 @@
+package studio.dates.javamodule.validator.processor;
+
+import studio.dates.javamodule.validator.annotation.Email;
+import studio.dates.javamodule.validator.annotation.Http;
+import studio.dates.javamodule.validator.annotation.Length;
+import studio.dates.javamodule.validator.annotation.NotBlank;
+import studio.dates.javamodule.validator.annotation.NotEmpty;
+import studio.dates.javamodule.validator.annotation.NotNull;
+import studio.dates.javamodule.validator.annotation.Phone;
+import studio.dates.javamodule.validator.annotation.Range;
+import studio.dates.javamodule.validator.annotation.Regex;
+import studio.dates.javamodule.validator.annotation.Validated;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Validator Processor generates a reflection-free validator for each class with validation annotations.<br>
+ * The generated class ("{class name}Validator" in the same package) calls the checks of Validator with direct field access
+ * (or the getter / record accessor for private fields), and compiles the regular expressions once.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Gradle<br>
+ *          &nbsp;&nbsp;implementation 'studio.dates.java-module:dates-java-module-validator:1.0.0'<br>
+ *          &nbsp;&nbsp;annotationProcessor 'studio.dates.java-module:processor:1.0.0'
+ *      </li>
+ *      <li>Annotating<br>
+ *          &nbsp;&nbsp;public class Person {<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;@NotNull String id;<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;@Email(nullable = Nullable.ALLOW_NULL) String email;<br>
+ *          &nbsp;&nbsp;}
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;PersonValidator.validate(person);&nbsp;&nbsp;// or PersonValidator.classValidator() for the other validation methods
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@SupportedAnnotationTypes("studio.dates.javamodule.validator.annotation.*")
+public class ValidatorProcessor extends AbstractProcessor {
+    /**
+     * Constructor without any argument.
+     */
+    public ValidatorProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for(TypeElement annotation : annotations) {
+            for(Element element : round.getElementsAnnotatedWith(annotation)) {
+                if(element.getKind() == ElementKind.FIELD) {types.add((TypeElement) element.getEnclosingElement());}
+                else if(element.getKind().isClass()) {types.add((TypeElement) element);}
+            }
+        }
+        for(TypeElement type : types) {generate(type);}
+        return true;
+    }
+
+    /**
+     * Private internal method to generate the validator of the class.
+     *
+     * @param type Annotated class.
+     */
+    private void generate(TypeElement type) {
+        if(!type.getTypeParameters().isEmpty()) {
+            error(type, "Validators cannot be generated for generic classes.");
+            return;
+        }
+        if(type.getModifiers().contains(Modifier.PRIVATE) || (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC) && type.getKind() == ElementKind.CLASS)) {
+            error(type, "Validated class must not be private, and nested classes must be static.");
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String targetName = type.getQualifiedName().toString();
+        String className = validatorName(type);
+
+        List<Check> checks = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if(field.getModifiers().contains(Modifier.STATIC)) {continue;}
+            Check check = check(type, field, patterns);
+            if(check != null && !check.statements.isEmpty()) {checks.add(check);}
+        }
+
+        StringBuilder source = new StringBuilder();
+        if(!packageName.isEmpty()) {source.append("package ").append(packageName).append(";\n\n");}
+        source.append("import studio.dates.javamodule.validator.classvalidator.ClassValidator;\n")
+                .append("import studio.dates.javamodule.validator.enums.Nullable;\n")
+                .append("import studio.dates.javamodule.validator.enums.ValidationMethod;\n")
+                .append("import studio.dates.javamodule.validator.exception.ValidationException;\n")
+                .append("import studio.dates.javamodule.validator.validator.Validator;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.util.regex.Pattern;\n\n")
+                .append("/**\n * Validator of ").append(type.getSimpleName()).append(" generated from the validation annotations.\n */\n")
+                .append("@Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(className).append(" {\n");
+        for(int i = 0; i < patterns.size(); i++) {
+            source.append("    private static final Pattern PATTERN_").append(i).append(" = Pattern.compile(")
+                    .append(processingEnv.getElementUtils().getConstantExpression(patterns.get(i))).append(");\n\n");
+        }
+        source.append("    private ").append(className).append("() {\n    }\n\n");
+
+        source.append("    /**\n     * Validate all the annotated fields in the declared order. The validation stops at the first failure.\n     *\n")
+                .append("     * @param target validation target.\n     * @throws ValidationException Validation Exception thrown by the first failed check.\n     */\n")
+                .append("    public static void validate(").append(targetName).append(" target) throws ValidationException {\n");
+        for(Check check : checks) {source.append("        ").append(check.method).append("(target);\n");}
+        source.append("    }\n\n");
+
+        source.append("    /**\n     * Build a Class Validator with a named constraint for each annotated field.\n     *\n")
+                .append("     * @return New Class Validator (SEQUENTIAL). Settings can be changed before it is frozen.\n     */\n")
+                .append("    public static ClassValidator<").append(targetName).append("> classValidator() {\n")
+                .append("        return new ClassValidator<").append(targetName).append(">()\n")
+                .append("                .method(ValidationMethod.SEQUENTIAL)");
+        for(Check check : checks) {
+            source.append("\n                .constraint(").append(processingEnv.getElementUtils().getConstantExpression(check.name))
+                    .append(", ").append(className).append("::").append(check.method).append(")");
+        }
+        source.append(";\n    }\n");
+
+        for(Check check : checks) {
+            source.append("\n    private static void ").append(check.method).append("(").append(targetName).append(" target) {\n")
+                    .append("        ").append(check.type).append(" value = ").append(check.access).append(";\n");
+            for(String statement : check.statements) {source.append("        ").append(statement).append(";\n");}
+            source.append("    }\n");
+        }
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Private internal method to build the checks of a field.
+     *
+     * @param type Class declaring the field.
+     * @param field Field.
+     * @param patterns Regular expressions to be compiled by the generated class. New expressions are added.
+     * @return Checks of the field, or null if the field is not accessible or its annotations are not applicable.
+     */
+    private Check check(TypeElement type, VariableElement field, List<String> patterns) {
+        String name = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        boolean string = fieldType.getKind() == TypeKind.DECLARED && fieldType.toString().equals("java.lang.String");
+        String literal = processingEnv.getElementUtils().getConstantExpression(name);
+        List<String> statements = new ArrayList<>();
+
+        if(field.getAnnotation(NotNull.class) != null) {
+            statements.add("Validator.notNull(value, " + literal + ")");
+        }
+        if(field.getAnnotation(NotEmpty.class) != null) {
+            if(!requireString(field, string, "@NotEmpty")) {return null;}
+            statements.add("Validator.notEmpty(value, " + literal + ")");
+        }
+        if(field.getAnnotation(NotBlank.class) != null) {
+            if(!requireString(field, string, "@NotBlank")) {return null;}
+            statements.add("Validator.notBlank(value, " + literal + ")");
+        }
+        Length length = field.getAnnotation(Length.class);
+        if(length != null) {
+            if(!requireString(field, string, "@Length")) {return null;}
+            if(length.min() < 0 || length.min() > length.max()) {
+                error(field, "@Length requires 0 <= min <= max.");
+                return null;
+            }
+            statements.add("Validator.length(value, Nullable." + length.nullable() + ", " + length.min() + ", " + length.max() + ", " + literal + ")");
+        }
+        Range range = field.getAnnotation(Range.class);
+        if(range != null) {
+            if(range.min() > range.max()) {
+                error(field, "@Range requires min <= max.");
+                return null;
+            }
+            String typeName = fieldType.toString();
+            switch (typeName) {
+                case "int":
+                case "short":
+                case "byte":
+                    statements.add("Validator.range(value, " + intBound(range.min()) + ", " + intBound(range.max()) + ", " + literal + ")");
+                    break;
+                case "java.lang.Integer":
+                    statements.add("Validator.range(value, Nullable." + range.nullable() + ", " + intBound(range.min()) + ", " + intBound(range.max()) + ", " + literal + ")");
+                    break;
+                case "long":
+                    statements.add("Validator.min(value, " + range.min() + "L, " + literal + ")");
+                    statements.add("Validator.max(value, " + range.max() + "L, " + literal + ")");
+                    break;
+                case "java.lang.Long":
+                    statements.add("Validator.min(value, Nullable." + range.nullable() + ", " + range.min() + "L, " + literal + ")");
+                    statements.add("Validator.max(value, Nullable." + range.nullable() + ", " + range.max() + "L, " + literal + ")");
+                    break;
+                default:
+                    error(field, "@Range is applicable to int, short, byte, long, Integer and Long fields.");
+                    return null;
+            }
+        }
+        Email email = field.getAnnotation(Email.class);
+        if(email != null) {
+            if(!requireString(field, string, "@Email")) {return null;}
+            statements.add("Validator.email(value, Nullable." + email.nullable() + ", " + literal + ")");
+        }
+        Http http = field.getAnnotation(Http.class);
+        if(http != null) {
+            if(!requireString(field, string, "@Http")) {return null;}
+            statements.add("Validator.http(value, Nullable." + http.nullable() + ", " + literal + ")");
+        }
+        Phone phone = field.getAnnotation(Phone.class);
+        if(phone != null) {
+            if(!requireString(field, string, "@Phone")) {return null;}
+            statements.add("Validator.phone(value, Nullable." + phone.nullable() + ", " + literal + ")");
+        }
+        Regex regex = field.getAnnotation(Regex.class);
+        if(regex != null) {
+            if(!requireString(field, string, "@Regex")) {return null;}
+            try {
+                Pattern.compile(regex.value());
+            } catch (PatternSyntaxException e) {
+                error(field, "Invalid regular expression: " + e.getDescription());
+                return null;
+            }
+            int index = patterns.indexOf(regex.value());
+            if(index < 0) {
+                index = patterns.size();
+                patterns.add(regex.value());
+            }
+            statements.add("Validator.regex(value, Nullable." + regex.nullable() + ", PATTERN_" + index + ", " + literal + ")");
+        }
+        if(statements.isEmpty()) {return new Check(name, null, null, null, statements);}
+
+        String access = access(type, field);
+        if(access == null) {return null;}
+        String method = "check" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        return new Check(name, method, fieldType.toString(), access, statements);
+    }
+
+    /**
+     * Private internal method to build the expression reading the field.
+     *
+     * @param type Class declaring the field.
+     * @param field Field.
+     * @return Expression reading the field of "target", or null if the field is not accessible.
+     */
+    private String access(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if(type.getKind() == ElementKind.RECORD) {return "target." + name + "()";}
+        if(!field.getModifiers().contains(Modifier.PRIVATE)) {return "target." + name;}
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for(ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            if(method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC)
+                    && (methodName.equals("get" + capitalized) || (methodName.equals("is" + capitalized) && field.asType().getKind() == TypeKind.BOOLEAN))) {
+                return "target." + methodName + "()";
+            }
+        }
+        error(field, "Private field requires a getter (get" + capitalized + "()) to be validated.");
+        return null;
+    }
+
+    /**
+     * Private internal method to report the annotations applied to non-string fields.
+     *
+     * @param field Field.
+     * @param string Whether the field is a string.
+     * @param annotation Name of the annotation for the message.
+     * @return true if the field is a string.
+     */
+    private boolean requireString(VariableElement field, boolean string, String annotation) {
+        if(!string) {error(field, annotation + " is applicable to String fields.");}
+        return string;
+    }
+
+    /**
+     * Private internal method to build the simple name of the generated class.
+     *
+     * @param type Annotated class.
+     * @return Value of "@Validated", or the simple names of the class and its enclosing classes joined with "_" followed by "Validator".
+     */
+    private String validatorName(TypeElement type) {
+        Validated validated = type.getAnnotation(Validated.class);
+        if(validated != null && !validated.value().isEmpty()) {return validated.value();}
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for(Element enclosing = type.getEnclosingElement(); enclosing.getKind().isClass() || enclosing.getKind().isInterface(); enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.append("Validator").toString();
+    }
+
+    /**
+     * Private internal method to clamp the bound of @Range into the int range.
+     *
+     * @param bound Bound.
+     * @return Bound as the source of an int literal.
+     */
+    private static String intBound(long bound) {
+        long clamped = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, bound));
+        return clamped == Integer.MIN_VALUE ? "Integer.MIN_VALUE" : Long.toString(clamped);
+    }
+
+    /**
+     * Private internal method to report an error.
+     *
+     * @param element Element causing the error.
+     * @param message Error message.
+     */
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Checks of a field.
+     */
+    private static final class Check {
+        /**
+         * Name of the field (used as the name of the constraint and the exception messages).
+         */
+        private final String name;
+
+        /**
+         * Name of the generated check method.
+         */
+        private final String method;
+
+        /**
+         * Source of the field type.
+         */
+        private final String type;
+
+        /**
+         * Expression reading the field of "target".
+         */
+        private final String access;
+
+        /**
+         * Statements calling Validator.
+         */
+        private final List<String> statements;
+
+        /**
+         * Constructor with all the values as the arguments.
+         *
+         * @param name Name of the field.
+         * @param method Name of the check method.
+         * @param type Source of the field type.
+         * @param access Expression reading the field.
+         * @param statements Statements calling Validator.
+         */
+        private Check(String name, String method, String type, String access, List<String> statements) {
+            this.name = name;
+            this.method = method;
+            this.type = type;
+            this.access = access;
+            this.statements = statements;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package studio.dates.javamodule.validator.accessor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class Accessors holds the field accessors of a class, resolved once and cached per class.<br>
+ * Record components are read through their accessors. Other fields (including the inherited ones) are read directly when the package of the class
+ * is open to this library (e.g. the class path), and otherwise through the public getters ("get{Name}()" / "is{Name}()").
+ * Properties only exposed by public getters are also available.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Validating by the field name<br>
+ *          &nbsp;&nbsp;ClassAccessors accessors = ClassAccessors.of(Person.class);<br>
+ *          &nbsp;&nbsp;Validator.email((String) accessors.get("email").get(person), Nullable.NOT_NULL, "email");<br>
+ *          &nbsp;&nbsp;Validator.range(accessors.get("age").getInt(person), 0, 150, "age");
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class ClassAccessors {
+    /**
+     * Lookup of this library used to gain the private access to the classes.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Accessors by the class.
+     */
+    private static final ClassValue<ClassAccessors> cache = new ClassValue<>() {
+        @Override
+        protected ClassAccessors computeValue(Class<?> type) {
+            return new ClassAccessors(type);
+        }
+    };
+
+    /**
+     * The private field to store the class.
+     */
+    private final Class<?> type;
+
+    /**
+     * The private field to store the accessors by the name of the field.
+     */
+    private final Map<String, FieldAccessor> accessors;
+
+    /**
+     * Private constructor resolving the accessors of the class.
+     *
+     * @param type Class.
+     */
+    private ClassAccessors(Class<?> type) {
+        this.type = type;
+        Map<String, FieldAccessor> resolved = new LinkedHashMap<>();
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+        } catch (IllegalAccessException e) {
+            lookup = MethodHandles.publicLookup();
+        }
+        try {
+            if(type.isRecord()) {
+                for(RecordComponent component : type.getRecordComponents()) {
+                    resolved.put(component.getName(), new FieldAccessor(component.getName(), lookup.unreflect(component.getAccessor())));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            // not accessible: fall back to the public methods below
+        }
+        for(Class<?> declaring = type; declaring != null && declaring != Object.class; declaring = declaring.getSuperclass()) {
+            for(Field field : declaring.getDeclaredFields()) {
+                if(Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || resolved.containsKey(field.getName())) {continue;}
+                try {
+                    resolved.put(field.getName(), new FieldAccessor(field.getName(),
+                            lookup.unreflectGetter(field).asType(MethodType.methodType(field.getType(), type))));
+                } catch (IllegalAccessException e) {
+                    // not accessible: the getter is used if it exists
+                }
+            }
+        }
+        for(Method method : type.getMethods()) {
+            String property = property(method);
+            if(property == null || resolved.containsKey(property)) {continue;}
+            try {
+                resolved.put(property, new FieldAccessor(property,
+                        lookup.unreflect(method).asType(MethodType.methodType(method.getReturnType(), type))));
+            } catch (IllegalAccessException e) {
+                // method of a non-public class which is not open to this library
+            }
+        }
+        this.accessors = Map.copyOf(resolved);
+    }
+
+    /**
+     * Get the accessors of the class. Accessors are resolved at the first call for each class.
+     *
+     * @param type Class.
+     * @return Accessors of the class.
+     */
+    public static ClassAccessors of(Class<?> type) {
+        return cache.get(type);
+    }
+
+    /**
+     * Getter for "type" field.
+     *
+     * @return Class of the accessors.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Get the accessor of the field.
+     *
+     * @param name Name of the field or the property.
+     * @return Accessor of the field.
+     * @throws IllegalArgumentException Exception thrown when the field is not found or not accessible.
+     */
+    public FieldAccessor get(String name) {
+        FieldAccessor accessor = accessors.get(name);
+        if(accessor == null) {throw new IllegalArgumentException("Field or getter is not found or not accessible: " + type.getName() + "." + name);}
+        return accessor;
+    }
+
+    /**
+     * Check whether the field can be read.
+     *
+     * @param name Name of the field or the property.
+     * @return true if the accessor exists.
+     */
+    public boolean has(String name) {
+        return accessors.containsKey(name);
+    }
+
+    /**
+     * Get all the accessors.
+     *
+     * @return Accessors of the class (unordered).
+     */
+    public Collection<FieldAccessor> all() {
+        return accessors.values();
+    }
+
+    /**
+     * Private internal method to find the property read by a public getter.
+     *
+     * @param method Public method.
+     * @return Name of the property, or null if the method is not a getter.
+     */
+    private static String property(Method method) {
+        if(method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {return null;}
+        String name = method.getName();
+        int prefix;
+        if(name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {prefix = 3;}
+        else if(name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {prefix = 2;}
+        else {return null;}
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+}
@@ -0,0 +1,204 @@
+package studio.dates.javamodule.validator.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * Field Accessor reads a field (or a getter / record component) of the objects through method handles resolved once.<br>
+ * Primitive fields can be read without boxing through the primitive getters ("getInt()", "getLong()", "getDouble()" and "getBoolean()").
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class FieldAccessor {
+    /**
+     * The private field to store the name of the field.
+     */
+    private final String name;
+
+    /**
+     * The private field to store the type of the field.
+     */
+    private final Class<?> type;
+
+    /**
+     * The private field to store the exact handle ((declaring class) field type).
+     */
+    private final MethodHandle handle;
+
+    /**
+     * The private field to store the handle returning the boxed value ((Object) Object).
+     */
+    private final MethodHandle object;
+
+    /**
+     * The private field to store the handle returning int ((Object) int), or null if the field cannot be read as int.
+     */
+    private final MethodHandle intHandle;
+
+    /**
+     * The private field to store the handle returning long ((Object) long), or null if the field cannot be read as long.
+     */
+    private final MethodHandle longHandle;
+
+    /**
+     * The private field to store the handle returning double ((Object) double), or null if the field cannot be read as double.
+     */
+    private final MethodHandle doubleHandle;
+
+    /**
+     * The private field to store the handle returning boolean ((Object) boolean), or null if the field is not boolean.
+     */
+    private final MethodHandle booleanHandle;
+
+    /**
+     * Package-private constructor with the name and the exact handle as the arguments.
+     *
+     * @param name Name of the field.
+     * @param handle Exact handle of type (declaring class) field type.
+     */
+    FieldAccessor(String name, MethodHandle handle) {
+        this.name = name;
+        this.type = handle.type().returnType();
+        this.handle = handle;
+        this.object = handle.asType(MethodType.methodType(Object.class, Object.class));
+        this.intHandle = type == int.class || type == short.class || type == byte.class || type == char.class ? adapt(int.class) : null;
+        this.longHandle = intHandle != null || type == long.class ? adapt(long.class) : null;
+        this.doubleHandle = longHandle != null || type == float.class || type == double.class ? adapt(double.class) : null;
+        this.booleanHandle = type == boolean.class ? adapt(boolean.class) : null;
+    }
+
+    /**
+     * Getter for "name" field.
+     *
+     * @return Name of the field.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for "type" field.
+     *
+     * @return Type of the field.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Get the exact handle. Use this to compose the accessor with other method handles.
+     *
+     * @return Method handle of type (declaring class) field type.
+     */
+    public MethodHandle handle() {
+        return handle;
+    }
+
+    /**
+     * Read the field. Primitive values are boxed.
+     *
+     * @param target Object declaring the field.
+     * @return Value of the field.
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) object.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the int (or short, byte, char) field without boxing.
+     *
+     * @param target Object declaring the field.
+     * @return Value of the field.
+     * @throws IllegalStateException Exception thrown when the field cannot be read as int.
+     */
+    public int getInt(Object target) {
+        try {
+            return (int) require(intHandle, "int").invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the long (or int, short, byte, char) field without boxing.
+     *
+     * @param target Object declaring the field.
+     * @return Value of the field.
+     * @throws IllegalStateException Exception thrown when the field cannot be read as long.
+     */
+    public long getLong(Object target) {
+        try {
+            return (long) require(longHandle, "long").invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the numeric primitive field as double without boxing.
+     *
+     * @param target Object declaring the field.
+     * @return Value of the field.
+     * @throws IllegalStateException Exception thrown when the field is not a numeric primitive.
+     */
+    public double getDouble(Object target) {
+        try {
+            return (double) require(doubleHandle, "double").invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read the boolean field without boxing.
+     *
+     * @param target Object declaring the field.
+     * @return Value of the field.
+     * @throws IllegalStateException Exception thrown when the field is not boolean.
+     */
+    public boolean getBoolean(Object target) {
+        try {
+            return (boolean) require(booleanHandle, "boolean").invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Private internal method to adapt the exact handle to (Object) primitive.
+     *
+     * @param primitive Primitive type to be returned.
+     * @return Adapted handle.
+     */
+    private MethodHandle adapt(Class<?> primitive) {
+        return handle.asType(MethodType.methodType(primitive, Object.class));
+    }
+
+    /**
+     * Private internal method to reject the primitive getters not applicable to the field.
+     *
+     * @param handle Adapted handle, or null.
+     * @param primitive Name of the primitive type for the message.
+     * @return The handle.
+     */
+    private MethodHandle require(MethodHandle handle, String primitive) {
+        if(handle == null) {throw new IllegalStateException("Field " + name + " (" + type.getName() + ") cannot be read as " + primitive + ".");}
+        return handle;
+    }
+}
@@ -0,0 +1,28 @@
+package studio.dates.javamodule.validator.annotation;
+
+import studio.dates.javamodule.validator.enums.Nullable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the string field to match email format (Validator.email()).
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface Email {
+    /**
+     * Nullability of the field.
+     *
+     * @return Nullable option passed to the check (default NOT_NULL).
+     */
+    Nullable nullable() default Nullable.NOT_NULL;
+}
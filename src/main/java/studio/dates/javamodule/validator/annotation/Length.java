@@ -0,0 +1,42 @@
+package studio.dates.javamodule.validator.annotation;
+
+import studio.dates.javamodule.validator.enums.Nullable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the length of the string field in the range (Validator.length()).
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface Length {
+    /**
+     * Min length.
+     *
+     * @return Min length (inclusive).
+     */
+    int min() default 0;
+
+    /**
+     * Max length.
+     *
+     * @return Max length (inclusive).
+     */
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * Nullability of the field.
+     *
+     * @return Nullable option passed to the check (default NOT_NULL).
+     */
+    Nullable nullable() default Nullable.NOT_NULL;
+}
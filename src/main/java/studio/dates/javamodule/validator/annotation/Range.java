@@ -0,0 +1,43 @@
+package studio.dates.javamodule.validator.annotation;
+
+import studio.dates.javamodule.validator.enums.Nullable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the integer field in the range.<br>
+ * Fields of int, short, byte and Integer are checked with Validator.range(), and fields of long and Long are checked with Validator.min() and Validator.max().
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface Range {
+    /**
+     * Min value.
+     *
+     * @return Min value (inclusive).
+     */
+    long min() default Long.MIN_VALUE;
+
+    /**
+     * Max value.
+     *
+     * @return Max value (inclusive).
+     */
+    long max() default Long.MAX_VALUE;
+
+    /**
+     * Nullability of the wrapper field. Ignored for primitive fields.
+     *
+     * @return Nullable option passed to the check (default NOT_NULL).
+     */
+    Nullable nullable() default Nullable.NOT_NULL;
+}
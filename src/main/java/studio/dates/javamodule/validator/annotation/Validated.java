@@ -0,0 +1,28 @@
+package studio.dates.javamodule.validator.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the class whose annotated fields are validated by a generated validator ("{class name}Validator" in the same package).<br>
+ * The annotation processor generates the validator for any class with annotated fields, so this annotation is optional.
+ * Use it to change the name of the generated class.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Validated {
+    /**
+     * Simple name of the generated validator.
+     *
+     * @return Name of the generated class, or "" for "{class name}Validator".
+     */
+    String value() default "";
+}
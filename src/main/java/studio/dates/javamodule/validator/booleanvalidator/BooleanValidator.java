@@ -1,11 +1,32 @@
 package studio.dates.javamodule.validator.booleanvalidator;
 
+import studio.dates.javamodule.validator.cache.ValidationCache;
+import studio.dates.javamodule.validator.core.DecimalBound;
+import studio.dates.javamodule.validator.core.DoubleRange;
+import studio.dates.javamodule.validator.core.IntRange;
+import studio.dates.javamodule.validator.core.IntSet;
+import studio.dates.javamodule.validator.core.LongRange;
+import studio.dates.javamodule.validator.core.LongSet;
 import studio.dates.javamodule.validator.core.NullCheckValidator;
+import studio.dates.javamodule.validator.core.NullPolicy;
 import studio.dates.javamodule.validator.core.StringLengthValidator;
 import studio.dates.javamodule.validator.core.StringRegexValidator;
+import studio.dates.javamodule.validator.core.StringSet;
 import studio.dates.javamodule.validator.core.NumericRangeValidator;
+import studio.dates.javamodule.validator.core.regex.Regex;
 import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.LengthMode;
 import studio.dates.javamodule.validator.enums.Nullable;
+import studio.dates.javamodule.validator.exception.ValidationException;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.BiPredicate;
 
 /**
  * BooleanValidator Class provides various common validation methods to validate single value.<br>
@@ -17,6 +38,55 @@ import studio.dates.javamodule.validator.enums.Nullable;
  *
  */
 public class BooleanValidator {
+    /**
+     * The private field to store the result cache of the format checks (regex, email, http and phone). Results are not cached if this is null.
+     */
+    private static volatile ValidationCache<Object, Boolean> cache;
+
+    /**
+     * The private field to store the metrics registry for the checks. Metrics are not recorded if this is null.
+     */
+    private static volatile ValidationMetrics metrics;
+
+    /**
+     * Set the result cache of the format checks (regex, email, http and phone).<br>
+     * Results are cached by the pair of the regular expression and the target, so the null checks are always processed.
+     *
+     * @param cache Result cache, or null to disable caching.
+     */
+    public static void cache(ValidationCache<Object, Boolean> cache) {
+        BooleanValidator.cache = cache;
+    }
+
+    /**
+     * Get the result cache of the format checks.
+     *
+     * @return Result cache, or null if caching is disabled.
+     */
+    public static ValidationCache<Object, Boolean> getCache() {
+        return cache;
+    }
+
+    /**
+     * Set the metrics registry for the checks.<br>
+     * Invocations and latencies are recorded under the name "BooleanValidator.{method name}" (overloads are merged),
+     * and a false result is recorded as a failure of ValidationException. Nothing is recorded and no time is measured while this is null.
+     *
+     * @param metrics Metrics registry, or null to disable the instrumentation.
+     */
+    public static void metrics(ValidationMetrics metrics) {
+        BooleanValidator.metrics = metrics;
+    }
+
+    /**
+     * Getter for "metrics" field.
+     *
+     * @return Metrics registry for the checks, or null if the instrumentation is disabled.
+     */
+    public static ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Requires target to be null.
      *
@@ -24,7 +94,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean isNull(Object target) {
-        return NullCheckValidator.isNull(target);
+        long start = start();
+        return finish("BooleanValidator.isNull", start, NullCheckValidator.isNull(target));
     };
 
     /**
@@ -34,7 +105,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean notNull(Object target) {
-        return !NullCheckValidator.isNull(target);
+        long start = start();
+        return finish("BooleanValidator.notNull", start, !NullCheckValidator.isNull(target));
     };
 
     /**
@@ -45,7 +117,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean isEmpty(String target) {
-        return NullCheckValidator.isEmpty(target);
+        long start = start();
+        return finish("BooleanValidator.isEmpty", start, NullCheckValidator.isEmpty(target));
     }
 
     /**
@@ -56,8 +129,9 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean isEmptyNotNull(String target) {
-        if(NullCheckValidator.isNull(target)){return false;}
-        else {return NullCheckValidator.isEmpty(target);}
+        long start = start();
+        if(NullCheckValidator.isNull(target)){return finish("BooleanValidator.isEmptyNotNull", start, false);}
+        else {return finish("BooleanValidator.isEmptyNotNull", start, NullCheckValidator.isEmpty(target));}
     }
 
     /**
@@ -68,7 +142,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean notEmpty(String target) {
-        return !NullCheckValidator.isEmpty(target);
+        long start = start();
+        return finish("BooleanValidator.notEmpty", start, !NullCheckValidator.isEmpty(target));
     }
 
     /**
@@ -79,7 +154,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean notBlank(String target) {
-        return !NullCheckValidator.isBlank(target);
+        long start = start();
+        return finish("BooleanValidator.notBlank", start, !NullCheckValidator.isBlank(target));
     }
 
     /**
@@ -92,7 +168,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(int target, int minInclusive, int maxInclusive) {
-        return NumericRangeValidator.range(target,minInclusive, maxInclusive);
+        long start = start();
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target,minInclusive, maxInclusive));
     }
 
     /**
@@ -105,7 +182,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(long target, long minInclusive, int maxInclusive) {
-        return NumericRangeValidator.range(target, minInclusive, maxInclusive);
+        long start = start();
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, minInclusive, maxInclusive));
     }
 
     /**
@@ -120,7 +198,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(double target, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
-        return NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod);
+        long start = start();
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod));
     }
 
     /**
@@ -136,19 +215,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(Number target, Nullable nullable, int minInclusive, int maxInclusive){
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.range((int) target, minInclusive, maxInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.within(target, minInclusive, maxInclusive));
     }
 
     /**
@@ -164,19 +234,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(Long target, Nullable nullable, long minInclusive, int maxInclusive) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.range(target, minInclusive, maxInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, minInclusive, maxInclusive));
     }
 
     /**
@@ -194,19 +255,200 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean range(Double target, Nullable nullable, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod));
+    }
+
+    /**
+     * Requires the integer target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean range(int target, boolean present, Nullable nullable, int minInclusive, int maxInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.range", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, minInclusive, maxInclusive));
+    }
+
+    /**
+     * Requires the long integer target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean range(long target, boolean present, Nullable nullable, long minInclusive, long maxInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.range", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, minInclusive, maxInclusive));
+    }
+
+    /**
+     * Requires the float/double target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     * @return Validation result.
+     */
+    public static boolean range(double target, boolean present, Nullable nullable, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.range", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod));
+    }
+
+    /**
+     * Requires the BigDecimal target in the specified range. The bounds are prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean range(BigDecimal target, Nullable nullable, DecimalBound min, DecimalBound max) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, min, max));
+    }
+
+    /**
+     * Requires the BigInteger target in the specified range. The bounds are prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean range(BigInteger target, Nullable nullable, DecimalBound min, DecimalBound max) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, NumericRangeValidator.range(target, min, max));
+    }
+
+    /**
+     * Requires the integer target in the range.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(int target, IntRange range) {
+        long start = start();
+        return finish("BooleanValidator.range", start, range.check(target));
+    }
+
+    /**
+     * Requires the long integer target in the range.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(long target, LongRange range) {
+        long start = start();
+        return finish("BooleanValidator.range", start, range.check(target));
+    }
+
+    /**
+     * Requires the float/double target in the range.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(double target, DoubleRange range) {
+        long start = start();
+        return finish("BooleanValidator.range", start, range.check(target));
+    }
+
+    /**
+     * Requires the "Integer" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(Integer target, Nullable nullable, IntRange range) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, range.check(target));
+    }
+
+    /**
+     * Requires the "Long" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(Long target, Nullable nullable, LongRange range) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, range.check(target));
+    }
+
+    /**
+     * Requires the "Double" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @return Validation result.
+     */
+    public static boolean range(Double target, Nullable nullable, DoubleRange range) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.range", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.range", start, range.check(target));
     }
 
     /**
@@ -218,7 +460,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(int target, int minInclusive) {
-        return NumericRangeValidator.min(target, minInclusive);
+        long start = start();
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, minInclusive));
     }
 
     /**
@@ -230,7 +473,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(long target, long minInclusive) {
-        return NumericRangeValidator.min(target, minInclusive);
+        long start = start();
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, minInclusive));
     }
 
     /**
@@ -243,7 +487,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(double target, double min, BorderMethod borderMethod) {
-        return NumericRangeValidator.min(target, min, borderMethod);
+        long start = start();
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, min, borderMethod));
     }
 
     /**
@@ -258,19 +503,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(Number target, Nullable nullable, int minInclusive) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.min((int) target, minInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.min", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.atLeast(target, minInclusive));
     }
 
     /**
@@ -285,19 +521,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(Long target, Nullable nullable, long minInclusive) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.min(target, minInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.min", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, minInclusive));
     }
 
     /**
@@ -313,19 +540,101 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean min(Double target, Nullable nullable, double min, BorderMethod borderMethod) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.min(target, min, borderMethod);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.min", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, min, borderMethod));
+    }
+
+    /**
+     * Requires the integer target to be larger than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean min(int target, boolean present, Nullable nullable, int minInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.min", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, minInclusive));
+    }
+
+    /**
+     * Requires the long integer target to be larger than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean min(long target, boolean present, Nullable nullable, long minInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.min", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, minInclusive));
+    }
+
+    /**
+     * Requires the float/double target to be larger than (or equal to) the specified value. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min value.
+     * @param borderMethod Defines the min border value is included or not.
+     * @return Validation result.
+     */
+    public static boolean min(double target, boolean present, Nullable nullable, double min, BorderMethod borderMethod) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.min", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, min, borderMethod));
+    }
+
+    /**
+     * Requires the BigDecimal target to be larger than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @return Validation result.
+     */
+    public static boolean min(BigDecimal target, Nullable nullable, DecimalBound min) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.min", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, min));
+    }
+
+    /**
+     * Requires the BigInteger target to be larger than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @return Validation result.
+     */
+    public static boolean min(BigInteger target, Nullable nullable, DecimalBound min) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.min", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.min", start, NumericRangeValidator.min(target, min));
     }
 
     /**
@@ -337,7 +646,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(int target, int maxInclusive) {
-        return NumericRangeValidator.max(target, maxInclusive);
+        long start = start();
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, maxInclusive));
     }
 
     /**
@@ -349,7 +659,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(long target, long maxInclusive) {
-        return NumericRangeValidator.max(target, maxInclusive);
+        long start = start();
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, maxInclusive));
     }
 
     /**
@@ -362,7 +673,8 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(double target, double max, BorderMethod borderMethod) {
-        return NumericRangeValidator.max(target, max, borderMethod);
+        long start = start();
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, max, borderMethod));
     }
 
     /**
@@ -377,19 +689,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(Number target, Nullable nullable, int maxInclusive) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.max((int) target, maxInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.max", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.atMost(target, maxInclusive));
     }
 
     /**
@@ -404,19 +707,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(Long target, Nullable nullable, long maxInclusive) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.min(target, maxInclusive);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.max", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, maxInclusive));
     }
 
     /**
@@ -432,19 +726,101 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean max(Double target, Nullable nullable, double max, BorderMethod borderMethod) {
-        switch (nullable) {
-            case NOT_NULL_ALLOW_EMPTY:
-            case NOT_EMPTY:
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL:
-                if (NullCheckValidator.isNull(target)) {return true;}
-                break;
-        }
-        return NumericRangeValidator.max(target, max, borderMethod);
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.max", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, max, borderMethod));
+    }
+
+    /**
+     * Requires the integer target to be smaller than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean max(int target, boolean present, Nullable nullable, int maxInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.max", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, maxInclusive));
+    }
+
+    /**
+     * Requires the long integer target to be smaller than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean max(long target, boolean present, Nullable nullable, long maxInclusive) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.max", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, maxInclusive));
+    }
+
+    /**
+     * Requires the float/double target to be smaller than (or equal to) the specified value. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max value.
+     * @param borderMethod Defines the max border value is included or not.
+     * @return Validation result.
+     */
+    public static boolean max(double target, boolean present, Nullable nullable, double max, BorderMethod borderMethod) {
+        long start = start();
+        if(!present) {return finish("BooleanValidator.max", start, NullPolicy.number(nullable, NullPolicy.NULL) == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, max, borderMethod));
+    }
+
+    /**
+     * Requires the BigDecimal target to be smaller than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean max(BigDecimal target, Nullable nullable, DecimalBound max) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.max", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, max));
+    }
+
+    /**
+     * Requires the BigInteger target to be smaller than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean max(BigInteger target, Nullable nullable, DecimalBound max) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.max", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.max", start, NumericRangeValidator.max(target, max));
     }
 
     /**
@@ -464,29 +840,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean length(String target, Nullable nullable, int minInclusive, int maxInclusive) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringLengthValidator.length(target, minInclusive, maxInclusive);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.length", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.length", start, StringLengthValidator.length(target, minInclusive, maxInclusive));
     }
 
     /**
@@ -505,29 +862,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean length(String target, Nullable nullable, int length) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringLengthValidator.length(target, length);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.length", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.length", start, StringLengthValidator.length(target, length));
     }
 
     /**
@@ -546,29 +884,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean minLength(String target, Nullable nullable, int minInclusive) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringLengthValidator.min(target, minInclusive);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.minLength", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.minLength", start, StringLengthValidator.min(target, minInclusive));
     }
 
     /**
@@ -587,29 +906,137 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean maxLength(String target, Nullable nullable, int maxInclusive) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.maxLength", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.maxLength", start, StringLengthValidator.max(target, maxInclusive));
+    }
+
+    /**
+     * Check whether the target matches its min and max length requirement in the length mode.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param minInclusive Min length (inclusive).
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean length(String target, Nullable nullable, LengthMode mode, int minInclusive, int maxInclusive) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.length", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.length", start, StringLengthValidator.length(target, mode, minInclusive, maxInclusive));
+    }
+
+    /**
+     * Check whether the target matches its length requirement in the length mode.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param length Length.
+     * @return Validation result.
+     */
+    public static boolean length(String target, Nullable nullable, LengthMode mode, int length) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.length", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.length", start, StringLengthValidator.length(target, mode, length));
+    }
+
+    /**
+     * Check whether the target matches its min length requirement in the length mode.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param minInclusive Min length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean minLength(String target, Nullable nullable, LengthMode mode, int minInclusive) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.minLength", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.minLength", start, StringLengthValidator.min(target, mode, minInclusive));
+    }
+
+    /**
+     * Check whether the target matches its max length requirement in the length mode.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean maxLength(String target, Nullable nullable, LengthMode mode, int maxInclusive) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.maxLength", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.maxLength", start, StringLengthValidator.max(target, mode, maxInclusive));
+    }
+
+    /**
+     * Check whether the text read from the source matches its max length requirement in the length mode.<br>
+     * Reading stops as soon as the max length is exceeded. The source is not closed.
+     *
+     * @param source Validation target (not null).
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     * @throws UncheckedIOException Exception thrown when the source cannot be read.
+     */
+    public static boolean maxLength(Reader source, LengthMode mode, long maxInclusive) {
+        long start = start();
+        try {
+            return finish("BooleanValidator.maxLength", start, StringLengthValidator.max(source, mode, maxInclusive));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Check whether the text read from the source matches its max length requirement in the length mode.<br>
+     * Reading stops as soon as the max length is exceeded. The source is read as UTF-8 text. The source is not closed.
+     *
+     * @param source Validation target (not null).
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     * @throws UncheckedIOException Exception thrown when the source cannot be read.
+     */
+    public static boolean maxLength(InputStream source, LengthMode mode, long maxInclusive) {
+        long start = start();
+        try {
+            return finish("BooleanValidator.maxLength", start, StringLengthValidator.max(source, mode, maxInclusive));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return StringLengthValidator.max(target, maxInclusive);
     }
 
     /**
@@ -627,29 +1054,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean regex(String target, Nullable nullable, String regex) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringRegexValidator.regex(target,regex);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.regex", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.regex", start, matches(regex, target, StringRegexValidator::regex));
     }
 
     /**
@@ -666,29 +1074,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean email(String target, Nullable nullable) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringRegexValidator.email(target);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.email", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.email", start, matches(Regex.email, target, (value, regex) -> StringRegexValidator.email(value)));
     }
 
     /**
@@ -705,29 +1094,10 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean http(String target, Nullable nullable) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringRegexValidator.http(target);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.http", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.http", start, matches(Regex.http, target, (value, regex) -> StringRegexValidator.http(value)));
     }
 
     /**
@@ -744,28 +1114,230 @@ public class BooleanValidator {
      * @return Validation result.
      */
     public static boolean phone(String target, Nullable nullable) {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {return false;}
-                break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return false;}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
-                break;
-        }
-        return StringRegexValidator.phone(target);
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.phone", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.phone", start, matches(Regex.phone, target, (value, regex) -> StringRegexValidator.phone(value)));
+    }
+
+    /**
+     * Requires the string target to be one of the values in the set (allow-list).
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param values Allowed values.
+     * @return Validation result.
+     */
+    public static boolean in(String target, Nullable nullable, StringSet values) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.in", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.in", start, values.contains(target));
+    }
+
+    /**
+     * Requires the integer target to be one of the values in the set (allow-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Allowed values.
+     * @return Validation result.
+     */
+    public static boolean in(int target, IntSet values) {
+        long start = start();
+        return finish("BooleanValidator.in", start, values.contains(target));
+    }
+
+    /**
+     * Requires the long integer target to be one of the values in the set (allow-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Allowed values.
+     * @return Validation result.
+     */
+    public static boolean in(long target, LongSet values) {
+        long start = start();
+        return finish("BooleanValidator.in", start, values.contains(target));
+    }
+
+    /**
+     * Requires the "Integer" target to be one of the values in the set (allow-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Allowed values.
+     * @return Validation result.
+     */
+    public static boolean in(Integer target, Nullable nullable, IntSet values) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.in", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.in", start, values.contains(target));
+    }
+
+    /**
+     * Requires the "Long" target to be one of the values in the set (allow-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Allowed values.
+     * @return Validation result.
+     */
+    public static boolean in(Long target, Nullable nullable, LongSet values) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.in", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.in", start, values.contains(target));
+    }
+
+    /**
+     * Requires the string target NOT to be any of the values in the set (deny-list).
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param values Denied values.
+     * @return Validation result.
+     */
+    public static boolean notIn(String target, Nullable nullable, StringSet values) {
+        long start = start();
+        int action = NullPolicy.string(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.notIn", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.notIn", start, !values.contains(target));
+    }
+
+    /**
+     * Requires the integer target NOT to be any of the values in the set (deny-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Denied values.
+     * @return Validation result.
+     */
+    public static boolean notIn(int target, IntSet values) {
+        long start = start();
+        return finish("BooleanValidator.notIn", start, !values.contains(target));
+    }
+
+    /**
+     * Requires the long integer target NOT to be any of the values in the set (deny-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Denied values.
+     * @return Validation result.
+     */
+    public static boolean notIn(long target, LongSet values) {
+        long start = start();
+        return finish("BooleanValidator.notIn", start, !values.contains(target));
+    }
+
+    /**
+     * Requires the "Integer" target NOT to be any of the values in the set (deny-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Denied values.
+     * @return Validation result.
+     */
+    public static boolean notIn(Integer target, Nullable nullable, IntSet values) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.notIn", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.notIn", start, !values.contains(target));
+    }
+
+    /**
+     * Requires the "Long" target NOT to be any of the values in the set (deny-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Denied values.
+     * @return Validation result.
+     */
+    public static boolean notIn(Long target, Nullable nullable, LongSet values) {
+        long start = start();
+        int action = NullPolicy.number(nullable, NullPolicy.state(target));
+        if(action != NullPolicy.CONTINUE) {return finish("BooleanValidator.notIn", start, action == NullPolicy.PASS);}
+        return finish("BooleanValidator.notIn", start, !values.contains(target));
+    }
+
+    /**
+     * Private internal method to run the format check through the result cache.
+     *
+     * @param regex Regular expression of the format (a part of the cache key).
+     * @param target Validation target (not null).
+     * @param check Format check taking the target and the regular expression.
+     * @return Validation result.
+     */
+    private static boolean matches(String regex, String target, BiPredicate<String, String> check) {
+        ValidationCache<Object, Boolean> cache = BooleanValidator.cache;
+        if(cache == null) {return check.test(target, regex);}
+        FormatKey key = new FormatKey(regex, target);
+        Boolean cached = cache.get(key);
+        if(cached != null) {return cached;}
+        boolean result = check.test(target, regex);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Cache key of the format checks.
+     *
+     * @param regex Regular expression of the format.
+     * @param target Validation target.
+     */
+    private record FormatKey(String regex, String target) {
+    }
+
+    /**
+     * Private internal method to start measuring a check.
+     *
+     * @return Start time (System.nanoTime()), or 0 if the instrumentation is disabled.
+     */
+    private static long start() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Private internal method to record the invocation, the duration and the result of a check.
+     *
+     * @param name Metrics name of the check.
+     * @param start Start time returned by "start()".
+     * @param result Result of the check.
+     * @return The result as it is.
+     */
+    private static boolean finish(String name, long start, boolean result) {
+        if(start == 0) {return result;}
+        ValidationMetrics registry = metrics;
+        if(registry == null) {return result;}
+        long nanos = System.nanoTime() - start;
+        if(result) {registry.constraint(name).record(nanos);}
+        else {registry.constraint(name).recordFailure(nanos, ValidationException.class);}
+        return result;
     }
 }
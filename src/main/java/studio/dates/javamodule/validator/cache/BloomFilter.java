@@ -0,0 +1,129 @@
+package studio.dates.javamodule.validator.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bloom Filter of character sequences backed by a long array.<br>
+ * "mightContain()" never returns false for an added value, but it may return true for a value which has not been added
+ * (false positive) at about the rate given to the constructor while the number of the added values stays within the expected insertions.
+ * Bits are set with atomic bitwise operations, so a filter can be shared between threads without any lock.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class BloomFilter {
+    /**
+     * Var handle to update the elements of the bit array atomically.
+     */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The private field to store the bits.
+     */
+    private final long[] words;
+
+    /**
+     * The private field to store the number of the bits.
+     */
+    private final long bits;
+
+    /**
+     * The private field to store the number of the hash functions.
+     */
+    private final int hashes;
+
+    /**
+     * Constructor with the expected insertions and the false positive rate as the arguments.
+     *
+     * @param expectedInsertions Number of the values expected to be added.
+     * @param falsePositiveRate Expected false positive rate (0 &lt; rate &lt; 1).
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if(expectedInsertions <= 0) {throw new IllegalArgumentException("expectedInsertions must be positive.");}
+        if(!(falsePositiveRate > 0 && falsePositiveRate < 1)) {throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1 (exclusive).");}
+        double ln2 = Math.log(2);
+        double size = Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        if(size > (double) Integer.MAX_VALUE * 64) {throw new IllegalArgumentException("The filter needs " + (long) size + " bits, which exceeds the array limit. Decrease expectedInsertions or increase falsePositiveRate.");}
+        this.words = new long[(int) Math.max(1, ((long) size + 63) >>> 6)];
+        this.bits = (long) words.length << 6;
+        this.hashes = (int) Math.max(1, Math.min(30, Math.round((double) bits / expectedInsertions * ln2)));
+    }
+
+    /**
+     * Add the value.
+     *
+     * @param value Value to be added. Must not be null.
+     */
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for(int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            WORDS.getAndBitwiseOr(words, (int) (bit >>> 6), 1L << bit);
+        }
+    }
+
+    /**
+     * Check whether the value may have been added.
+     *
+     * @param value Value to be checked. Must not be null.
+     * @return false if the value has never been added. true if the value may have been added.
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for(int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if(((long) WORDS.getAcquire(words, (int) (bit >>> 6)) & (1L << bit)) == 0) {return false;}
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of the bits.
+     *
+     * @return Size of the filter in bits.
+     */
+    public long bitSize() {
+        return bits;
+    }
+
+    /**
+     * Get the number of the hash functions.
+     *
+     * @return Number of the bits set for each value.
+     */
+    public int hashCount() {
+        return hashes;
+    }
+
+    /**
+     * Private internal method to hash the characters (64-bit FNV-1a).
+     *
+     * @param value Value to be hashed.
+     * @return Hash of the value.
+     */
+    private static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for(int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Private internal method to spread the bits of the hash (finalizer of MurmurHash3).
+     *
+     * @param hash Hash to be mixed.
+     * @return Mixed hash.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,309 @@
+package studio.dates.javamodule.validator.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Known Valid Filter is a probabilistic fast path in front of a costly string check (e.g. email format or a custom regex).<br>
+ * Values which passed the costly check are recorded in a Bloom Filter and as 64-bit fingerprints in a fixed open-addressing table.
+ * When the filter says a value has possibly passed before, its fingerprint is looked up in the table, and the value is accepted
+ * without the costly check only if the fingerprint is found. Otherwise the costly check is processed.
+ * Most values which have never passed are answered by the filter without probing the table.<br>
+ * The strings themselves are never kept: each generation holds the filter bits and a long array of about twice the expected insertions,
+ * allocated once. A value which never passed is accepted only when its fingerprint collides with one of the recorded fingerprints
+ * (about expectedInsertions / 2^64 per lookup).
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;public static final KnownValidFilter emails = new KnownValidFilter(<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;value -&gt; BooleanValidator.email(value, Nullable.NOT_NULL),<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;1_000_000, 0.01, Duration.ofHours(1));
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;if(!emails.test(entity.getEmail())) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * The filter is rotated when the expected insertions are reached or the rotation period passes: the current generation becomes the previous one,
+ * and the oldest generation is dropped, so values which are no longer seen are eventually forgotten and the false positive rate stays bounded.<br>
+ * NOTE: The check must be a pure function of the value.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class KnownValidFilter implements Predicate<String> {
+    /**
+     * Max number of the expected insertions (the fingerprint table of a generation has up to 2^29 slots).
+     */
+    private static final int MAX_INSERTIONS = 1 << 28;
+
+    /**
+     * Var handle to read and claim the slots of the fingerprint tables atomically.
+     */
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * The private field to store the costly check.
+     */
+    private final Predicate<String> check;
+
+    /**
+     * The private field to store the number of the values expected to be added to a generation.
+     */
+    private final int expectedInsertions;
+
+    /**
+     * The private field to store the false positive rate of a generation.
+     */
+    private final double falsePositiveRate;
+
+    /**
+     * The private field to store the rotation period in nanoseconds. The filter is rotated only by the insertions if this is 0.
+     */
+    private final long rotationNanos;
+
+    /**
+     * The private field to store the current generation.
+     */
+    private volatile Generation current;
+
+    /**
+     * The private field to store the previous generation, or null before the first rotation.
+     */
+    private volatile Generation previous;
+
+    /**
+     * The private field to store the number of the values accepted from the fingerprint table without the costly check.
+     */
+    private final LongAdder filterHits = new LongAdder();
+
+    /**
+     * The private field to store the number of the values which the filter reported but the fingerprint table did not contain.
+     */
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * The private field to store the number of the costly checks processed.
+     */
+    private final LongAdder checks = new LongAdder();
+
+    /**
+     * The private field to store the number of the rotations.
+     */
+    private final AtomicLong rotations = new AtomicLong();
+
+    /**
+     * Constructor with the check and the size of the filter as the arguments. The filter is rotated only by the insertions.
+     *
+     * @param check Costly check.
+     * @param expectedInsertions Number of the values expected to be added to a generation.
+     * @param falsePositiveRate False positive rate of a generation.
+     */
+    public KnownValidFilter(Predicate<String> check, int expectedInsertions, double falsePositiveRate) {
+        this(check, expectedInsertions, falsePositiveRate, null);
+    }
+
+    /**
+     * Constructor with the check, the size of the filter and the rotation period as the arguments.
+     *
+     * @param check Costly check.
+     * @param expectedInsertions Number of the values expected to be added to a generation.
+     * @param falsePositiveRate False positive rate of a generation.
+     * @param rotation Rotation period, or null to rotate only by the insertions.
+     */
+    public KnownValidFilter(Predicate<String> check, int expectedInsertions, double falsePositiveRate, Duration rotation) {
+        if(check == null) {throw new IllegalArgumentException("check must not be null.");}
+        if(expectedInsertions > MAX_INSERTIONS) {throw new IllegalArgumentException("expectedInsertions must not exceed " + MAX_INSERTIONS + ".");}
+        if(rotation != null && (rotation.isNegative() || rotation.isZero())) {throw new IllegalArgumentException("rotation must be positive.");}
+        this.check = check;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rotationNanos = rotation == null ? 0 : rotation.toNanos();
+        this.current = new Generation(new BloomFilter(expectedInsertions, falsePositiveRate));
+    }
+
+    /**
+     * Validate the value.
+     *
+     * @param value Validation target. Null is passed to the costly check without the filter.
+     * @return Validation result.
+     */
+    @Override
+    public boolean test(String value) {
+        if(value == null) {return check.test(null);}
+        long fingerprint = fingerprint(value);
+        Generation current = this.current;
+        Generation previous = this.previous;
+        if(current.contains(value, fingerprint) || (previous != null && previous.contains(value, fingerprint))) {
+            filterHits.increment();
+            return true;
+        }
+        checks.increment();
+        if(!check.test(value)) {return false;}
+        if(!current.add(value, fingerprint)) {return true;}
+        if(current.insertions.incrementAndGet() >= expectedInsertions || (rotationNanos != 0 && System.nanoTime() - current.created >= rotationNanos)) {
+            rotate(current);
+        }
+        return true;
+    }
+
+    /**
+     * Drop the previous generation and start a new generation now.
+     */
+    public void rotate() {
+        rotate(current);
+    }
+
+    /**
+     * Get the number of the values accepted from the fingerprint table without the costly check.
+     *
+     * @return Number of the filter hits.
+     */
+    public long filterHits() {
+        return filterHits.sum();
+    }
+
+    /**
+     * Get the number of the values which the filter reported as possibly passed but whose fingerprints were not recorded.
+     * Each of them costs a table lookup in addition to the costly check.
+     *
+     * @return Number of the false positives of the filter.
+     */
+    public long falsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Get the number of the costly checks processed.
+     *
+     * @return Number of the costly checks.
+     */
+    public long checks() {
+        return checks.sum();
+    }
+
+    /**
+     * Get the number of the rotations.
+     *
+     * @return Number of the rotations.
+     */
+    public long rotations() {
+        return rotations.get();
+    }
+
+    /**
+     * Private internal method to rotate the generations if the given generation is still the current one.
+     *
+     * @param expected Generation observed by the caller.
+     */
+    private synchronized void rotate(Generation expected) {
+        if(current != expected) {return;}
+        previous = expected;
+        current = new Generation(new BloomFilter(expectedInsertions, falsePositiveRate));
+        rotations.incrementAndGet();
+    }
+
+    /**
+     * Private internal method to compute the fingerprint of the value. The hash is independent of the hashes of the Bloom Filter.
+     *
+     * @param value Value.
+     * @return 64-bit fingerprint (never 0, which marks an empty slot).
+     */
+    private static long fingerprint(String value) {
+        long hash = 0x9E3779B97F4A7C15L ^ value.length();
+        for(int i = 0; i < value.length(); i++) {
+            hash = (hash + value.charAt(i)) * 0xC6A4A7935BD1E995L;
+            hash ^= hash >>> 47;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Bloom Filter and fingerprint table of the values with their insertion counter and creation time.
+     */
+    private final class Generation {
+        /**
+         * Bloom Filter of the values which passed the costly check.
+         */
+        private final BloomFilter filter;
+
+        /**
+         * Open-addressing table of the fingerprints of the values which passed the costly check (0 is an empty slot).
+         * The size is a power of two and at least twice the expected insertions, so the load factor stays at or below 0.5 until the rotation.
+         */
+        private final long[] slots;
+
+        /**
+         * Number of the values added to the filter.
+         */
+        private final AtomicLong insertions = new AtomicLong();
+
+        /**
+         * Creation time (System.nanoTime()).
+         */
+        private final long created = System.nanoTime();
+
+        /**
+         * Constructor with the filter as the argument.
+         *
+         * @param filter Empty Bloom Filter.
+         */
+        private Generation(BloomFilter filter) {
+            this.filter = filter;
+            this.slots = new long[Integer.highestOneBit(Math.max(1, expectedInsertions - 1)) << 2];
+        }
+
+        /**
+         * Check whether the value has passed the costly check in this generation.
+         * The table is probed only when the filter says the value may have passed.
+         *
+         * @param value Value to be checked.
+         * @param fingerprint Fingerprint of the value.
+         * @return true if the fingerprint of the value is recorded.
+         */
+        private boolean contains(String value, long fingerprint) {
+            if(!filter.mightContain(value)) {return false;}
+            int mask = slots.length - 1;
+            for(int i = (int) fingerprint & mask, probes = 0; probes < slots.length; i = (i + 1) & mask, probes++) {
+                long slot = (long) SLOTS.getAcquire(slots, i);
+                if(slot == fingerprint) {return true;}
+                if(slot == 0) {break;}
+            }
+            falsePositives.increment();
+            return false;
+        }
+
+        /**
+         * Record the value which passed the costly check.
+         *
+         * @param value Value to be added.
+         * @param fingerprint Fingerprint of the value.
+         * @return false if the fingerprint has already been recorded (e.g. by another thread) or the table is full.
+         */
+        private boolean add(String value, long fingerprint) {
+            int mask = slots.length - 1;
+            for(int i = (int) fingerprint & mask, probes = 0; probes < slots.length; ) {
+                long slot = (long) SLOTS.getAcquire(slots, i);
+                if(slot == fingerprint) {return false;}
+                if(slot == 0) {
+                    if(!SLOTS.compareAndSet(slots, i, 0L, fingerprint)) {continue;}
+                    filter.put(value);
+                    return true;
+                }
+                i = (i + 1) & mask;
+                probes++;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package studio.dates.javamodule.validator.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validation Cache is a bounded cache of validation results keyed by the value equality of the targets.<br>
+ * Entries are spread over independent LRU segments guarded by their own locks, so there is no global lock,
+ * and each segment evicts its least recently used entry when it is full. Entries can also expire after a fixed time to live.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Class Validator<br>
+ *          &nbsp;&nbsp;new ClassValidator&lt;Sku&gt;().method(ValidationMethod.SEQUENTIAL).cache(new ValidationCache&lt;&gt;(10_000))...
+ *      </li>
+ *      <li>Boolean Validator<br>
+ *          &nbsp;&nbsp;BooleanValidator.cache(new ValidationCache&lt;&gt;(100_000, Duration.ofMinutes(10)));
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * NOTE: Only immutable targets (or targets whose equality never changes) must be validated through a cache.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <K> Class of the keys (validation targets)
+ * @param <V> Class of the cached results
+ */
+public class ValidationCache<K, V> {
+    /**
+     * The private field to store the segments. The number of the segments is a power of two.
+     */
+    private final Segment<K, V>[] segments;
+
+    /**
+     * The private field to store the max number of the entries.
+     */
+    private final int maxSize;
+
+    /**
+     * The private field to store the time to live in nanoseconds. Entries never expire if this is 0.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The private field to store the number of the cache hits.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The private field to store the number of the cache misses (including the expired entries).
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The private field to store the number of the evicted and expired entries.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor with the max size as the argument. Entries never expire.
+     *
+     * @param maxSize Max number of the entries.
+     */
+    public ValidationCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Constructor with the max size and the time to live as the arguments.
+     *
+     * @param maxSize Max number of the entries.
+     * @param ttl Time to live of the entries, or null if entries never expire.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ValidationCache(int maxSize, Duration ttl) {
+        if(maxSize <= 0) {throw new IllegalArgumentException("maxSize must be positive.");}
+        if(ttl != null && (ttl.isNegative() || ttl.isZero())) {throw new IllegalArgumentException("ttl must be positive.");}
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+        int count = Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, maxSize / 16)));
+        int capacity = (maxSize + count - 1) / count;
+        this.segments = new Segment[count];
+        for(int i = 0; i < count; i++) {segments[i] = new Segment<>(capacity, evictions);}
+    }
+
+    /**
+     * Get the cached result of the target.
+     *
+     * @param key Validation target. Must not be null.
+     * @return Cached result, or null if the target is not cached or its entry has expired.
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segment(key);
+        V value = null;
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if(entry != null) {
+                if(ttlNanos != 0 && System.nanoTime() - entry.expiresAt > 0) {
+                    segment.remove(key);
+                    evictions.increment();
+                } else {
+                    value = entry.value;
+                }
+            }
+        }
+        if(value == null) {misses.increment();}
+        else {hits.increment();}
+        return value;
+    }
+
+    /**
+     * Cache the result of the target.
+     *
+     * @param key Validation target. Must not be null.
+     * @param value Result. Must not be null.
+     */
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos);
+        Segment<K, V> segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        for(Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the number of the entries (including the expired entries not removed yet).
+     *
+     * @return Current size.
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Getter for "maxSize" field.
+     *
+     * @return Max number of the entries.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the number of the cache hits.
+     *
+     * @return Number of the hits since the last reset.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of the cache misses.
+     *
+     * @return Number of the misses since the last reset.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of the evicted and expired entries.
+     *
+     * @return Number of the evictions since the last reset.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the ratio of the cache hits.
+     *
+     * @return Hits / (hits + misses), or 0 if the cache has not been used.
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * Clear the hit, miss and eviction counters. Cached entries are kept.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Private internal method to find the segment of the key.
+     *
+     * @param key Validation target.
+     * @return Segment of the key.
+     */
+    private Segment<K, V> segment(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * Cached result with its expiration time.
+     *
+     * @param <V> Class of the cached result
+     */
+    private static final class Entry<V> {
+        /**
+         * Cached result.
+         */
+        private final V value;
+
+        /**
+         * Expiration time (System.nanoTime()).
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructor with the result and the expiration time as the arguments.
+         *
+         * @param value Cached result.
+         * @param expiresAt Expiration time.
+         */
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * LRU segment (access-ordered Linked Hash Map evicting its eldest entry).
+     *
+     * @param <K> Class of the keys
+     * @param <V> Class of the cached results
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        /**
+         * Max number of the entries of the segment.
+         */
+        private final int capacity;
+
+        /**
+         * Eviction counter shared by all the segments.
+         */
+        private final LongAdder evictions;
+
+        /**
+         * Constructor with the capacity and the eviction counter as the arguments.
+         *
+         * @param capacity Max number of the entries of the segment.
+         * @param evictions Eviction counter.
+         */
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if(size() <= capacity) {return false;}
+            evictions.increment();
+            return true;
+        }
+    }
+}
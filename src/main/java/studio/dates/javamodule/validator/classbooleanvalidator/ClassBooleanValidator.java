@@ -1,5 +1,10 @@
 package studio.dates.javamodule.validator.classbooleanvalidator;
 
+import studio.dates.javamodule.validator.exception.ValidationException;
+import studio.dates.javamodule.validator.metrics.ConstraintMetrics;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
+
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
@@ -32,17 +37,71 @@ import java.util.function.Function;
  * @param <T> Class of validation Target
  */
 public class ClassBooleanValidator<T> {
+    /**
+     * The private field to store the name of the validator (used as the prefix of the metrics names).
+     */
+    private String name;
+
     /**
      * The private field to store all the constraint set as a list.
      */
     private List<Function<T, Boolean>> constraints;
 
+    /**
+     * The private field to store the names of the constraints in the same order as "constraints".
+     */
+    private List<String> names;
+
+    /**
+     * The private field to store the metrics registry. Metrics are not recorded if this is null.
+     */
+    private ValidationMetrics metrics;
+
+    /**
+     * The private field to store the metrics of the constraints in the same order as "constraints".
+     */
+    private ConstraintMetrics[] recorders;
+
     /**
      * Constructor without any argument.
      */
     public ClassBooleanValidator() {
     }
 
+    /**
+     * Set the name of the validator.
+     *
+     * @param name Name of the validator. This is used as the prefix of the metrics names (e.g. "person.email").
+     * @return ClassBooleanValidator with the new name. This method is intended to be used as a part of the method chain.
+     */
+    public ClassBooleanValidator<T> name(String name) {
+        this.name = name;
+        bindMetrics();
+        return this;
+    }
+
+    /**
+     * Getter for "name" field.
+     *
+     * @return Name of the validator, or null if it is not set.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Set the metrics registry. Invocations, failures and latencies of each constraint are recorded in the registry.<br>
+     * Failures are recorded with ValidationException as their type, because boolean constraints do not report the reason.
+     *
+     * @param metrics Metrics registry, or null to disable the instrumentation.
+     * @return ClassBooleanValidator with the metrics registry. This method is intended to be used as a part of the method chain.
+     */
+    public ClassBooleanValidator<T> metrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+        bindMetrics();
+        return this;
+    }
+
     /**
      * Add a constraint to the validation chain.
      *
@@ -51,8 +110,25 @@ public class ClassBooleanValidator<T> {
      * @return ChainValidator with the new constraint. This method is intended to be used as a part of the method chain.
      */
     public ClassBooleanValidator<T> constraint(Function<T, Boolean> constraint) {
-        if(this.constraints == null) {this.constraints = new LinkedList<>();}
+        return constraint("constraint" + (constraints == null ? 1 : constraints.size() + 1), constraint);
+    }
+
+    /**
+     * Add a named constraint to the validation chain.
+     *
+     * @param name Name of the constraint. This is used as the name of the metrics.
+     * @param constraint Constraint to be added to the validation chain.<br>
+     *                   Constraint must be a Function of validation target returning the validation result.
+     * @return ClassBooleanValidator with the new constraint. This method is intended to be used as a part of the method chain.
+     */
+    public ClassBooleanValidator<T> constraint(String name, Function<T, Boolean> constraint) {
+        if(this.constraints == null) {
+            this.constraints = new LinkedList<>();
+            this.names = new ArrayList<>();
+        }
         this.constraints.add(constraint);
+        this.names.add(name);
+        bindMetrics();
         return this;
     }
 
@@ -63,9 +139,39 @@ public class ClassBooleanValidator<T> {
      * @return Validation result.
      */
     public boolean validate(T target) {
+        ConstraintMetrics[] recorders = this.recorders;
+        if(recorders == null) {
+            for(Function<T, Boolean> constraint: constraints) {
+                if(!constraint.apply(target)) {return false;}
+            }
+            return true;
+        }
+        int index = 0;
         for(Function<T, Boolean> constraint: constraints) {
-            if(!constraint.apply(target)) {return false;}
+            long start = System.nanoTime();
+            boolean result = constraint.apply(target);
+            long nanos = System.nanoTime() - start;
+            if(!result) {
+                recorders[index].recordFailure(nanos, ValidationException.class);
+                return false;
+            }
+            recorders[index++].record(nanos);
         }
         return true;
     }
+
+    /**
+     * Private internal method to resolve the metrics of the constraints. This is called whenever the names or the registry change.
+     */
+    private void bindMetrics() {
+        if(metrics == null || names == null) {
+            recorders = null;
+            return;
+        }
+        ConstraintMetrics[] resolved = new ConstraintMetrics[names.size()];
+        for(int i = 0; i < resolved.length; i++) {
+            resolved[i] = metrics.constraint(name == null ? names.get(i) : name + "." + names.get(i));
+        }
+        recorders = resolved;
+    }
 }
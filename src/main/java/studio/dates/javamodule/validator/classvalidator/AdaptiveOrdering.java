@@ -0,0 +1,198 @@
+package studio.dates.javamodule.validator.classvalidator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive Ordering samples the cost and the rejection rate of each constraint, and periodically reorders the constraints
+ * so that cheap constraints which often fail run first in fail-fast validation.<br>
+ * The expected cost of a fail-fast run is minimized by ordering independent constraints by "mean cost / failure rate" (ascending).
+ * Pinned constraints keep their positions, and the other constraints are moved only between the pinned ones,
+ * so a pinned constraint always runs after all the constraints added before it.<br>
+ * The order is published as a new array, and each run reads it once at its start (safe point),
+ * so a reordering never affects the runs in progress.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+class AdaptiveOrdering {
+    /**
+     * Min number of the sampled invocations of a constraint to update its score, and min number of the sampled runs between reorderings.
+     * The samples of a constraint are carried over to the next window until this number is reached.
+     */
+    static final int MIN_SAMPLES = 16;
+
+    /**
+     * Failure rate used for the constraints which have not failed in the window (avoids division by zero).
+     */
+    private static final double MIN_FAILURE_RATE = 1e-4;
+
+    /**
+     * The private field to store which constraints (by the index of addition) are pinned.
+     */
+    private final BitSet pinned;
+
+    /**
+     * The private field to store the sampling rate (one of "sampleRate" runs is sampled).
+     */
+    private final int sampleRate;
+
+    /**
+     * The private field to store the number of the sampled runs between reorderings.
+     */
+    private final int interval;
+
+    /**
+     * The private field to store the sampled invocations of the constraints since their scores were last updated.
+     */
+    private final LongAdder[] invocations;
+
+    /**
+     * The private field to store the sampled failures of the constraints since their scores were last updated.
+     */
+    private final LongAdder[] failures;
+
+    /**
+     * The private field to store the sampled durations of the constraints since their scores were last updated.
+     */
+    private final LongAdder[] nanos;
+
+    /**
+     * The private field to store the latest scores of the constraints (lower runs earlier).
+     * Constraints which have not been measured yet have +Infinity, so they keep their order of addition after the measured ones.
+     */
+    private final double[] scores;
+
+    /**
+     * The private field to store the number of the sampled runs.
+     */
+    private final AtomicLong sampled = new AtomicLong();
+
+    /**
+     * The private field to store whether a reordering is in progress.
+     */
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    /**
+     * The private field to store the current order (indexes of addition). The array is never modified after it is published.
+     */
+    private volatile int[] order;
+
+    /**
+     * Constructor with the settings as the arguments.
+     *
+     * @param size Number of the constraints.
+     * @param pinned Pinned constraints by the index of addition.
+     * @param sampleRate One of "sampleRate" runs is sampled.
+     * @param interval Number of the sampled runs between reorderings.
+     */
+    AdaptiveOrdering(int size, BitSet pinned, int sampleRate, int interval) {
+        this.pinned = (BitSet) pinned.clone();
+        this.sampleRate = sampleRate;
+        this.interval = interval;
+        this.invocations = new LongAdder[size];
+        this.failures = new LongAdder[size];
+        this.nanos = new LongAdder[size];
+        this.scores = new double[size];
+        Arrays.fill(scores, Double.POSITIVE_INFINITY);
+        int[] initial = new int[size];
+        for(int i = 0; i < size; i++) {
+            invocations[i] = new LongAdder();
+            failures[i] = new LongAdder();
+            nanos[i] = new LongAdder();
+            initial[i] = i;
+        }
+        this.order = initial;
+    }
+
+    /**
+     * Get the current order.
+     *
+     * @return Indexes of addition in the order to be run. The array must not be modified.
+     */
+    int[] order() {
+        return order;
+    }
+
+    /**
+     * Decide whether the run is sampled.
+     *
+     * @return true if the durations and the results of the run should be recorded.
+     */
+    boolean sample() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Record an invocation in a sampled run.
+     *
+     * @param index Index of addition of the constraint.
+     * @param duration Duration in nanoseconds.
+     * @param failed true if the constraint failed.
+     */
+    void record(int index, long duration, boolean failed) {
+        invocations[index].increment();
+        nanos[index].add(duration);
+        if(failed) {failures[index].increment();}
+    }
+
+    /**
+     * Finish a sampled run. The constraints are reordered by this thread at the end of every window.
+     */
+    void completed() {
+        if(sampled.incrementAndGet() % interval == 0 && reordering.compareAndSet(false, true)) {
+            try {
+                reorder();
+            } finally {
+                reordering.set(false);
+            }
+        }
+    }
+
+    /**
+     * Private internal method to update the scores of the constraints which have enough samples, and publish the new order.
+     */
+    private void reorder() {
+        for(int i = 0; i < scores.length; i++) {
+            if(invocations[i].sum() < MIN_SAMPLES) {continue;} // carry the samples over and keep the previous score
+            long count = invocations[i].sumThenReset();
+            long failed = failures[i].sumThenReset();
+            long duration = nanos[i].sumThenReset();
+            double failureRate = Math.max((double) failed / count, MIN_FAILURE_RATE);
+            scores[i] = ((double) duration / count) / failureRate;
+        }
+        int[] next = new int[scores.length];
+        int start = 0;
+        for(int i = 0; i <= scores.length; i++) {
+            if(i == scores.length || pinned.get(i)) {
+                sortSegment(next, start, i);
+                if(i < scores.length) {next[i] = i;}
+                start = i + 1;
+            }
+        }
+        order = next;
+    }
+
+    /**
+     * Private internal method to fill a segment between pinned constraints ordered by the score (stable insertion sort).
+     *
+     * @param next Order being built.
+     * @param from First index of addition of the segment (inclusive).
+     * @param to Last index of addition of the segment (exclusive).
+     */
+    private void sortSegment(int[] next, int from, int to) {
+        for(int i = from; i < to; i++) {
+            int j = i;
+            while (j > from && scores[next[j - 1]] > scores[i]) {
+                next[j] = next[j - 1];
+                j--;
+            }
+            next[j] = i;
+        }
+    }
+}
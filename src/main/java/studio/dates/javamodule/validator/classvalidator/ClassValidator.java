@@ -1,10 +1,21 @@
 package studio.dates.javamodule.validator.classvalidator;
 
+import studio.dates.javamodule.validator.cache.ValidationCache;
 import studio.dates.javamodule.validator.enums.ValidationMethod;
+import studio.dates.javamodule.validator.exception.AggregatedValidationException;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
 import studio.dates.javamodule.validator.exception.ValidationException;
+import studio.dates.javamodule.validator.jfr.ValidationRunEvent;
+import studio.dates.javamodule.validator.metrics.ConstraintMetrics;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 /**
@@ -36,35 +47,157 @@ import java.util.function.Consumer;
  * @param <T> Class of validation Target
  */
 public class ClassValidator<T> {
+    /**
+     * The private field to store the name of the validator (used as the prefix of the metrics names).
+     */
+    private String name;
+
     /**
      * The private field to store validation method setting.
      */
     private ValidationMethod method;
 
+    /**
+     * The private field to store the max number of the failures collected with COLLECT_UP_TO.
+     */
+    private int limit = Integer.MAX_VALUE;
+
     /**
      * The private field to store all the constraint set as a list.
      */
     private List<Consumer<T>> constraints;
 
+    /**
+     * The private field to store the names of the constraints in the same order as "constraints".
+     */
+    private List<String> names;
+
+    /**
+     * The private field to store the metrics registry. Metrics are not recorded if this is null.
+     */
+    private ValidationMetrics metrics;
+
+    /**
+     * The private field to store the metrics of the constraints in the same order as "constraints".
+     */
+    private ConstraintMetrics[] recorders;
+
+    /**
+     * The private field to store the metrics of the whole validation runs.
+     */
+    private ConstraintMetrics runs;
+
+    /**
+     * The private field to store which constraints (by the index of addition) keep their positions in the adaptive ordering.
+     */
+    private final BitSet pinned = new BitSet();
+
+    /**
+     * The private field to store the sampling rate of the adaptive ordering. The adaptive ordering is disabled if this is 0.
+     */
+    private int sampleRate;
+
+    /**
+     * The private field to store the number of the sampled runs between reorderings.
+     */
+    private int interval;
+
+    /**
+     * The private field to store the adaptive ordering. This is created when the validation chain is frozen.
+     */
+    private AdaptiveOrdering ordering;
+
+    /**
+     * The private field to store the result cache. Results are not cached if this is null.
+     */
+    private ValidationCache<T, Optional<ValidationException>> cache;
+
+    /**
+     * The private field to store whether the validation chain is frozen.
+     */
+    private volatile boolean frozen;
+
     /**
      * Constructor without any argument.
      */
     public ClassValidator() {
     }
 
+    /**
+     * Set the name of the validator.
+     *
+     * @param name Name of the validator. This is used as the prefix of the metrics names (e.g. "person.email").
+     * @return ClassValidator with the new name. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> name(String name) {
+        checkNotFrozen();
+        this.name = name;
+        bindMetrics();
+        return this;
+    }
+
+    /**
+     * Getter for "name" field.
+     *
+     * @return Name of the validator, or null if it is not set.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Set the metrics registry. Invocations, failures and latencies of each constraint are recorded in the registry.<br>
+     * Whole validation runs are recorded under the name of the validator ("ClassValidator" if the name is not set).
+     *
+     * @param metrics Metrics registry, or null to disable the instrumentation.
+     * @return ClassValidator with the metrics registry. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> metrics(ValidationMetrics metrics) {
+        checkNotFrozen();
+        this.metrics = metrics;
+        bindMetrics();
+        return this;
+    }
+
+    /**
+     * Getter for "metrics" field.
+     *
+     * @return Metrics registry, or null if the instrumentation is disabled.
+     */
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Set validation method of the validation chain.
      *
-     * @param method Two options:<br>
+     * @param method Four options:<br>
      *               1. SYNCHRONOUS: all the validation constraints are processed not depending on the results of other constraints.<br>
-     *               On exception, Validation Exception with the result messages from all the failed constraints is thrown.
+     *               On exception, AggregatedValidationException with the exceptions from all the failed constraints is thrown.<br>
+     *               2. SEQUENTIAL / FAIL_FAST: the validation stops at the first failed constraint, and its exception is thrown.<br>
+     *               3. COLLECT_UP_TO: same as SYNCHRONOUS, but the validation stops when the limit set with "collectUpTo()" is reached.
      * @return ChainValidator with new ValidationMethod value. This method is intended to be used as a part of the method chain.
      */
     public ClassValidator<T> method(ValidationMethod method) {
+        checkNotFrozen();
         this.method = method;
         return this;
     }
 
+    /**
+     * Set validation method to COLLECT_UP_TO with the limit of the failures.
+     *
+     * @param limit Max number of the failures to be collected. The remaining constraints are not processed once the limit is reached.
+     * @return ClassValidator with new ValidationMethod value. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> collectUpTo(int limit) {
+        checkNotFrozen();
+        if(limit <= 0) {throw new IllegalArgumentException("limit must be positive.");}
+        this.method = ValidationMethod.COLLECT_UP_TO;
+        this.limit = limit;
+        return this;
+    }
+
     /**
      * Add a constraint to the validation chain.
      *
@@ -73,40 +206,365 @@ public class ClassValidator<T> {
      * @return ChainValidator with the new constraint. This method is intended to be used as a part of the method chain.
      */
     public ClassValidator<T> constraint(Consumer<T> constraint) {
-        if(constraints == null) {constraints = new LinkedList<>();}
+        return constraint("constraint" + (constraints == null ? 1 : constraints.size() + 1), constraint);
+    }
+
+    /**
+     * Add a named constraint to the validation chain.
+     *
+     * @param name Name of the constraint. This is used as the name of the metrics.
+     * @param constraint Constraint to be added to the validation chain.<br>
+     *                   Constraint must be a Consumer of validation target.
+     * @return ClassValidator with the new constraint. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> constraint(String name, Consumer<T> constraint) {
+        checkNotFrozen();
+        if(constraints == null) {
+            constraints = new LinkedList<>();
+            names = new ArrayList<>();
+        }
         this.constraints.add(constraint);
+        this.names.add(name);
+        bindMetrics();
+        return this;
+    }
+
+    /**
+     * Add a pinned constraint to the validation chain.<br>
+     * Pinned constraints are never moved by the adaptive ordering, and always run after all the constraints added before them.
+     * Use this for the constraints which depend on the results of the previous ones (e.g. a format check after a null check).
+     *
+     * @param name Name of the constraint. This is used as the name of the metrics.
+     * @param constraint Constraint to be added to the validation chain.<br>
+     *                   Constraint must be a Consumer of validation target.
+     * @return ClassValidator with the new constraint. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> pinnedConstraint(String name, Consumer<T> constraint) {
+        constraint(name, constraint);
+        pinned.set(constraints.size() - 1);
+        return this;
+    }
+
+    /**
+     * Enable the adaptive ordering with the default settings (one of 16 runs is sampled, and reordered every 64 sampled runs).
+     *
+     * @return ClassValidator with the adaptive ordering. This method is intended to be used as a part of the method chain.
+     * @see #adaptive(int, int)
+     */
+    public ClassValidator<T> adaptive() {
+        return adaptive(16, 64);
+    }
+
+    /**
+     * Enable the adaptive ordering for SEQUENTIAL / FAIL_FAST.<br>
+     * The cost and the rejection rate of each constraint are sampled at runtime, and the constraints which are not pinned are
+     * periodically reordered so that cheap constraints which often fail run first.
+     * A run reads the order once at its start, so the reordering never affects the runs in progress.<br>
+     * NOTE: The adaptive ordering takes effect after "freeze()" is called. Constraints must not depend on each other unless they are pinned,
+     * and the exception thrown for a target failing several constraints may change with the order.
+     *
+     * @param sampleRate One of "sampleRate" runs is sampled (1 samples all the runs).
+     * @param interval Number of the sampled runs between reorderings (16 or more).
+     * @return ClassValidator with the adaptive ordering. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> adaptive(int sampleRate, int interval) {
+        checkNotFrozen();
+        if(sampleRate <= 0) {throw new IllegalArgumentException("sampleRate must be positive.");}
+        if(interval < AdaptiveOrdering.MIN_SAMPLES) {throw new IllegalArgumentException("interval must be " + AdaptiveOrdering.MIN_SAMPLES + " or more.");}
+        this.sampleRate = sampleRate;
+        this.interval = interval;
+        return this;
+    }
+
+    /**
+     * Set the result cache. The result of each target (success, or the thrown Validation Exception) is cached by the value equality of the target,
+     * and the cached result is returned without running the constraints. On a cached failure, a new exception of the same class and message
+     * is thrown (an Aggregated Validation Exception is rebuilt from its violations), so each caller gets its own instance.
+     * Failures whose exception class has no public constructor with the message are not cached.<br>
+     * NOTE: Use this only for immutable targets. Cache hits are not recorded in the metrics, and null targets are never cached.
+     *
+     * @param cache Result cache, or null to disable caching.
+     * @return ClassValidator with the result cache. This method is intended to be used as a part of the method chain.
+     */
+    public ClassValidator<T> cache(ValidationCache<T, Optional<ValidationException>> cache) {
+        checkNotFrozen();
+        this.cache = cache;
         return this;
     }
 
+    /**
+     * Getter for "cache" field.
+     *
+     * @return Result cache, or null if caching is disabled.
+     */
+    public ValidationCache<T, Optional<ValidationException>> getCache() {
+        return cache;
+    }
+
+    /**
+     * Get the current order of the constraints.
+     *
+     * @return Names of the constraints in the order to be run with SEQUENTIAL / FAIL_FAST.
+     */
+    public List<String> getConstraintOrder() {
+        if(names == null) {return List.of();}
+        if(ordering == null) {return List.copyOf(names);}
+        List<String> ordered = new ArrayList<>(names.size());
+        for(int index : ordering.order()) {ordered.add(names.get(index));}
+        return ordered;
+    }
+
+    /**
+     * Freeze the validation chain. After this method is called, the settings and the constraints cannot be changed,<br>
+     * and the validator can be shared safely between threads.
+     *
+     * @return ClassValidator itself. This method is intended to be used as the last part of the method chain.
+     */
+    public ClassValidator<T> freeze() {
+        if(!frozen) {
+            constraints = constraints == null ? List.of() : List.copyOf(constraints);
+            names = names == null ? List.of() : List.copyOf(names);
+            if(sampleRate > 0 && constraints.size() > 1) {ordering = new AdaptiveOrdering(constraints.size(), pinned, sampleRate, interval);}
+            frozen = true;
+        }
+        return this;
+    }
+
+    /**
+     * Check whether the validation chain is frozen.
+     *
+     * @return true if "freeze()" has been called.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * Run validation process for the target.
      *
      * @param target validation target.
      * @throws ValidationException Validation Exception thrown when the validation fails.<br>
-     *                             A Subclass of ValidationException will be thrown when the validation method is set SEQUENCIAL.
+     *                             AggregatedValidationException will be thrown when the validation method is set SYNCHRONOUS or COLLECT_UP_TO.<br>
+     *                             A Subclass of ValidationException will be thrown when the validation method is set SEQUENTIAL or FAIL_FAST.
      */
     public void validate(T target) throws ValidationException {
+        ValidationCache<T, Optional<ValidationException>> cache = this.cache;
+        if(cache == null || target == null) {
+            validateMeasured(target);
+            return;
+        }
+        Optional<ValidationException> cached = cache.get(target);
+        if(cached != null) {
+            if(cached.isPresent()) {throw replay(cached.get());}
+            return;
+        }
+        try {
+            validateMeasured(target);
+        } catch (ValidationException e) {
+            if(replayable(e)) {cache.put(target, Optional.of(e));}
+            throw e;
+        }
+        cache.put(target, Optional.empty());
+    }
+
+    /**
+     * Private internal method to check whether a new exception can be created from the cached exception.
+     *
+     * @param exception Thrown exception.
+     * @return true if the exception (and all its violations if it is aggregated) has a public constructor with the message.
+     */
+    private static boolean replayable(ValidationException exception) {
+        if(exception instanceof AggregatedValidationException aggregated) {
+            for(ValidationException violation : aggregated.getViolations()) {
+                if(!replayable(violation)) {return false;}
+            }
+            return true;
+        }
+        try {
+            exception.getClass().getConstructor(String.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Private internal method to create a new exception of the same class and message as the cached exception.
+     *
+     * @param cached Cached exception (checked by "replayable()").
+     * @return New exception.
+     */
+    private static ValidationException replay(ValidationException cached) {
+        if(cached instanceof AggregatedValidationException aggregated) {
+            List<ValidationException> violations = new ArrayList<>(aggregated.getViolations().size());
+            for(ValidationException violation : aggregated.getViolations()) {violations.add(replay(violation));}
+            return new AggregatedValidationException(violations);
+        }
+        try {
+            Constructor<? extends ValidationException> constructor = cached.getClass().getConstructor(String.class);
+            return constructor.newInstance(cached.getMessage());
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Private internal method to run the validation, and record the metrics and the event of the run if they are enabled.
+     *
+     * @param target validation target.
+     * @throws ValidationException Validation Exception thrown when the validation fails.
+     */
+    private void validateMeasured(T target) throws ValidationException {
+        ValidationRunEvent event = new ValidationRunEvent();
+        ConstraintMetrics runs = this.runs;
+        if(runs == null && !event.isEnabled()) {
+            validateConstraints(target);
+            return;
+        }
+        event.begin();
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            validateConstraints(target);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            if(runs != null) {
+                if(failure == null) {runs.record(nanos);}
+                else {runs.recordFailure(nanos, failure.getClass());}
+            }
+            event.end();
+            if(event.shouldCommit()) {
+                int violations = 0;
+                if(failure instanceof AggregatedValidationException aggregated) {violations = aggregated.getViolations().size();}
+                else if(failure != null) {violations = 1;}
+                event.targetType = target == null ? null : target.getClass();
+                event.validator = name;
+                event.method = method == null ? null : method.name();
+                event.constraintCount = constraints == null ? 0 : constraints.size();
+                event.violationCount = violations;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Private internal method to run the constraints with the validation method.
+     *
+     * @param target validation target.
+     * @throws ValidationException Validation Exception thrown when the validation fails.
+     */
+    private void validateConstraints(T target) throws ValidationException {
         switch (method) {
             case SEQUENTIAL:
+            case FAIL_FAST:
+                AdaptiveOrdering ordering = this.ordering;
+                if(ordering != null) {
+                    validateAdaptive(ordering, target);
+                    break;
+                }
+                int index = 0;
                 for (Consumer<T> constraint : this.constraints) {
-                    constraint.accept(target);
+                    run(index++, constraint, target);
                 }
+                break;
             case SYNCHRONOUS:
-                String message = null;
+            case COLLECT_UP_TO:
+                int remaining = method == ValidationMethod.COLLECT_UP_TO ? limit : Integer.MAX_VALUE;
+                List<ValidationException> violations = null;
+                int position = 0;
                 for (Consumer<T> constraint : this.constraints) {
                     try {
-                        constraint.accept(target);
+                        run(position++, constraint, target);
                     } catch (ValidationException e) {
-                        if (message == null) {
-                            message = e.getMessage();
-                        } else {
-                            message = String.join(message, "\n", e.getMessage());
-                        }
+                        if (violations == null) {violations = new ArrayList<>(Math.min(remaining, this.constraints.size()));}
+                        violations.add(e);
+                        if (--remaining == 0) {break;}
                     }
                 }
-                if (message != null) {
-                    throw new ValidationException(message);
+                if (violations != null) {
+                    throw new AggregatedValidationException(violations);
                 }
         }
     }
+
+    /**
+     * Private internal method to run the constraints in the adaptive order, and sample their costs and results.
+     *
+     * @param ordering Adaptive ordering.
+     * @param target validation target.
+     * @throws ValidationException Validation Exception thrown by the first failed constraint.
+     */
+    private void validateAdaptive(AdaptiveOrdering ordering, T target) throws ValidationException {
+        int[] order = ordering.order();
+        if(!ordering.sample()) {
+            for (int index : order) {
+                run(index, constraints.get(index), target);
+            }
+            return;
+        }
+        for (int index : order) {
+            long start = System.nanoTime();
+            try {
+                run(index, constraints.get(index), target);
+            } catch (ValidationException e) {
+                ordering.record(index, System.nanoTime() - start, true);
+                ordering.completed();
+                throw e;
+            }
+            ordering.record(index, System.nanoTime() - start, false);
+        }
+        ordering.completed();
+    }
+
+    /**
+     * Private internal method to run a constraint, and record its metrics if the instrumentation is enabled.
+     *
+     * @param index Index of the constraint.
+     * @param constraint Constraint to be run.
+     * @param target validation target.
+     * @throws ValidationException Validation Exception thrown by the constraint.
+     */
+    private void run(int index, Consumer<T> constraint, T target) throws ValidationException {
+        ConstraintMetrics[] recorders = this.recorders;
+        if(recorders == null) {
+            constraint.accept(target);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            constraint.accept(target);
+        } catch (ValidationException e) {
+            recorders[index].recordFailure(System.nanoTime() - start, e.getClass());
+            throw e;
+        }
+        recorders[index].record(System.nanoTime() - start);
+    }
+
+    /**
+     * Private internal method to resolve the metrics of the constraints. This is called whenever the names or the registry change.
+     */
+    private void bindMetrics() {
+        runs = metrics == null ? null : metrics.constraint(name == null ? "ClassValidator" : name);
+        if(metrics == null || names == null) {
+            recorders = null;
+            return;
+        }
+        ConstraintMetrics[] resolved = new ConstraintMetrics[names.size()];
+        for(int i = 0; i < resolved.length; i++) {
+            resolved[i] = metrics.constraint(name == null ? names.get(i) : name + "." + names.get(i));
+        }
+        recorders = resolved;
+    }
+
+    /**
+     * Private internal method to reject modifications of the frozen validation chain.
+     *
+     * @throws IllegalStateException Exception thrown when the validation chain is frozen.
+     */
+    private void checkNotFrozen() {
+        if(frozen) {throw new IllegalStateException(ExceptionMessage.frozenValidatorMessage);}
+    }
 }
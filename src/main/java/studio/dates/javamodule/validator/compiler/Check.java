@@ -0,0 +1,212 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.Nullable;
+
+/**
+ * Check is a declarative description of a check applied to a field by the compiled validators.<br>
+ * Checks are compared by their values, so rule sets built with the same checks share the compiled class.<br>
+ * A check is also the leaf of the rule algebra (see Rule), where it is placed in a field rule.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param kind Kind of the check.
+ * @param nullable Nullable option (ignored by NOT_NULL, NOT_EMPTY and NOT_BLANK).
+ * @param min Min length or min value (Long for integers, Double for decimals), or null.
+ * @param minBorder Defines the min value is included or not.
+ * @param max Max length or max value (Long for integers, Double for decimals), or null.
+ * @param maxBorder Defines the max value is included or not.
+ * @param regex Regular expression of REGEX, or null.
+ */
+public record Check(Kind kind, Nullable nullable, Number min, BorderMethod minBorder, Number max, BorderMethod maxBorder, String regex) implements Rule {
+    /**
+     * Kinds of the checks. Each kind calls the Validator check of the same name.
+     */
+    public enum Kind {
+        /**
+         * Validator.notNull()
+         */
+        NOT_NULL,
+        /**
+         * Validator.notEmpty()
+         */
+        NOT_EMPTY,
+        /**
+         * Validator.notBlank()
+         */
+        NOT_BLANK,
+        /**
+         * Validator.length()
+         */
+        LENGTH,
+        /**
+         * Validator.range() for int, short, byte, Integer, double, float and Double fields, and Validator.min() / Validator.max() for long and Long fields.<br>
+         * Decimal bounds applied to integer fields are rounded into the equivalent inclusive integer bounds.
+         */
+        RANGE,
+        /**
+         * Validator.email()
+         */
+        EMAIL,
+        /**
+         * Validator.http()
+         */
+        HTTP,
+        /**
+         * Validator.phone()
+         */
+        PHONE,
+        /**
+         * Validator.regex()
+         */
+        REGEX
+    }
+
+    /**
+     * Requires the field not to be null.
+     *
+     * @return Check.
+     */
+    public static Check notNull() {
+        return new Check(Kind.NOT_NULL, Nullable.NOT_NULL, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the string field not to be empty.
+     *
+     * @return Check.
+     */
+    public static Check notEmpty() {
+        return new Check(Kind.NOT_EMPTY, Nullable.NOT_NULL, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the string field not to be blank.
+     *
+     * @return Check.
+     */
+    public static Check notBlank() {
+        return new Check(Kind.NOT_BLANK, Nullable.NOT_NULL, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the length of the string field in the range.
+     *
+     * @param nullable Nullable option.
+     * @param minInclusive Min length (inclusive).
+     * @param maxInclusive Max length (inclusive).
+     * @return Check.
+     */
+    public static Check length(Nullable nullable, int minInclusive, int maxInclusive) {
+        return new Check(Kind.LENGTH, nullable, (long) minInclusive, BorderMethod.INCLUSIVE, (long) maxInclusive, BorderMethod.INCLUSIVE, null);
+    }
+
+    /**
+     * Requires the integer field in the range.
+     *
+     * @param nullable Nullable option (for wrapper fields).
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Check.
+     */
+    public static Check range(Nullable nullable, long minInclusive, long maxInclusive) {
+        return new Check(Kind.RANGE, nullable, minInclusive, BorderMethod.INCLUSIVE, maxInclusive, BorderMethod.INCLUSIVE, null);
+    }
+
+    /**
+     * Requires the numeric field in the range with the border methods.
+     *
+     * @param nullable Nullable option (for wrapper fields).
+     * @param min Min value.
+     * @param minBorder Defines the min value is included or not.
+     * @param max Max value.
+     * @param maxBorder Defines the max value is included or not.
+     * @return Check.
+     */
+    public static Check range(Nullable nullable, double min, BorderMethod minBorder, double max, BorderMethod maxBorder) {
+        return new Check(Kind.RANGE, nullable, min, minBorder, max, maxBorder, null);
+    }
+
+    /**
+     * Requires the string field to match email format.
+     *
+     * @param nullable Nullable option.
+     * @return Check.
+     */
+    public static Check email(Nullable nullable) {
+        return new Check(Kind.EMAIL, nullable, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the string field to match http(or https) URI format.
+     *
+     * @param nullable Nullable option.
+     * @return Check.
+     */
+    public static Check http(Nullable nullable) {
+        return new Check(Kind.HTTP, nullable, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the string field to match phone number format.
+     *
+     * @param nullable Nullable option.
+     * @return Check.
+     */
+    public static Check phone(Nullable nullable) {
+        return new Check(Kind.PHONE, nullable, null, null, null, null, null);
+    }
+
+    /**
+     * Requires the string field to match the regular expression. The pattern is compiled once by the compiler.
+     *
+     * @param nullable Nullable option.
+     * @param regex Regular expression.
+     * @return Check.
+     */
+    public static Check regex(Nullable nullable, String regex) {
+        return new Check(Kind.REGEX, nullable, null, null, null, null, regex);
+    }
+
+    /**
+     * Package-private method to replace the nullable option.
+     *
+     * @param nullable Nullable option.
+     * @return Check with the nullable option.
+     */
+    Check withNullable(Nullable nullable) {
+        return new Check(kind, nullable, min, minBorder, max, maxBorder, regex);
+    }
+
+    /**
+     * Package-private method to intersect the bounds of two LENGTH or two RANGE checks.
+     *
+     * @param other Check of the same kind.
+     * @return Check with the tighter bound of each side (and the nullable option of this check), or null if no value satisfies both checks.
+     */
+    Check intersect(Check other) {
+        boolean thisMin = compare(min, other.min) > 0 || (compare(min, other.min) == 0 && minBorder == BorderMethod.EXCLUSIVE);
+        boolean thisMax = compare(max, other.max) < 0 || (compare(max, other.max) == 0 && maxBorder == BorderMethod.EXCLUSIVE);
+        Number newMin = thisMin ? min : other.min;
+        BorderMethod newMinBorder = thisMin ? minBorder : other.minBorder;
+        Number newMax = thisMax ? max : other.max;
+        BorderMethod newMaxBorder = thisMax ? maxBorder : other.maxBorder;
+        int compare = compare(newMin, newMax);
+        if(compare > 0 || (compare == 0 && (newMinBorder == BorderMethod.EXCLUSIVE || newMaxBorder == BorderMethod.EXCLUSIVE))) {return null;}
+        return new Check(kind, nullable, newMin, newMinBorder, newMax, newMaxBorder, regex);
+    }
+
+    /**
+     * Package-private method to compare two bounds.
+     *
+     * @param a Bound.
+     * @param b Bound.
+     * @return Negative, zero or positive as "a" is smaller than, equal to or larger than "b".
+     */
+    static int compare(Number a, Number b) {
+        if(a instanceof Long && b instanceof Long) {return Long.compare(a.longValue(), b.longValue());}
+        return Double.compare(a.doubleValue(), b.doubleValue());
+    }
+}
@@ -0,0 +1,54 @@
+package studio.dates.javamodule.validator.compiler;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Consumer;
+
+/**
+ * Template of the compiled validators. Rule Compiler defines a hidden class from the bytes of this class for each rule set,
+ * and passes the composed checks as the class data.<br>
+ * The checks are held in a static final field of the hidden class, so the JIT compiler treats them as a constant and inlines the whole chain.<br>
+ * NOTE: This class is never initialized as a normal class.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+final class CompiledTemplate implements Consumer<Object> {
+    /**
+     * Composed checks taking the validation target ((Object) void).
+     */
+    private static final MethodHandle CHECKS;
+
+    static {
+        try {
+            CHECKS = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Constructor without any argument.
+     */
+    CompiledTemplate() {
+    }
+
+    /**
+     * Run the checks.
+     *
+     * @param target validation target.
+     */
+    @Override
+    public void accept(Object target) {
+        try {
+            CHECKS.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package studio.dates.javamodule.validator.compiler;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rule is a term of the rule algebra: checks combined with and / or / not, and applied to the fields of a class.<br>
+ * Rules are compared by their values. Rule Compiler simplifies a rule before composing it: nested and / or are flattened,
+ * double negations and rules which always pass are removed, the rules of the same field are merged, and the checks of a field
+ * are deduplicated and folded (e.g. two length checks become one), so the field is read once and its Nullable state is decided once.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;Rule rule = Rule.and(<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;Rule.field("id", Check.notNull(), Check.length(Nullable.NOT_NULL, 1, 8)),<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;Rule.field("contact", Rule.or(Check.email(Nullable.NOT_NULL), Check.phone(Nullable.NOT_NULL))),<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;Rule.field("id", Check.length(Nullable.ALLOW_NULL, 4, 16)));&nbsp;&nbsp;// merged into length 4..8
+ *      </li>
+ *      <li>Compiling<br>
+ *          &nbsp;&nbsp;Consumer&lt;Person&gt; compiled = RuleCompiler.compile(Person.class, rule);
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * Failures: a check throws the same exception as the Validator check of the same name,
+ * "or" throws AggregatedValidationException with the failures of all the alternatives,
+ * and "not" throws ValidationException when the negated rule passes.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public sealed interface Rule permits Check, Rule.Field, Rule.And, Rule.Or, Rule.Not {
+    /**
+     * Apply the rules to a field. Checks are placed in field rules.
+     *
+     * @param name Name of the field (or the property read by "get{Name}()", "is{Name}()" or the record accessor).
+     * @param rules Rules of the field (all of them are required).
+     * @return Field rule.
+     */
+    static Rule field(String name, Rule... rules) {
+        return new Field(name, and(rules));
+    }
+
+    /**
+     * Require all the rules.
+     *
+     * @param rules Rules.
+     * @return Conjunction. Without any rule, it always passes.
+     */
+    static Rule and(Rule... rules) {
+        return new And(List.of(rules));
+    }
+
+    /**
+     * Require at least one of the rules.
+     *
+     * @param rules Alternatives.
+     * @return Disjunction.
+     */
+    static Rule or(Rule... rules) {
+        return new Or(List.of(rules));
+    }
+
+    /**
+     * Require the rule to fail.
+     *
+     * @param rule Negated rule.
+     * @return Negation.
+     */
+    static Rule not(Rule rule) {
+        return new Not(rule);
+    }
+
+    /**
+     * Rules applied to a field.
+     *
+     * @param name Name of the field.
+     * @param rule Rule of the field.
+     */
+    record Field(String name, Rule rule) implements Rule {
+        /**
+         * Constructor with the name and the rule as the arguments.
+         *
+         * @param name Name of the field.
+         * @param rule Rule of the field.
+         */
+        public Field {
+            Objects.requireNonNull(name);
+            Objects.requireNonNull(rule);
+        }
+    }
+
+    /**
+     * Conjunction of the rules.
+     *
+     * @param rules Rules (all of them are required).
+     */
+    record And(List<Rule> rules) implements Rule {
+        /**
+         * Constructor with the rules as the argument.
+         *
+         * @param rules Rules.
+         */
+        public And {
+            rules = List.copyOf(rules);
+        }
+    }
+
+    /**
+     * Disjunction of the rules.
+     *
+     * @param rules Alternatives (one of them is required).
+     */
+    record Or(List<Rule> rules) implements Rule {
+        /**
+         * Constructor with the alternatives as the argument.
+         *
+         * @param rules Alternatives.
+         */
+        public Or {
+            rules = List.copyOf(rules);
+        }
+    }
+
+    /**
+     * Negation of the rule.
+     *
+     * @param rule Negated rule.
+     */
+    record Not(Rule rule) implements Rule {
+        /**
+         * Constructor with the negated rule as the argument.
+         *
+         * @param rule Negated rule.
+         */
+        public Not {
+            Objects.requireNonNull(rule);
+        }
+    }
+}
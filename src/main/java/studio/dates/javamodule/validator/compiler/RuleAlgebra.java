@@ -0,0 +1,557 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.accessor.ClassAccessors;
+import studio.dates.javamodule.validator.core.NullCheckValidator;
+import studio.dates.javamodule.validator.core.NullPolicy;
+import studio.dates.javamodule.validator.core.NumericRangeValidator;
+import studio.dates.javamodule.validator.core.StringLengthValidator;
+import studio.dates.javamodule.validator.core.StringRegexValidator;
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.Nullable;
+import studio.dates.javamodule.validator.exception.AggregatedValidationException;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Rule Algebra simplifies the rules and composes them into method handles for Rule Compiler.<br>
+ * The checks of a field are lowered into one decision: the field is read once, the null (and empty) state is decided once,
+ * using the decision tables of Null Policy, and the remaining checks are merged into one test of the core validators without their Nullable handling.
+ * Only when the merged test fails are the checks processed in the declared order, and the Validator check of the first failing check
+ * throws its exception, so the exception and its message are the same as those of the declared checks.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+final class RuleAlgebra {
+    /**
+     * Rule which always passes (empty conjunction).
+     */
+    private static final Rule PASS = new Rule.And(List.of());
+
+    /**
+     * any(MethodHandle[], Object)
+     */
+    private static final MethodHandle ANY;
+
+    /**
+     * none(MethodHandle, String, Object)
+     */
+    private static final MethodHandle NONE;
+
+    /**
+     * Objects.isNull(Object)
+     */
+    private static final MethodHandle IS_NULL;
+
+    /**
+     * String.isEmpty()
+     */
+    private static final MethodHandle IS_EMPTY;
+
+    /**
+     * StringLengthValidator.length(String, int, int)
+     */
+    private static final MethodHandle LENGTH;
+
+    /**
+     * StringRegexValidator.regex(String, Pattern)
+     */
+    private static final MethodHandle REGEX;
+
+    /**
+     * NullCheckValidator.isBlank(String)
+     */
+    private static final MethodHandle IS_BLANK;
+
+    /**
+     * NumericRangeValidator.range(long, long, long)
+     */
+    private static final MethodHandle RANGE_LONG;
+
+    /**
+     * NumericRangeValidator.range(double, double, BorderMethod, double, BorderMethod)
+     */
+    private static final MethodHandle RANGE_DOUBLE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            ANY = lookup.findStatic(RuleAlgebra.class, "any", MethodType.methodType(void.class, MethodHandle[].class, Object.class));
+            NONE = lookup.findStatic(RuleAlgebra.class, "none", MethodType.methodType(void.class, MethodHandle.class, String.class, Object.class));
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            IS_EMPTY = lookup.findVirtual(String.class, "isEmpty", MethodType.methodType(boolean.class));
+            LENGTH = lookup.findStatic(StringLengthValidator.class, "length", MethodType.methodType(boolean.class, String.class, int.class, int.class));
+            REGEX = lookup.findStatic(StringRegexValidator.class, "regex", MethodType.methodType(boolean.class, String.class, Pattern.class));
+            IS_BLANK = lookup.findStatic(NullCheckValidator.class, "isBlank", MethodType.methodType(boolean.class, String.class));
+            RANGE_LONG = lookup.findStatic(NumericRangeValidator.class, "range", MethodType.methodType(boolean.class, long.class, long.class, long.class));
+            RANGE_DOUBLE = lookup.findStatic(NumericRangeValidator.class, "range",
+                    MethodType.methodType(boolean.class, double.class, double.class, BorderMethod.class, double.class, BorderMethod.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Private constructor. This class only has static methods.
+     */
+    private RuleAlgebra() {
+    }
+
+    /**
+     * Simplify the rule and compose it into a method handle.
+     *
+     * @param type Class of the targets.
+     * @param rule Rule.
+     * @return Method handle of type (Object) void.
+     * @throws IllegalArgumentException Exception thrown when the rule can never pass, a field is not found or not accessible, or a check is not applicable to a field.
+     */
+    static MethodHandle compose(Class<?> type, Rule rule) {
+        return target(type, simplify(rule, false)).asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    /**
+     * Simplify the rule: flatten and / or, remove double negations and the rules which always pass, and merge the rules of the same field.
+     *
+     * @param rule Rule.
+     * @param inField Whether the rule is applied to a field.
+     * @return Simplified rule.
+     */
+    static Rule simplify(Rule rule, boolean inField) {
+        if(rule instanceof Check check) {
+            if(!inField) {throw new IllegalArgumentException("Checks must be placed in field rules: " + check.kind());}
+            return check;
+        }
+        if(rule instanceof Rule.Field field) {
+            if(inField) {throw new IllegalArgumentException("Field rules cannot be nested: " + field.name());}
+            Rule simplified = simplify(field.rule(), true);
+            return simplified.equals(PASS) ? PASS : new Rule.Field(field.name(), simplified);
+        }
+        if(rule instanceof Rule.Not not) {
+            Rule simplified = simplify(not.rule(), inField);
+            if(simplified instanceof Rule.Not twice) {return twice.rule();}
+            if(simplified.equals(PASS)) {throw new IllegalArgumentException("Negation of a rule which always passes can never pass.");}
+            return new Rule.Not(simplified);
+        }
+        if(rule instanceof Rule.Or or) {
+            Set<Rule> alternatives = new LinkedHashSet<>();
+            for(Rule alternative : or.rules()) {
+                Rule simplified = simplify(alternative, inField);
+                if(simplified.equals(PASS)) {return PASS;}
+                if(simplified instanceof Rule.Or nested) {alternatives.addAll(nested.rules());}
+                else {alternatives.add(simplified);}
+            }
+            if(alternatives.isEmpty()) {throw new IllegalArgumentException("Disjunction without any alternative can never pass.");}
+            return alternatives.size() == 1 ? alternatives.iterator().next() : new Rule.Or(List.copyOf(alternatives));
+        }
+        List<Rule> terms = new ArrayList<>();
+        for(Rule term : ((Rule.And) rule).rules()) {
+            Rule simplified = simplify(term, inField);
+            if(simplified instanceof Rule.And nested) {terms.addAll(nested.rules());}
+            else {terms.add(simplified);}
+        }
+        Map<Object, List<Rule>> grouped = new LinkedHashMap<>();
+        for(Rule term : terms) {
+            if(term instanceof Rule.Field field) {grouped.computeIfAbsent(field.name(), name -> new ArrayList<>()).add(field.rule());}
+            else {grouped.putIfAbsent(term, List.of());}
+        }
+        List<Rule> merged = new ArrayList<>();
+        for(Map.Entry<Object, List<Rule>> entry : grouped.entrySet()) {
+            if(entry.getKey() instanceof String name) {
+                List<Rule> rules = entry.getValue();
+                merged.add(rules.size() == 1 ? new Rule.Field(name, rules.get(0)) : simplify(new Rule.Field(name, new Rule.And(rules)), false));
+            } else {
+                merged.add((Rule) entry.getKey());
+            }
+        }
+        return merged.size() == 1 ? merged.get(0) : new Rule.And(merged);
+    }
+
+    /**
+     * Private internal method to compose a simplified rule applied to the target.
+     *
+     * @param type Class of the targets.
+     * @param rule Simplified rule.
+     * @return Method handle of type (type) void.
+     */
+    private static MethodHandle target(Class<?> type, Rule rule) {
+        MethodType methodType = MethodType.methodType(void.class, type);
+        if(rule instanceof Rule.Field field) {
+            MethodHandle getter = ClassAccessors.of(type).get(field.name()).handle();
+            return MethodHandles.filterArguments(value(field.rule(), field.name(), getter.type().returnType()), 0, getter);
+        }
+        if(rule instanceof Rule.Or or) {
+            MethodHandle[] alternatives = new MethodHandle[or.rules().size()];
+            for(int i = 0; i < alternatives.length; i++) {alternatives[i] = target(type, or.rules().get(i)).asType(MethodType.methodType(void.class, Object.class));}
+            return MethodHandles.insertArguments(ANY, 0, (Object) alternatives).asType(methodType);
+        }
+        if(rule instanceof Rule.Not not) {
+            String name = not.rule() instanceof Rule.Field field ? field.name() : type.getSimpleName();
+            return MethodHandles.insertArguments(NONE, 0, target(type, not.rule()).asType(MethodType.methodType(void.class, Object.class)), name).asType(methodType);
+        }
+        List<MethodHandle> handles = new ArrayList<>();
+        for(Rule term : ((Rule.And) rule).rules()) {handles.add(target(type, term));}
+        return sequence(handles, methodType);
+    }
+
+    /**
+     * Private internal method to compose a simplified rule applied to the value of a field.
+     *
+     * @param rule Simplified rule.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) void.
+     */
+    private static MethodHandle value(Rule rule, String name, Class<?> valueType) {
+        MethodType methodType = MethodType.methodType(void.class, valueType);
+        if(rule instanceof Check check) {return decision(List.of(check), name, valueType);}
+        if(rule instanceof Rule.Or or) {
+            MethodHandle[] alternatives = new MethodHandle[or.rules().size()];
+            for(int i = 0; i < alternatives.length; i++) {alternatives[i] = value(or.rules().get(i), name, valueType).asType(MethodType.methodType(void.class, Object.class));}
+            return MethodHandles.insertArguments(ANY, 0, (Object) alternatives).asType(methodType);
+        }
+        if(rule instanceof Rule.Not not) {
+            return MethodHandles.insertArguments(NONE, 0, value(not.rule(), name, valueType).asType(MethodType.methodType(void.class, Object.class)), name).asType(methodType);
+        }
+        List<Check> checks = new ArrayList<>();
+        List<MethodHandle> handles = new ArrayList<>();
+        for(Rule term : ((Rule.And) rule).rules()) {
+            if(term instanceof Check check) {checks.add(check);}
+            else {handles.add(value(term, name, valueType));}
+        }
+        if(!checks.isEmpty()) {handles.add(0, decision(checks, name, valueType));}
+        return sequence(handles, methodType);
+    }
+
+    /**
+     * Private internal method to compose the checks of a field into one decision.<br>
+     * Null: the first check failing for null throws its exception, or all the checks pass.<br>
+     * Empty string: the checks are processed in order until the first check failing for the empty string, skipping the checks passing for it.<br>
+     * Others: the merged checks are tested without their Nullable handling. If the test fails,
+     * the checks are processed in the declared order with their own bounds, and the first failing check throws its exception.
+     *
+     * @param checks Checks of the field in the declared order.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) void.
+     */
+    private static MethodHandle decision(List<Check> checks, String name, Class<?> valueType) {
+        MethodType methodType = MethodType.methodType(void.class, valueType);
+        List<MethodHandle> original = new ArrayList<>();
+        for(Check check : checks) {original.add(RuleCompiler.check(check, name, valueType));}
+        List<MethodHandle> declared = new ArrayList<>();
+        Set<Check> distinct = new LinkedHashSet<>();
+        for(Check check : checks) {
+            if(check.kind() != Check.Kind.NOT_NULL && check.kind() != Check.Kind.NOT_EMPTY && distinct.add(check.withNullable(Nullable.NOT_NULL))) {
+                declared.add(fast(check, name, valueType));
+            }
+        }
+        MethodHandle nonNull = MethodHandles.guardWithTest(all(merge(checks, valueType), valueType), MethodHandles.empty(methodType), sequence(declared, methodType));
+        if(valueType.isPrimitive()) {return nonNull;}
+        MethodHandle onNull = MethodHandles.empty(methodType);
+        for(int i = 0; i < checks.size(); i++) {
+            if(failsOnNull(checks.get(i))) {
+                onNull = original.get(i);
+                break;
+            }
+        }
+        if(valueType == String.class) {
+            List<MethodHandle> onEmpty = new ArrayList<>();
+            Set<Check> processed = new LinkedHashSet<>();
+            for(int i = 0; i < checks.size(); i++) {
+                Check check = checks.get(i);
+                int action = onEmpty(check);
+                if(action == NullPolicy.FAIL_NULL || action == NullPolicy.FAIL_EMPTY) {
+                    onEmpty.add(original.get(i));
+                    break;
+                }
+                if(action == NullPolicy.CONTINUE && check.kind() != Check.Kind.NOT_NULL && processed.add(check.withNullable(Nullable.NOT_NULL))) {
+                    onEmpty.add(fast(check, name, valueType));
+                }
+            }
+            nonNull = MethodHandles.guardWithTest(IS_EMPTY, sequence(onEmpty, methodType), nonNull);
+        }
+        return MethodHandles.guardWithTest(IS_NULL.asType(MethodType.methodType(boolean.class, valueType)), onNull, nonNull);
+    }
+
+    /**
+     * Private internal method to merge the checks tested for the values which are neither null nor empty.<br>
+     * Null and empty checks are removed, duplicated checks are removed regardless of their Nullable options,
+     * length checks and range checks are intersected, and the checks which always pass are removed.
+     * Bounds are tested first, then blank checks, and then the format checks in the declared order.
+     * The merged checks only decide whether the value passes: their order and bounds are never reported.
+     *
+     * @param checks Checks of the field in the declared order.
+     * @param valueType Type of the field.
+     * @return Merged checks.
+     */
+    private static List<Check> merge(List<Check> checks, Class<?> valueType) {
+        Set<Check> bounds = new LinkedHashSet<>();
+        Set<Check> blanks = new LinkedHashSet<>();
+        Set<Check> formats = new LinkedHashSet<>();
+        Check length = null;
+        Check range = null;
+        boolean intersected = true;
+        for(Check original : checks) {
+            Check check = original.withNullable(Nullable.NOT_NULL);
+            switch (check.kind()) {
+                case NOT_NULL:
+                case NOT_EMPTY:
+                    break;
+                case NOT_BLANK:
+                    blanks.add(check);
+                    break;
+                case LENGTH:
+                    bounds.add(check);
+                    length = length == null ? check : length.intersect(check);
+                    intersected &= length != null;
+                    break;
+                case RANGE:
+                    bounds.add(check);
+                    range = range == null ? check : range.intersect(check);
+                    intersected &= range != null;
+                    break;
+                default:
+                    formats.add(check);
+            }
+        }
+        List<Check> merged = new ArrayList<>();
+        if(intersected) {
+            if(length != null && !(length.min().longValue() <= 0 && length.max().longValue() >= Integer.MAX_VALUE)) {merged.add(length);}
+            if(range != null && !covers(range, valueType)) {merged.add(range);}
+        } else {
+            merged.addAll(bounds);
+        }
+        merged.addAll(blanks);
+        merged.addAll(formats);
+        return merged;
+    }
+
+    /**
+     * Private internal method to compose the test passing only when all the merged checks pass.
+     *
+     * @param checks Merged checks.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) boolean.
+     */
+    private static MethodHandle all(List<Check> checks, Class<?> valueType) {
+        MethodHandle fail = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, valueType);
+        MethodHandle test = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, valueType);
+        for(int i = checks.size() - 1; i >= 0; i--) {test = MethodHandles.guardWithTest(test(checks.get(i), valueType), test, fail);}
+        return test;
+    }
+
+    /**
+     * Private internal method to compose the core validator of a check for the values which are neither null nor empty.
+     *
+     * @param check Check.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) boolean.
+     */
+    private static MethodHandle test(Check check, Class<?> valueType) {
+        MethodType methodType = MethodType.methodType(boolean.class, valueType);
+        switch (check.kind()) {
+            case NOT_BLANK:
+                MethodHandle fail = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, String.class);
+                MethodHandle pass = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, String.class);
+                return MethodHandles.guardWithTest(IS_BLANK, fail, pass).asType(methodType);
+            case LENGTH:
+                return MethodHandles.insertArguments(LENGTH, 1, clamp(check.min().longValue()), clamp(check.max().longValue())).asType(methodType);
+            case REGEX:
+                return MethodHandles.insertArguments(REGEX, 1, Pattern.compile(check.regex())).asType(methodType);
+            case EMAIL:
+            case HTTP:
+            case PHONE:
+                try {
+                    return MethodHandles.publicLookup().findStatic(StringRegexValidator.class, check.kind().name().toLowerCase(), methodType);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            case RANGE:
+                Class<?> primitive = MethodType.methodType(valueType).unwrap().returnType();
+                if(primitive == double.class || primitive == float.class) {
+                    return MethodHandles.insertArguments(RANGE_DOUBLE, 1, check.min().doubleValue(), check.minBorder(), check.max().doubleValue(), check.maxBorder())
+                            .asType(methodType);
+                }
+                return MethodHandles.insertArguments(RANGE_LONG, 1, RuleCompiler.lower(check.min(), check.minBorder()), RuleCompiler.upper(check.max(), check.maxBorder()))
+                        .asType(methodType);
+            default:
+                throw new IllegalArgumentException("Unsupported check: " + check.kind());
+        }
+    }
+
+    /**
+     * Private internal method to compose a check processed for the values which are neither null nor empty.
+     *
+     * @param check Check.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) void.
+     */
+    private static MethodHandle fast(Check check, String name, Class<?> valueType) {
+        Check nonNull = check.withNullable(Nullable.NOT_NULL);
+        MethodHandle validator = RuleCompiler.check(nonNull, name, valueType);
+        MethodHandle test;
+        switch (check.kind()) {
+            case LENGTH:
+                test = MethodHandles.insertArguments(LENGTH, 1, clamp(check.min().longValue()), clamp(check.max().longValue()));
+                break;
+            case REGEX:
+                test = MethodHandles.insertArguments(REGEX, 1, Pattern.compile(check.regex()));
+                break;
+            case EMAIL:
+            case HTTP:
+            case PHONE:
+                try {
+                    test = MethodHandles.publicLookup().findStatic(StringRegexValidator.class, check.kind().name().toLowerCase(),
+                            MethodType.methodType(boolean.class, String.class));
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+                break;
+            case RANGE:
+                Class<?> primitive = MethodType.methodType(valueType).unwrap().returnType();
+                return primitive == valueType ? validator : RuleCompiler.check(nonNull, name, primitive).asType(MethodType.methodType(void.class, valueType));
+            default:
+                return validator;
+        }
+        return MethodHandles.guardWithTest(test, MethodHandles.empty(MethodType.methodType(void.class, valueType)), validator);
+    }
+
+    /**
+     * Private internal method to decide whether a check fails for null.
+     *
+     * @param check Check.
+     * @return true: the check fails for null.<br>
+     *         false: the check passes for null.
+     */
+    private static boolean failsOnNull(Check check) {
+        switch (check.kind()) {
+            case NOT_NULL:
+            case NOT_EMPTY:
+            case NOT_BLANK:
+                return true;
+            default:
+                return NullPolicy.string(check.nullable(), NullPolicy.NULL) != NullPolicy.PASS;
+        }
+    }
+
+    /**
+     * Private internal method to look up the action of a string check for the empty string.
+     *
+     * @param check Check.
+     * @return Action of Null Policy.
+     */
+    private static int onEmpty(Check check) {
+        switch (check.kind()) {
+            case NOT_NULL:
+                return NullPolicy.CONTINUE;
+            case NOT_EMPTY:
+            case NOT_BLANK:
+                return NullPolicy.FAIL_EMPTY;
+            default:
+                return NullPolicy.string(check.nullable(), NullPolicy.EMPTY);
+        }
+    }
+
+    /**
+     * Private internal method to decide whether a range check covers all the values of an integer field.
+     *
+     * @param range Range check.
+     * @param valueType Type of the field.
+     * @return true: the check always passes.
+     */
+    private static boolean covers(Check range, Class<?> valueType) {
+        long min;
+        long max;
+        if(valueType == byte.class) {
+            min = Byte.MIN_VALUE;
+            max = Byte.MAX_VALUE;
+        } else if(valueType == short.class) {
+            min = Short.MIN_VALUE;
+            max = Short.MAX_VALUE;
+        } else if(valueType == int.class || valueType == Integer.class) {
+            min = Integer.MIN_VALUE;
+            max = Integer.MAX_VALUE;
+        } else if(valueType == long.class || valueType == Long.class) {
+            min = Long.MIN_VALUE;
+            max = Long.MAX_VALUE;
+        } else {
+            return false;
+        }
+        return RuleCompiler.lower(range.min(), range.minBorder()) <= min && RuleCompiler.upper(range.max(), range.maxBorder()) >= max;
+    }
+
+    /**
+     * Private internal method to process the method handles in order.
+     *
+     * @param handles Method handles of the type.
+     * @param type Method type (type) void.
+     * @return Method handle of the type.
+     */
+    private static MethodHandle sequence(List<MethodHandle> handles, MethodType type) {
+        if(handles.isEmpty()) {return MethodHandles.empty(type);}
+        MethodHandle chain = handles.get(handles.size() - 1);
+        for(int i = handles.size() - 2; i >= 0; i--) {chain = MethodHandles.foldArguments(chain, handles.get(i));}
+        return chain;
+    }
+
+    /**
+     * Private internal method to clamp a bound into the int range.
+     *
+     * @param bound Bound.
+     * @return Clamped bound.
+     */
+    private static int clamp(long bound) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, bound));
+    }
+
+    /**
+     * Private internal method to process the alternatives of a disjunction.
+     *
+     * @param alternatives Alternatives of type (Object) void.
+     * @param value Target or value of the field.
+     * @throws Throwable AggregatedValidationException when all the alternatives fail, or an unexpected exception.
+     */
+    private static void any(MethodHandle[] alternatives, Object value) throws Throwable {
+        List<ValidationException> failures = new ArrayList<>(alternatives.length);
+        for(MethodHandle alternative : alternatives) {
+            try {
+                alternative.invokeExact(value);
+                return;
+            } catch (ValidationException e) {
+                failures.add(e);
+            }
+        }
+        throw new AggregatedValidationException(failures);
+    }
+
+    /**
+     * Private internal method to process a negation.
+     *
+     * @param rule Negated rule of type (Object) void.
+     * @param name Name of the field or the class.
+     * @param value Target or value of the field.
+     * @throws Throwable ValidationException when the negated rule passes, or an unexpected exception.
+     */
+    private static void none(MethodHandle rule, String name, Object value) throws Throwable {
+        try {
+            rule.invokeExact(value);
+        } catch (ValidationException e) {
+            return;
+        }
+        throw new ValidationException(String.format(ExceptionMessage.format, name, ExceptionMessage.negatedRuleViolationMessage));
+    }
+}
@@ -0,0 +1,414 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.accessor.ClassAccessors;
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.Nullable;
+import studio.dates.javamodule.validator.validator.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Rule Compiler compiles a rule set into a specialized validator class at runtime.<br>
+ * The field accessors and the Validator checks are composed into one method handle with all the settings
+ * (names, nullable options, bounds and compiled patterns) bound as constants, and the handle is embedded into a hidden class
+ * ("Lookup.defineHiddenClassWithClassData()") as a static final constant, so the JIT compiler can inline the whole chain like hand-written code.<br>
+ * Compiled validators are cached by the class, the rule set and the lookup used to access the fields.
+ * Rules which change at runtime are compiled without the cache (see Rule Registry), so their hidden classes are unloaded with the old plans.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Compiling<br>
+ *          &nbsp;&nbsp;Consumer&lt;Person&gt; compiled = RuleCompiler.compile(rules, MethodHandles.lookup());
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;compiled.accept(person);&nbsp;&nbsp;// or new ClassValidator&lt;Person&gt;().constraint("person", compiled)
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class RuleCompiler {
+    /**
+     * Lookup of this package (used to define the hidden classes next to the template).
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Bytes of the template class, read once.
+     */
+    private static volatile byte[] template;
+
+    /**
+     * Compiled validators by the class of the targets.
+     */
+    private static final ClassValue<ConcurrentHashMap<Key, Consumer<?>>> compiled = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<Key, Consumer<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Private constructor. This class only has static methods.
+     */
+    private RuleCompiler() {
+    }
+
+    /**
+     * Compile the rule set with the accessors cached by Class Accessors.
+     * Fields are read directly if the package of the class is open to this library, and otherwise through the public getters.
+     *
+     * @param rules Rule set.
+     * @param <T> Class of validation Target
+     * @return Compiled validator. The checks are processed in the order of the rule set, and the first failure is thrown.
+     * @throws IllegalArgumentException Exception thrown when a field is not found or not accessible, or a check is not applicable to a field.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Consumer<T> compile(RuleSet<T> rules) {
+        Key key = new Key(rules, null, 0);
+        ConcurrentHashMap<Key, Consumer<?>> cache = compiled.get(rules.getType());
+        Consumer<?> validator = cache.get(key);
+        if(validator == null) {validator = cache.computeIfAbsent(key, ignored -> define(compose(rules, null)));}
+        return (Consumer<T>) validator;
+    }
+
+    /**
+     * Package-private method to compile the rule set with the accessors cached by Class Accessors, without the cache of the compiled validators.
+     * The hidden class is referenced only by the returned validator, so it can be unloaded once the validator is no longer used.
+     *
+     * @param rules Rule set.
+     * @param <T> Class of validation Target
+     * @return Compiled validator. The checks are processed in the order of the rule set, and the first failure is thrown.
+     * @throws IllegalArgumentException Exception thrown when a field is not found or not accessible, or a check is not applicable to a field.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Consumer<T> compileUncached(RuleSet<T> rules) {
+        return (Consumer<T>) define(compose(rules, null));
+    }
+
+    /**
+     * Compile the rule set.
+     *
+     * @param rules Rule set.
+     * @param lookup Lookup used to access the fields and the getters (e.g. "MethodHandles.lookup()" of the class declaring the fields).
+     * @param <T> Class of validation Target
+     * @return Compiled validator. The checks are processed in the order of the rule set, and the first failure is thrown.
+     * @throws IllegalArgumentException Exception thrown when a field is not found or not accessible, or a check is not applicable to a field.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Consumer<T> compile(RuleSet<T> rules, MethodHandles.Lookup lookup) {
+        Key key = new Key(rules, lookup.lookupClass(), lookup.lookupModes());
+        ConcurrentHashMap<Key, Consumer<?>> cache = compiled.get(rules.getType());
+        Consumer<?> validator = cache.get(key);
+        if(validator == null) {validator = cache.computeIfAbsent(key, ignored -> define(compose(rules, lookup)));}
+        return (Consumer<T>) validator;
+    }
+
+    /**
+     * Compile the rule algebra with the accessors cached by Class Accessors.<br>
+     * The rule is simplified first (see Rule), and the checks of each field are composed into one decision:
+     * the field is read once, its Nullable state is decided once, and the merged checks are tested in the order of their costs,
+     * which can differ from the declared order. If the merged test fails, the checks are processed in the declared order with their declared bounds,
+     * so the first failure throws the same exception and message as the declared checks.
+     *
+     * @param type Class of the targets.
+     * @param rule Rule.
+     * @param <T> Class of validation Target
+     * @return Compiled validator.
+     * @throws IllegalArgumentException Exception thrown when the rule can never pass, a field is not found or not accessible, or a check is not applicable to a field.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Consumer<T> compile(Class<T> type, Rule rule) {
+        Key key = new Key(rule, null, 0);
+        ConcurrentHashMap<Key, Consumer<?>> cache = compiled.get(type);
+        Consumer<?> validator = cache.get(key);
+        if(validator == null) {validator = cache.computeIfAbsent(key, ignored -> define(RuleAlgebra.compose(type, rule)));}
+        return (Consumer<T>) validator;
+    }
+
+    /**
+     * Private internal method to compose the checks of the rule set into a method handle.
+     *
+     * @param rules Rule set.
+     * @param lookup Lookup used to access the fields, or null to use Class Accessors.
+     * @return Method handle of type (Object) void.
+     */
+    private static MethodHandle compose(RuleSet<?> rules, MethodHandles.Lookup lookup) {
+        Class<?> type = rules.getType();
+        MethodHandle chain = null;
+        List<RuleSet.FieldRule> fields = rules.fields();
+        for(int i = fields.size() - 1; i >= 0; i--) {
+            RuleSet.FieldRule field = fields.get(i);
+            MethodHandle getter = lookup == null ? ClassAccessors.of(type).get(field.name()).handle() : accessor(type, field.name(), lookup);
+            for(int j = field.checks().size() - 1; j >= 0; j--) {
+                MethodHandle check = MethodHandles.filterArguments(check(field.checks().get(j), field.name(), getter.type().returnType()), 0, getter);
+                chain = chain == null ? check : MethodHandles.foldArguments(chain, check);
+            }
+        }
+        if(chain == null) {chain = MethodHandles.empty(MethodType.methodType(void.class, type));}
+        return chain.asType(MethodType.methodType(void.class, Object.class));
+    }
+
+    /**
+     * Package-private method to build the method handle of a check with the constants bound.
+     *
+     * @param check Check.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return Method handle of type (valueType) void.
+     */
+    static MethodHandle check(Check check, String name, Class<?> valueType) {
+        try {
+            MethodHandle handle;
+            switch (check.kind()) {
+                case NOT_NULL:
+                    if(valueType.isPrimitive()) {throw new IllegalArgumentException("NOT_NULL is not applicable to primitive field: " + name);}
+                    handle = MethodHandles.insertArguments(validator("notNull", Object.class, String.class), 1, name);
+                    break;
+                case NOT_EMPTY:
+                    handle = MethodHandles.insertArguments(validator("notEmpty", string(check, name, valueType), String.class), 1, name);
+                    break;
+                case NOT_BLANK:
+                    handle = MethodHandles.insertArguments(validator("notBlank", string(check, name, valueType), String.class), 1, name);
+                    break;
+                case LENGTH:
+                    handle = MethodHandles.insertArguments(validator("length", string(check, name, valueType), Nullable.class, int.class, int.class, String.class),
+                            1, check.nullable(), clamp(check.min().longValue()), clamp(check.max().longValue()), name);
+                    break;
+                case EMAIL:
+                case HTTP:
+                case PHONE:
+                    handle = MethodHandles.insertArguments(validator(check.kind().name().toLowerCase(), string(check, name, valueType), Nullable.class, String.class),
+                            1, check.nullable(), name);
+                    break;
+                case REGEX:
+                    handle = MethodHandles.insertArguments(validator("regex", string(check, name, valueType), Nullable.class, Pattern.class, String.class),
+                            1, check.nullable(), Pattern.compile(Objects.requireNonNull(check.regex())), name);
+                    break;
+                case RANGE:
+                    handle = range(check, name, valueType);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported check: " + check.kind());
+            }
+            return handle.asType(MethodType.methodType(void.class, valueType));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Private internal method to build the method handle of a range check.
+     *
+     * @param check Check.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return Method handle of the check.
+     * @throws NoSuchMethodException Never thrown unless Validator is broken.
+     * @throws IllegalAccessException Never thrown unless Validator is broken.
+     */
+    private static MethodHandle range(Check check, String name, Class<?> valueType) throws NoSuchMethodException, IllegalAccessException {
+        if(valueType == double.class || valueType == float.class) {
+            return MethodHandles.insertArguments(validator("range", double.class, double.class, BorderMethod.class, double.class, BorderMethod.class, String.class),
+                    1, check.min().doubleValue(), check.minBorder(), check.max().doubleValue(), check.maxBorder(), name);
+        }
+        if(valueType == Double.class) {
+            return MethodHandles.insertArguments(validator("range", Double.class, Nullable.class, double.class, BorderMethod.class, double.class, BorderMethod.class, String.class),
+                    1, check.nullable(), check.min().doubleValue(), check.minBorder(), check.max().doubleValue(), check.maxBorder(), name);
+        }
+        long minInclusive = lower(check.min(), check.minBorder());
+        long maxInclusive = upper(check.max(), check.maxBorder());
+        if(valueType == int.class || valueType == short.class || valueType == byte.class) {
+            return MethodHandles.insertArguments(validator("range", int.class, int.class, int.class, String.class), 1, clamp(minInclusive), clamp(maxInclusive), name);
+        }
+        if(valueType == Integer.class) {
+            return MethodHandles.insertArguments(validator("range", Number.class, Nullable.class, int.class, int.class, String.class),
+                    1, check.nullable(), clamp(minInclusive), clamp(maxInclusive), name);
+        }
+        MethodHandle min;
+        MethodHandle max;
+        if(valueType == long.class) {
+            min = MethodHandles.insertArguments(validator("min", long.class, long.class, String.class), 1, minInclusive, name);
+            max = MethodHandles.insertArguments(validator("max", long.class, long.class, String.class), 1, maxInclusive, name);
+        } else if(valueType == Long.class) {
+            min = MethodHandles.insertArguments(validator("min", Long.class, Nullable.class, long.class, String.class), 1, check.nullable(), minInclusive, name);
+            max = MethodHandles.insertArguments(validator("max", Long.class, Nullable.class, long.class, String.class), 1, check.nullable(), maxInclusive, name);
+        } else {
+            throw new IllegalArgumentException("RANGE is applicable to int, short, byte, long, double, float, Integer, Long and Double fields: " + name);
+        }
+        return MethodHandles.foldArguments(max, min);
+    }
+
+    /**
+     * Package-private method to convert the min value into the inclusive integer bound.
+     *
+     * @param min Min value.
+     * @param border Defines the min value is included or not.
+     * @return Smallest integer satisfying the bound.
+     */
+    static long lower(Number min, BorderMethod border) {
+        if(min instanceof Double || min instanceof Float) {
+            double value = min.doubleValue();
+            return border == BorderMethod.EXCLUSIVE ? (long) Math.floor(value) + 1 : (long) Math.ceil(value);
+        }
+        return border == BorderMethod.EXCLUSIVE ? min.longValue() + 1 : min.longValue();
+    }
+
+    /**
+     * Package-private method to convert the max value into the inclusive integer bound.
+     *
+     * @param max Max value.
+     * @param border Defines the max value is included or not.
+     * @return Largest integer satisfying the bound.
+     */
+    static long upper(Number max, BorderMethod border) {
+        if(max instanceof Double || max instanceof Float) {
+            double value = max.doubleValue();
+            return border == BorderMethod.EXCLUSIVE ? (long) Math.ceil(value) - 1 : (long) Math.floor(value);
+        }
+        return border == BorderMethod.EXCLUSIVE ? max.longValue() - 1 : max.longValue();
+    }
+
+    /**
+     * Private internal method to find a static check of Validator.
+     *
+     * @param name Name of the check.
+     * @param parameters Parameter types.
+     * @return Method handle of the check.
+     * @throws NoSuchMethodException Never thrown unless Validator is broken.
+     * @throws IllegalAccessException Never thrown unless Validator is broken.
+     */
+    private static MethodHandle validator(String name, Class<?>... parameters) throws NoSuchMethodException, IllegalAccessException {
+        return LOOKUP.findStatic(Validator.class, name, MethodType.methodType(void.class, parameters));
+    }
+
+    /**
+     * Private internal method to require the string field.
+     *
+     * @param check Check.
+     * @param name Name of the field.
+     * @param valueType Type of the field.
+     * @return String class.
+     */
+    private static Class<?> string(Check check, String name, Class<?> valueType) {
+        if(valueType != String.class) {throw new IllegalArgumentException(check.kind() + " is applicable to String fields: " + name);}
+        return String.class;
+    }
+
+    /**
+     * Private internal method to clamp a bound into the int range.
+     *
+     * @param bound Bound.
+     * @return Clamped bound.
+     */
+    private static int clamp(long bound) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, bound));
+    }
+
+    /**
+     * Private internal method to find the accessor of a field: the record accessor, the field itself, or "get{Name}()" / "is{Name}()".
+     *
+     * @param type Class of the targets.
+     * @param name Name of the field.
+     * @param lookup Lookup used to access the field.
+     * @return Method handle of type (type) fieldType.
+     */
+    private static MethodHandle accessor(Class<?> type, String name, MethodHandles.Lookup lookup) {
+        try {
+            if(type.isRecord()) {
+                for(RecordComponent component : type.getRecordComponents()) {
+                    if(component.getName().equals(name)) {return lookup.unreflect(component.getAccessor());}
+                }
+            }
+            for(Class<?> declaring = type; declaring != null; declaring = declaring.getSuperclass()) {
+                try {
+                    Field field = declaring.getDeclaredField(name);
+                    if(!Modifier.isStatic(field.getModifiers())) {
+                        try {
+                            return lookup.unreflectGetter(field).asType(MethodType.methodType(field.getType(), type));
+                        } catch (IllegalAccessException e) {
+                            break; // fall back to the getter
+                        }
+                    }
+                } catch (NoSuchFieldException e) {
+                    // continue with the superclass
+                }
+            }
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for(Method method : type.getMethods()) {
+                if(method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                        && (method.getName().equals("get" + capitalized) || (method.getName().equals("is" + capitalized) && method.getReturnType() == boolean.class))) {
+                    return lookup.unreflect(method).asType(MethodType.methodType(method.getReturnType(), type));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Field is not accessible: " + type.getName() + "." + name, e);
+        }
+        throw new IllegalArgumentException("Field or getter is not found or not accessible: " + type.getName() + "." + name);
+    }
+
+    /**
+     * Package-private method to define the hidden class holding the composed checks, and create its instance.
+     *
+     * @param checks Composed checks of type (Object) void.
+     * @return Instance of the hidden class.
+     */
+    @SuppressWarnings("unchecked")
+    static Consumer<?> define(MethodHandle checks) {
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(template(), checks, true);
+            return (Consumer<Object>) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Private internal method to read the bytes of the template class.
+     *
+     * @return Class file of CompiledTemplate.
+     */
+    private static byte[] template() {
+        byte[] bytes = template;
+        if(bytes == null) {
+            try (InputStream in = CompiledTemplate.class.getResourceAsStream("CompiledTemplate.class")) {
+                if(in == null) {throw new IllegalStateException("CompiledTemplate.class is not found.");}
+                bytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            template = bytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Cache key of the compiled validators.
+     *
+     * @param rules Rule set or rule.
+     * @param lookupClass Class of the lookup used to access the fields, or null for Class Accessors.
+     * @param lookupModes Access modes of the lookup.
+     */
+    private record Key(Object rules, Class<?> lookupClass, int lookupModes) {
+    }
+}
@@ -0,0 +1,430 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.accessor.ClassAccessors;
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Rule Parser parses the rule language into a rule set.<br>
+ * Each line describes the checks of a field as "{field}: {clause}, {clause}, ..." ("=" can be used instead of ":").
+ * Lines starting with "#" or "!" are comments.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Rules<br>
+ *          &nbsp;&nbsp;email: NOT_NULL, email, max 254<br>
+ *          &nbsp;&nbsp;name: ALLOW_NULL_NOT_EMPTY, not blank, length 1..64, regex "[A-Za-z ]+"<br>
+ *          &nbsp;&nbsp;age: range 0..150<br>
+ *          &nbsp;&nbsp;price: ALLOW_NULL, min 0 exclusive, max 1000.5
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * Clauses (case-insensitive, words can be separated with spaces or "_"):
+ * <ul>
+ *      <li>Nullable option (e.g. NOT_NULL, ALLOW_NULL) of the non-primitive fields. The default is NOT_NULL. NOT_NULL / NOT_NULL_ALLOW_EMPTY add the null check, and NOT_EMPTY adds the empty check.</li>
+ *      <li>not blank, email, http, phone, regex "{regular expression}" (only '\"' is unescaped in the quotes)</li>
+ *      <li>length {n}, length {min}..{max}: length of the string field</li>
+ *      <li>range {min}..{max}: value of the numeric field (both inclusive)</li>
+ *      <li>min {value} [inclusive|exclusive], max {value} [inclusive|exclusive]: length of the string field, or value of the numeric field</li>
+ * </ul>
+ * A field can be given on several lines. All the bounds of a field are folded into one check with the tightest bounds, and duplicated clauses are removed.
+ * Checks are ordered from the cheapest: null check, blank check, length or range check, and then the format checks in the declared order.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class RuleParser {
+    /**
+     * Private constructor. This class only has static methods.
+     */
+    private RuleParser() {
+    }
+
+    /**
+     * Parse the rules.
+     *
+     * @param type Class of the targets. Fields are resolved with Class Accessors.
+     * @param source Rules.
+     * @param <T> Class of validation Target
+     * @return Rule set.
+     * @throws IllegalArgumentException Exception thrown when the rules have a syntax error, or refer to a field which cannot be read.
+     */
+    public static <T> RuleSet<T> parse(Class<T> type, String source) {
+        ClassAccessors accessors = ClassAccessors.of(type);
+        Map<String, FieldRules> fields = new LinkedHashMap<>();
+        String[] lines = source.split("\r?\n|\r");
+        for(int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if(line.isEmpty() || line.startsWith("#") || line.startsWith("!")) {continue;}
+            int separator = indexOfSeparator(line);
+            if(separator <= 0) {throw error(i, "\"{field}: {clauses}\" is expected.");}
+            String field = line.substring(0, separator).strip();
+            if(!accessors.has(field)) {throw error(i, "Field or getter is not found or not accessible: " + field);}
+            FieldRules fieldRules = fields.get(field);
+            if(fieldRules == null) {
+                fieldRules = new FieldRules(i, field, accessors.get(field).getType());
+                fields.put(field, fieldRules);
+            }
+            fieldRules.line = i;
+            for(String clause : clauses(i, line.substring(separator + 1))) {fieldRules.add(clause);}
+        }
+        RuleSet<T> rules = RuleSet.of(type);
+        for(FieldRules fieldRules : fields.values()) {rules = rules.field(fieldRules.field, fieldRules.checks().toArray(new Check[0]));}
+        return rules;
+    }
+
+    /**
+     * Private internal method to find the separator of the field name.
+     *
+     * @param line Line.
+     * @return Index of the first ":" or "=", or -1.
+     */
+    private static int indexOfSeparator(String line) {
+        for(int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if(c == ':' || c == '=') {return i;}
+            if(c == '"') {return -1;}
+        }
+        return -1;
+    }
+
+    /**
+     * Private internal method to split the clauses at the commas outside the quotes.
+     *
+     * @param line Index of the line.
+     * @param text Clauses.
+     * @return Trimmed clauses.
+     */
+    private static List<String> clauses(int line, String text) {
+        List<String> clauses = new ArrayList<>();
+        StringBuilder clause = new StringBuilder();
+        boolean quoted = false;
+        for(int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if(quoted && c == '\\' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                clause.append(c).append('"');
+                i++;
+                continue;
+            }
+            if(c == '"') {quoted = !quoted;}
+            if(c == ',' && !quoted) {
+                clauses.add(clause.toString().strip());
+                clause.setLength(0);
+            } else {
+                clause.append(c);
+            }
+        }
+        if(quoted) {throw error(line, "Unterminated quote.");}
+        clauses.add(clause.toString().strip());
+        clauses.removeIf(String::isEmpty);
+        return clauses;
+    }
+
+    /**
+     * Private internal method to build the exception of a syntax error.
+     *
+     * @param line Index of the line.
+     * @param message Message.
+     * @return Exception to be thrown.
+     */
+    private static IllegalArgumentException error(int line, String message) {
+        return new IllegalArgumentException("Rule line " + (line + 1) + ": " + message);
+    }
+
+    /**
+     * Checks of a field being parsed.
+     */
+    private static final class FieldRules {
+        /**
+         * Index of the line being parsed (the last line of the field after parsing).
+         */
+        private int line;
+
+        /**
+         * Name of the field.
+         */
+        private final String field;
+
+        /**
+         * Type of the field.
+         */
+        private final Class<?> type;
+
+        /**
+         * Whether the field is a string.
+         */
+        private final boolean string;
+
+        /**
+         * Nullable option, or null if it is not given.
+         */
+        private Nullable nullable;
+
+        /**
+         * Whether "not blank" is given.
+         */
+        private boolean notBlank;
+
+        /**
+         * Folded min bound, or null.
+         */
+        private Number min;
+
+        /**
+         * Border method of the min bound.
+         */
+        private BorderMethod minBorder = BorderMethod.INCLUSIVE;
+
+        /**
+         * Folded max bound, or null.
+         */
+        private Number max;
+
+        /**
+         * Border method of the max bound.
+         */
+        private BorderMethod maxBorder = BorderMethod.INCLUSIVE;
+
+        /**
+         * Format checks in the declared order ("email", "http", "phone" and the regular expressions).
+         */
+        private final Set<String> formats = new LinkedHashSet<>();
+
+        /**
+         * Constructor with the line, the field name and the field type as the arguments.
+         *
+         * @param line Index of the line.
+         * @param field Name of the field.
+         * @param type Type of the field.
+         */
+        private FieldRules(int line, String field, Class<?> type) {
+            this.line = line;
+            this.field = field;
+            this.type = type;
+            this.string = type == String.class;
+        }
+
+        /**
+         * Parse a clause.
+         *
+         * @param clause Clause.
+         */
+        private void add(String clause) {
+            int quote = clause.indexOf('"');
+            String words = (quote < 0 ? clause : clause.substring(0, quote)).strip();
+            String keyword = words.split("\\s+")[0].toUpperCase(Locale.ROOT);
+            String normalized = words.toUpperCase(Locale.ROOT).replaceAll("[\\s_]+", "_");
+            for(Nullable option : Nullable.values()) {
+                if(option.name().equals(normalized)) {
+                    if(nullable != null && nullable != option) {throw error(line, "Nullable option is given twice for " + field + ".");}
+                    nullable = option;
+                    return;
+                }
+            }
+            String argument = words.substring(Math.min(words.length(), keyword.length())).strip();
+            if(normalized.equals("NOT_BLANK")) {keyword = "NOT_BLANK";}
+            switch (keyword) {
+                case "NOT_BLANK":
+                    requireString("not blank");
+                    notBlank = true;
+                    return;
+                case "EMAIL":
+                case "HTTP":
+                case "PHONE":
+                    requireString(keyword.toLowerCase(Locale.ROOT));
+                    formats.add(keyword);
+                    return;
+                case "REGEX":
+                    requireString("regex");
+                    if(quote < 0 || !clause.endsWith("\"") || clause.length() - quote < 2) {throw error(line, "regex \"{regular expression}\" is expected.");}
+                    String regex = clause.substring(quote + 1, clause.length() - 1).replace("\\\"", "\"");
+                    try {
+                        Pattern.compile(regex);
+                    } catch (PatternSyntaxException e) {
+                        throw error(line, "Invalid regular expression: " + e.getDescription());
+                    }
+                    formats.add("/" + regex);
+                    return;
+                case "LENGTH":
+                    requireString("length");
+                    int dots = argument.indexOf("..");
+                    if(dots < 0) {
+                        Number length = number(argument);
+                        foldMin(length, BorderMethod.INCLUSIVE);
+                        foldMax(length, BorderMethod.INCLUSIVE);
+                    } else {
+                        foldMin(number(argument.substring(0, dots)), BorderMethod.INCLUSIVE);
+                        foldMax(number(argument.substring(dots + 2)), BorderMethod.INCLUSIVE);
+                    }
+                    return;
+                case "RANGE":
+                    if(string) {throw error(line, "range is applicable to numeric fields. Use length for " + field + ".");}
+                    int range = argument.indexOf("..");
+                    if(range < 0) {throw error(line, "range {min}..{max} is expected.");}
+                    foldMin(number(argument.substring(0, range)), BorderMethod.INCLUSIVE);
+                    foldMax(number(argument.substring(range + 2)), BorderMethod.INCLUSIVE);
+                    return;
+                case "MIN":
+                case "MAX":
+                    String[] parts = argument.split("\\s+");
+                    if(parts.length == 0 || parts.length > 2 || parts[0].isEmpty()) {throw error(line, keyword.toLowerCase(Locale.ROOT) + " {value} [inclusive|exclusive] is expected.");}
+                    BorderMethod border = parts.length == 2 ? border(parts[1]) : BorderMethod.INCLUSIVE;
+                    if(string && border == BorderMethod.EXCLUSIVE) {throw error(line, "Length bounds are inclusive.");}
+                    if(keyword.equals("MIN")) {foldMin(number(parts[0]), border);}
+                    else {foldMax(number(parts[0]), border);}
+                    return;
+                default:
+                    break;
+            }
+            throw error(line, "Unknown clause: " + clause);
+        }
+
+        /**
+         * Build the checks of the field.
+         *
+         * @return Checks ordered from the cheapest.
+         */
+        private List<Check> checks() {
+            Nullable option = nullable == null ? Nullable.NOT_NULL : nullable;
+            List<Check> checks = new ArrayList<>();
+            if(type.isPrimitive()) {
+                if(nullable != null) {throw error(line, "Nullable option is not applicable to primitive field " + field + ".");}
+            } else if(option == Nullable.NOT_NULL || option == Nullable.NOT_NULL_ALLOW_EMPTY) {
+                checks.add(Check.notNull());
+            } else if(option == Nullable.NOT_EMPTY) {
+                requireString("NOT_EMPTY");
+                checks.add(Check.notEmpty());
+            }
+            if(notBlank) {
+                if(option == Nullable.NOT_NULL || option == Nullable.NOT_EMPTY) {checks.add(Check.notBlank());}
+                else {checks.add(Check.regex(option, "(?s).*\\S.*"));}
+            }
+            if(min != null || max != null) {
+                if(string) {
+                    int minLength = min == null ? 0 : (int) Math.max(0, min.longValue());
+                    int maxLength = max == null ? Integer.MAX_VALUE : (int) Math.min(Integer.MAX_VALUE, max.longValue());
+                    if(minLength > maxLength) {throw error(line, "Empty length range for " + field + ".");}
+                    checks.add(Check.length(option, minLength, maxLength));
+                } else if(min instanceof Double || max instanceof Double || type == double.class || type == float.class || type == Double.class) {
+                    double minValue = min == null ? -Double.MAX_VALUE : min.doubleValue();
+                    double maxValue = max == null ? Double.MAX_VALUE : max.doubleValue();
+                    if(minValue > maxValue || (minValue == maxValue && (minBorder == BorderMethod.EXCLUSIVE || maxBorder == BorderMethod.EXCLUSIVE))) {
+                        throw error(line, "Empty range for " + field + ".");
+                    }
+                    checks.add(Check.range(option, minValue, minBorder, maxValue, maxBorder));
+                } else {
+                    if((min != null && minBorder == BorderMethod.EXCLUSIVE && min.longValue() == Long.MAX_VALUE)
+                            || (max != null && maxBorder == BorderMethod.EXCLUSIVE && max.longValue() == Long.MIN_VALUE)) {
+                        throw error(line, "Empty range for " + field + ".");
+                    }
+                    long minValue = min == null ? Long.MIN_VALUE : minBorder == BorderMethod.EXCLUSIVE ? min.longValue() + 1 : min.longValue();
+                    long maxValue = max == null ? Long.MAX_VALUE : maxBorder == BorderMethod.EXCLUSIVE ? max.longValue() - 1 : max.longValue();
+                    if(minValue > maxValue) {throw error(line, "Empty range for " + field + ".");}
+                    checks.add(Check.range(option, minValue, maxValue));
+                }
+            }
+            for(String format : formats) {
+                switch (format) {
+                    case "EMAIL":
+                        checks.add(Check.email(option));
+                        break;
+                    case "HTTP":
+                        checks.add(Check.http(option));
+                        break;
+                    case "PHONE":
+                        checks.add(Check.phone(option));
+                        break;
+                    default:
+                        checks.add(Check.regex(option, format.substring(1)));
+                }
+            }
+            return checks;
+        }
+
+        /**
+         * Fold the min bound (the larger value, or the exclusive border for the same value, wins).
+         *
+         * @param value Min value.
+         * @param border Border method.
+         */
+        private void foldMin(Number value, BorderMethod border) {
+            int compare = min == null ? 1 : Check.compare(value, min);
+            if(compare > 0 || (compare == 0 && border == BorderMethod.EXCLUSIVE)) {
+                min = value;
+                minBorder = border;
+            }
+        }
+
+        /**
+         * Fold the max bound (the smaller value, or the exclusive border for the same value, wins).
+         *
+         * @param value Max value.
+         * @param border Border method.
+         */
+        private void foldMax(Number value, BorderMethod border) {
+            int compare = max == null ? -1 : Check.compare(value, max);
+            if(compare < 0 || (compare == 0 && border == BorderMethod.EXCLUSIVE)) {
+                max = value;
+                maxBorder = border;
+            }
+        }
+
+        /**
+         * Parse a number (Long for integers, Double for decimals).
+         *
+         * @param text Number.
+         * @return Parsed number.
+         */
+        private Number number(String text) {
+            String value = text.strip();
+            try {
+                if(value.contains(".") || value.contains("e") || value.contains("E")) {
+                    if(string) {throw error(line, "Length must be an integer: " + value);}
+                    return Double.parseDouble(value);
+                }
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw error(line, "Number is expected: " + value);
+            }
+        }
+
+        /**
+         * Parse a border method.
+         *
+         * @param text "inclusive" or "exclusive".
+         * @return Border method.
+         */
+        private BorderMethod border(String text) {
+            switch (text.toUpperCase(Locale.ROOT)) {
+                case "INCLUSIVE":
+                    return BorderMethod.INCLUSIVE;
+                case "EXCLUSIVE":
+                    return BorderMethod.EXCLUSIVE;
+                default:
+                    throw error(line, "inclusive or exclusive is expected: " + text);
+            }
+        }
+
+        /**
+         * Reject the string clauses for the other fields.
+         *
+         * @param clause Clause for the message.
+         */
+        private void requireString(String clause) {
+            if(!string) {throw error(line, clause + " is applicable to String fields. " + field + " is " + type.getSimpleName() + ".");}
+        }
+    }
+}
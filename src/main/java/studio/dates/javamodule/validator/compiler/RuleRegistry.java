@@ -0,0 +1,476 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.exception.ValidationException;
+import studio.dates.javamodule.validator.metrics.ConstraintMetrics;
+import studio.dates.javamodule.validator.metrics.ConstraintMetricsSnapshot;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Rule Registry keeps the validation plans loaded from the rule files of a directory, and reloads them when the files are changed.<br>
+ * The directory is watched with a Watch Service, the changed rules are parsed and compiled on the executor,
+ * and the new plan is published with an atomic swap. Events are coalesced until the directory is quiet for 50 milliseconds.<br>
+ * Validations which have already read the old plan finish with it,
+ * and no validation waits for the compilation. If the new rules cannot be loaded, the old plan is kept and the failure is counted.<br>
+ * Reloads are recorded as the invocations of a constraint metrics, so they can be exported with the other metrics
+ * (see "metrics()", Prometheus Exporter and Validator MBeans).
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;RuleRegistry registry = new RuleRegistry(Path.of("rules"));<br>
+ *          &nbsp;&nbsp;RuleRegistry.Binding&lt;Person&gt; person = registry.bind(Person.class, "person.rules");<br>
+ *          &nbsp;&nbsp;registry.start();
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;person.validate(entity);&nbsp;&nbsp;// or new ClassValidator&lt;Person&gt;().constraint("person", person)
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class RuleRegistry implements Closeable {
+    /**
+     * Quiet period after the last watch event before the reload, so a file being written is read once after the writes.
+     */
+    private static final long SETTLE_MILLIS = 50;
+
+    /**
+     * The private field to store the watched directory.
+     */
+    private final Path directory;
+
+    /**
+     * The private field to store the executor compiling the reloaded rules.
+     */
+    private final Executor executor;
+
+    /**
+     * The private field to store the executor created by this registry, or null if the executor is given.
+     */
+    private final ExecutorService ownExecutor;
+
+    /**
+     * The private field to store the bindings by the file name.
+     */
+    private final ConcurrentHashMap<Path, Binding<?>> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * The private field to store the metrics of the reloads: the latency from the start of reading the file to the publication of the plan,
+     * and the failures by the exception class. Unchanged files are not recorded.
+     */
+    private volatile ConstraintMetrics reloadMetrics = new ConstraintMetrics("RuleRegistry");
+
+    /**
+     * The private field to store the metrics registry, or null if the reloads are recorded only in this registry.
+     */
+    private volatile ValidationMetrics metrics;
+
+    /**
+     * The private field to store the message of the last failure, or null.
+     */
+    private volatile String lastFailure;
+
+    /**
+     * The private field to store the watch service, or null before the start.
+     */
+    private WatchService watcher;
+
+    /**
+     * The private field to store the watching thread, or null before the start.
+     */
+    private Thread thread;
+
+    /**
+     * The private field to store whether the registry is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor with the directory as the argument. The rules are compiled on a daemon thread created by this registry.
+     *
+     * @param directory Directory of the rule files.
+     */
+    public RuleRegistry(Path directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Constructor with the directory and the executor as the arguments.
+     *
+     * @param directory Directory of the rule files.
+     * @param executor Executor compiling the reloaded rules, or null to use a daemon thread created by this registry.
+     */
+    public RuleRegistry(Path directory, Executor executor) {
+        if(directory == null) {throw new IllegalArgumentException("directory must not be null.");}
+        this.directory = directory.toAbsolutePath().normalize();
+        if(executor == null) {
+            this.ownExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dates-validator-rule-compiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = ownExecutor;
+        } else {
+            this.ownExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Load the rule file and bind it to the class. The file is loaded and compiled in the calling thread.
+     *
+     * @param type Class of the targets.
+     * @param fileName Name of the rule file in the directory.
+     * @param <T> Class of validation Target
+     * @return Binding publishing the current plan of the file.
+     * @throws IOException Exception thrown when the file cannot be read.
+     * @throws IllegalArgumentException Exception thrown when the rules have a syntax error, or the file is already bound.
+     */
+    public <T> Binding<T> bind(Class<T> type, String fileName) throws IOException {
+        Path file = directory.resolve(fileName).normalize();
+        if(!directory.equals(file.getParent())) {throw new IllegalArgumentException("Rule file must be directly in the directory: " + fileName);}
+        String source = Files.readString(file, StandardCharsets.UTF_8);
+        Binding<T> binding = new Binding<>(type, file, source, ValidationPlan.create(type, source));
+        if(bindings.putIfAbsent(file.getFileName(), binding) != null) {throw new IllegalArgumentException("Rule file is already bound: " + fileName);}
+        return binding;
+    }
+
+    /**
+     * Record the reloads in the metrics registry. The reloads of all the files are recorded under the name,
+     * and those of each file under "{name}.{file name}" (e.g. "rules.person.rules").<br>
+     * NOTE: Counts recorded before this call are not carried over.
+     *
+     * @param metrics Metrics registry.
+     * @param name Name of the reload metrics.
+     * @return This registry.
+     * @throws IllegalArgumentException Exception thrown when the registry or the name is null.
+     * @throws IllegalStateException Exception thrown when the registry is already started.
+     */
+    public synchronized RuleRegistry metrics(ValidationMetrics metrics, String name) {
+        if(metrics == null || name == null) {throw new IllegalArgumentException("metrics and name must not be null.");}
+        if(watcher != null) {throw new IllegalStateException("Rule Registry is already started.");}
+        this.reloadMetrics = metrics.constraint(name);
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Start watching the directory.
+     *
+     * @throws IOException Exception thrown when the directory cannot be watched.
+     * @throws IllegalStateException Exception thrown when the registry is already started or closed.
+     */
+    public synchronized void start() throws IOException {
+        if(closed) {throw new IllegalStateException("Rule Registry is closed.");}
+        if(watcher != null) {throw new IllegalStateException("Rule Registry is already started.");}
+        watcher = directory.getFileSystem().newWatchService();
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(this::watch, "dates-validator-rule-registry");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Schedule the reload of the rule file regardless of the watch events.
+     *
+     * @param fileName Name of the bound rule file.
+     * @throws IllegalArgumentException Exception thrown when the file is not bound.
+     */
+    public void reload(String fileName) {
+        Binding<?> binding = bindings.get(Path.of(fileName));
+        if(binding == null) {throw new IllegalArgumentException("Rule file is not bound: " + fileName);}
+        schedule(binding);
+    }
+
+    /**
+     * Stop watching the directory. The bindings keep publishing their current plans.
+     *
+     * @throws IOException Exception thrown when the watch service cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if(closed) {return;}
+        closed = true;
+        if(ownExecutor != null) {ownExecutor.shutdown();}
+        if(watcher != null) {
+            watcher.close();
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Getter for "directory" field.
+     *
+     * @return Watched directory.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the number of the published plans (the initial loads are not counted).
+     *
+     * @return Number of the reloads.
+     */
+    public long reloads() {
+        ConstraintMetricsSnapshot snapshot = reloadMetrics.snapshot();
+        return snapshot.getInvocations() - snapshot.getFailures();
+    }
+
+    /**
+     * Get the number of the rule files which could not be read or compiled.
+     *
+     * @return Number of the failures.
+     */
+    public long failures() {
+        return reloadMetrics.snapshot().getFailures();
+    }
+
+    /**
+     * Get the message of the last failure.
+     *
+     * @return "{file}: {message}", or null if no reload has failed.
+     */
+    public String lastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Take a snapshot of the reload metrics. Invocations are the attempted reloads,
+     * and the latency is from the start of reading the file to the publication of the plan.
+     *
+     * @return Snapshot of the reload metrics.
+     */
+    public ConstraintMetricsSnapshot snapshot() {
+        return reloadMetrics.snapshot();
+    }
+
+    /**
+     * Private internal method to process the watch events until the registry is closed.
+     */
+    private void watch() {
+        Set<Binding<?>> changed = new LinkedHashSet<>();
+        while(!closed) {
+            try {
+                WatchKey key = watcher.take();
+                while(key != null) {
+                    for(WatchEvent<?> event : key.pollEvents()) {
+                        if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changed.addAll(bindings.values());
+                        } else if(event.context() instanceof Path name && bindings.containsKey(name)) {
+                            changed.add(bindings.get(name));
+                        }
+                    }
+                    if(!key.reset()) {return;}
+                    key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            changed.forEach(this::schedule);
+            changed.clear();
+        }
+    }
+
+    /**
+     * Private internal method to schedule the reload of the binding. Events arriving before the reload starts are coalesced.
+     * The reloads of a binding never run concurrently: if a reload is running, it runs once more after it finishes,
+     * so the plan of the latest file is always published last even with a multi-threaded executor.
+     *
+     * @param binding Binding to be reloaded.
+     */
+    private void schedule(Binding<?> binding) {
+        if(closed) {return;}
+        binding.pending.set(true);
+        if(!binding.running.compareAndSet(false, true)) {return;}
+        try {
+            executor.execute(() -> drain(binding));
+        } catch (RuntimeException e) {
+            binding.pending.set(false);
+            binding.running.set(false);
+            fail(binding, 0, e);
+        }
+    }
+
+    /**
+     * Private internal method to reload the binding until no more reload is requested.
+     *
+     * @param binding Binding to be reloaded.
+     */
+    private void drain(Binding<?> binding) {
+        do {
+            binding.pending.set(false);
+            load(binding);
+            binding.running.set(false);
+        } while (binding.pending.get() && !closed && binding.running.compareAndSet(false, true));
+    }
+
+    /**
+     * Private internal method to reload the binding. The current plan is kept if the file cannot be loaded.
+     *
+     * @param binding Binding to be reloaded.
+     * @param <T> Class of validation Target
+     */
+    private <T> void load(Binding<T> binding) {
+        long start = System.nanoTime();
+        try {
+            String source = Files.readString(binding.file, StandardCharsets.UTF_8);
+            if(source.equals(binding.source)) {return;}
+            ValidationPlan<T> plan = ValidationPlan.create(binding.type, source);
+            binding.source = source;
+            binding.plan.set(plan);
+            binding.version.incrementAndGet();
+            long nanos = System.nanoTime() - start;
+            reloadMetrics.record(nanos);
+            ValidationMetrics metrics = this.metrics;
+            if(metrics != null) {metrics.constraint(reloadMetrics.getName() + "." + binding.file.getFileName()).record(nanos);}
+        } catch (IOException | RuntimeException e) {
+            fail(binding, System.nanoTime() - start, e);
+        }
+    }
+
+    /**
+     * Private internal method to record the failure.
+     *
+     * @param binding Binding which could not be reloaded.
+     * @param nanos Duration of the failed reload in nanoseconds.
+     * @param e Cause of the failure.
+     */
+    private void fail(Binding<?> binding, long nanos, Exception e) {
+        reloadMetrics.recordFailure(nanos, e.getClass());
+        ValidationMetrics metrics = this.metrics;
+        if(metrics != null) {metrics.constraint(reloadMetrics.getName() + "." + binding.file.getFileName()).recordFailure(nanos, e.getClass());}
+        lastFailure = binding.file.getFileName() + ": " + e.getMessage();
+    }
+
+    /**
+     * Binding publishes the current plan of a rule file.
+     *
+     * @param <T> Class of validation Target
+     */
+    public static final class Binding<T> implements Consumer<T> {
+        /**
+         * Class of the targets.
+         */
+        private final Class<T> type;
+
+        /**
+         * Rule file.
+         */
+        private final Path file;
+
+        /**
+         * Current plan.
+         */
+        private final AtomicReference<ValidationPlan<T>> plan;
+
+        /**
+         * Number of the published plans after the initial load.
+         */
+        private final AtomicLong version = new AtomicLong();
+
+        /**
+         * Whether a reload is requested and not started.
+         */
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        /**
+         * Whether a reload is scheduled or running. Only the thread which set this runs the reloads of the binding.
+         */
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        /**
+         * Rules of the current plan (only accessed by the reloads, which never run concurrently).
+         */
+        private volatile String source;
+
+        /**
+         * Private constructor with the class, the file and the initial plan as the arguments.
+         *
+         * @param type Class of the targets.
+         * @param file Rule file.
+         * @param source Rules of the initial plan.
+         * @param plan Initial plan.
+         */
+        private Binding(Class<T> type, Path file, String source, ValidationPlan<T> plan) {
+            this.type = type;
+            this.file = file;
+            this.source = source;
+            this.plan = new AtomicReference<>(plan);
+        }
+
+        /**
+         * Validate the target with the current plan.
+         *
+         * @param target Validation target.
+         * @throws ValidationException Exception thrown when a check fails.
+         */
+        public void validate(T target) {
+            plan.get().validate(target);
+        }
+
+        /**
+         * Validate the target with the current plan.
+         *
+         * @param target Validation target.
+         * @throws ValidationException Exception thrown when a check fails.
+         */
+        @Override
+        public void accept(T target) {
+            plan.get().validate(target);
+        }
+
+        /**
+         * Get the current plan.
+         *
+         * @return Current plan.
+         */
+        public ValidationPlan<T> getPlan() {
+            return plan.get();
+        }
+
+        /**
+         * Get the number of the plans published after the initial load.
+         *
+         * @return Version of the current plan.
+         */
+        public long getVersion() {
+            return version.get();
+        }
+
+        /**
+         * Getter for "file" field.
+         *
+         * @return Rule file.
+         */
+        public Path getFile() {
+            return file;
+        }
+    }
+}
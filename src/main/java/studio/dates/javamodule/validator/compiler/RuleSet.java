@@ -0,0 +1,112 @@
+package studio.dates.javamodule.validator.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rule Set is an immutable declarative description of the checks applied to the fields of a class.<br>
+ * Rule sets are compared by their values, and used as the keys of the compiled validators.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;RuleSet&lt;Person&gt; rules = RuleSet.of(Person.class)<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.field("id", Check.notNull(), Check.length(Nullable.NOT_NULL, 1, 8))<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.field("email", Check.email(Nullable.ALLOW_NULL));
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <T> Class of validation Target
+ */
+public final class RuleSet<T> {
+    /**
+     * The private field to store the class of the targets.
+     */
+    private final Class<T> type;
+
+    /**
+     * The private field to store the rules of the fields in the order to be checked.
+     */
+    private final List<FieldRule> fields;
+
+    /**
+     * Private constructor with the class and the field rules as the arguments.
+     *
+     * @param type Class of the targets.
+     * @param fields Rules of the fields.
+     */
+    private RuleSet(Class<T> type, List<FieldRule> fields) {
+        this.type = type;
+        this.fields = fields;
+    }
+
+    /**
+     * Create an empty rule set.
+     *
+     * @param type Class of the targets.
+     * @param <T> Class of validation Target
+     * @return Rule set without any rule.
+     */
+    public static <T> RuleSet<T> of(Class<T> type) {
+        return new RuleSet<>(Objects.requireNonNull(type), List.of());
+    }
+
+    /**
+     * Add the checks of a field.
+     *
+     * @param name Name of the field (or the property read by "get{Name}()", "is{Name}()" or the record accessor).
+     * @param checks Checks processed in the given order.
+     * @return New rule set with the field rule.
+     */
+    public RuleSet<T> field(String name, Check... checks) {
+        List<FieldRule> added = new ArrayList<>(fields);
+        added.add(new FieldRule(Objects.requireNonNull(name), List.of(checks)));
+        return new RuleSet<>(type, List.copyOf(added));
+    }
+
+    /**
+     * Getter for "type" field.
+     *
+     * @return Class of the targets.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Package-private method to get the field rules.
+     *
+     * @return Rules of the fields.
+     */
+    List<FieldRule> fields() {
+        return fields;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(this == other) {return true;}
+        if(!(other instanceof RuleSet<?> rules)) {return false;}
+        return type == rules.type && fields.equals(rules.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode() * 31 + fields.hashCode();
+    }
+
+    /**
+     * Checks of a field.
+     *
+     * @param name Name of the field.
+     * @param checks Checks of the field.
+     */
+    record FieldRule(String name, List<Check> checks) {
+    }
+}
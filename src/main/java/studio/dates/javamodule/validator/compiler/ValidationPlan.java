@@ -0,0 +1,139 @@
+package studio.dates.javamodule.validator.compiler;
+
+import studio.dates.javamodule.validator.cache.ValidationCache;
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+import java.util.function.Consumer;
+
+/**
+ * Validation Plan is an immutable validator built from the rule language of Rule Parser.<br>
+ * The rules are parsed, folded and compiled by Rule Compiler once, and the plan is cached by the class and the rules,
+ * so compiling the same rules again returns the same plan without parsing.
+ * Up to 64 plans are cached per class, and the least recently used plans are evicted with their compiled classes,
+ * so rules built at runtime do not grow the cache without limit (evicted rules are compiled again when they are used again).
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Compiling<br>
+ *          &nbsp;&nbsp;private static final ValidationPlan&lt;Person&gt; plan = ValidationPlan.compile(Person.class, """<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;id: length 1..8<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;email: ALLOW_NULL, email, max 254<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;age: range 0..150<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;""");
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;plan.validate(person);&nbsp;&nbsp;// or new ClassValidator&lt;Person&gt;().constraint("person", plan)
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <T> Class of validation Target
+ */
+public final class ValidationPlan<T> implements Consumer<T> {
+    /**
+     * Max number of the plans cached per class.
+     */
+    private static final int PLANS_PER_CLASS = 64;
+
+    /**
+     * Compiled plans by the class of the targets and the rules.
+     */
+    private static final ClassValue<ValidationCache<String, ValidationPlan<?>>> plans = new ClassValue<>() {
+        @Override
+        protected ValidationCache<String, ValidationPlan<?>> computeValue(Class<?> type) {
+            return new ValidationCache<>(PLANS_PER_CLASS);
+        }
+    };
+
+    /**
+     * The private field to store the folded rule set.
+     */
+    private final RuleSet<T> rules;
+
+    /**
+     * The private field to store the compiled validator.
+     */
+    private final Consumer<T> compiled;
+
+    /**
+     * Private constructor with the rule set and the compiled validator as the arguments.
+     *
+     * @param rules Folded rule set.
+     * @param compiled Compiled validator of the rule set.
+     */
+    private ValidationPlan(RuleSet<T> rules, Consumer<T> compiled) {
+        this.rules = rules;
+        this.compiled = compiled;
+    }
+
+    /**
+     * Parse and compile the rules, or get the plan compiled before for the same class and rules.<br>
+     * NOTE: Threads compiling the same rules at the same time may compile them twice, and one of the plans is cached.
+     *
+     * @param type Class of the targets.
+     * @param source Rules (see Rule Parser).
+     * @param <T> Class of validation Target
+     * @return Compiled plan.
+     * @throws IllegalArgumentException Exception thrown when the rules have a syntax error, or refer to a field which cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValidationPlan<T> compile(Class<T> type, String source) {
+        ValidationCache<String, ValidationPlan<?>> cache = plans.get(type);
+        ValidationPlan<?> plan = cache.get(source);
+        if(plan == null) {
+            plan = create(type, source);
+            cache.put(source, plan);
+        }
+        return (ValidationPlan<T>) plan;
+    }
+
+    /**
+     * Package-private method to parse and compile the rules without the plan cache and the cache of Rule Compiler
+     * (the plans replaced at runtime or evicted from the plan cache can be unloaded with their hidden classes).
+     *
+     * @param type Class of the targets.
+     * @param source Rules (see Rule Parser).
+     * @param <T> Class of validation Target
+     * @return Compiled plan.
+     * @throws IllegalArgumentException Exception thrown when the rules have a syntax error, or refer to a field which cannot be read.
+     */
+    static <T> ValidationPlan<T> create(Class<T> type, String source) {
+        RuleSet<T> rules = RuleParser.parse(type, source);
+        return new ValidationPlan<>(rules, RuleCompiler.compileUncached(rules));
+    }
+
+    /**
+     * Validate the target.
+     *
+     * @param target Validation target.
+     * @throws ValidationException Exception thrown when a check fails.
+     */
+    public void validate(T target) {
+        compiled.accept(target);
+    }
+
+    /**
+     * Validate the target.
+     *
+     * @param target Validation target.
+     * @throws ValidationException Exception thrown when a check fails.
+     */
+    @Override
+    public void accept(T target) {
+        compiled.accept(target);
+    }
+
+    /**
+     * Getter for "rules" field.
+     *
+     * @return Folded rule set.
+     */
+    public RuleSet<T> getRules() {
+        return rules;
+    }
+}
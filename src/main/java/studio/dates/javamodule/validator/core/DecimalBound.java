@@ -0,0 +1,236 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.BorderMethod;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Decimal Bound is an immutable min or max value for BigDecimal and BigInteger targets with its border method.<br>
+ * Everything needed for the comparison is computed when the bound is created, so checking a target never allocates:
+ * <ul>
+ *      <li>BigDecimal targets are decided by the sign and the number of the integer digits (precision - scale) first,
+ *          and compared with "compareTo()" only when they have the same magnitude. "compareTo()" compares the unscaled long values directly for the values which fit in long.</li>
+ *      <li>BigInteger targets which fit in long are compared with the precomputed long bounds, and the others with the precomputed BigInteger bounds.</li>
+ * </ul>
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final DecimalBound ZERO = DecimalBound.of("0", BorderMethod.EXCLUSIVE);<br>
+ *          &nbsp;&nbsp;private static final DecimalBound LIMIT = DecimalBound.of("1000000.00", BorderMethod.INCLUSIVE);
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.range(order.getAmount(), Nullable.NOT_NULL, ZERO, LIMIT, "amount");
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class DecimalBound {
+    /**
+     * The private field to store the bound value.
+     */
+    private final BigDecimal value;
+
+    /**
+     * The private field to store the border method.
+     */
+    private final BorderMethod borderMethod;
+
+    /**
+     * The private field to store the sign of the bound value.
+     */
+    private final int signum;
+
+    /**
+     * The private field to store the number of the integer digits of the bound value (precision - scale).
+     */
+    private final int digits;
+
+    /**
+     * The private field to store the smallest integer satisfying the bound as a min value.
+     */
+    private final BigInteger lowest;
+
+    /**
+     * The private field to store the largest integer satisfying the bound as a max value.
+     */
+    private final BigInteger highest;
+
+    /**
+     * The private field to store "lowest" as long, if it fits in long.
+     */
+    private final long lowestLong;
+
+    /**
+     * The private field to store "highest" as long, if it fits in long.
+     */
+    private final long highestLong;
+
+    /**
+     * The private field to store whether "lowest" fits in long.
+     */
+    private final boolean lowestFits;
+
+    /**
+     * The private field to store whether "highest" fits in long.
+     */
+    private final boolean highestFits;
+
+    /**
+     * The private field to store the bound value in the exception messages.
+     */
+    private final String text;
+
+    /**
+     * Private constructor with the bound value and the border method as the arguments.
+     *
+     * @param value Bound value.
+     * @param borderMethod Defines the bound value is included or not.
+     */
+    private DecimalBound(BigDecimal value, BorderMethod borderMethod) {
+        this.value = value;
+        this.borderMethod = borderMethod;
+        this.signum = value.signum();
+        this.digits = value.precision() - value.scale();
+        BigDecimal floor = value.setScale(0, RoundingMode.FLOOR);
+        BigDecimal ceiling = value.setScale(0, RoundingMode.CEILING);
+        boolean integral = floor.compareTo(value) == 0;
+        boolean exclusive = borderMethod == BorderMethod.EXCLUSIVE;
+        this.lowest = exclusive && integral ? ceiling.toBigInteger().add(BigInteger.ONE) : ceiling.toBigInteger();
+        this.highest = exclusive && integral ? floor.toBigInteger().subtract(BigInteger.ONE) : floor.toBigInteger();
+        this.lowestFits = lowest.bitLength() < 64;
+        this.highestFits = highest.bitLength() < 64;
+        this.lowestLong = lowest.longValue();
+        this.highestLong = highest.longValue();
+        this.text = value.toPlainString();
+    }
+
+    /**
+     * Create a bound.
+     *
+     * @param value Bound value.
+     * @param borderMethod Defines the bound value is included or not.
+     * @return Bound.
+     */
+    public static DecimalBound of(BigDecimal value, BorderMethod borderMethod) {
+        if(value == null || borderMethod == null) {throw new IllegalArgumentException("value and borderMethod must not be null.");}
+        return new DecimalBound(value, borderMethod);
+    }
+
+    /**
+     * Create a bound from the decimal string (e.g. "1000000.00").
+     *
+     * @param value Bound value.
+     * @param borderMethod Defines the bound value is included or not.
+     * @return Bound.
+     * @throws NumberFormatException Exception thrown when the value is not a decimal number.
+     */
+    public static DecimalBound of(String value, BorderMethod borderMethod) {
+        return of(new BigDecimal(value), borderMethod);
+    }
+
+    /**
+     * Create an integer bound.
+     *
+     * @param value Bound value.
+     * @param borderMethod Defines the bound value is included or not.
+     * @return Bound.
+     */
+    public static DecimalBound of(long value, BorderMethod borderMethod) {
+        return of(BigDecimal.valueOf(value), borderMethod);
+    }
+
+    /**
+     * Check whether the target satisfies this bound as a min value.
+     *
+     * @param target Validation target (not null).
+     * @return Validation result.
+     */
+    public boolean allowsAsMin(BigDecimal target) {
+        int compare = compare(target);
+        return borderMethod == BorderMethod.INCLUSIVE ? compare >= 0 : compare > 0;
+    }
+
+    /**
+     * Check whether the target satisfies this bound as a max value.
+     *
+     * @param target Validation target (not null).
+     * @return Validation result.
+     */
+    public boolean allowsAsMax(BigDecimal target) {
+        int compare = compare(target);
+        return borderMethod == BorderMethod.INCLUSIVE ? compare <= 0 : compare < 0;
+    }
+
+    /**
+     * Check whether the target satisfies this bound as a min value.
+     *
+     * @param target Validation target (not null).
+     * @return Validation result.
+     */
+    public boolean allowsAsMin(BigInteger target) {
+        if(target.bitLength() < 64) {return lowestFits ? target.longValue() >= lowestLong : lowest.signum() < 0;}
+        return target.compareTo(lowest) >= 0;
+    }
+
+    /**
+     * Check whether the target satisfies this bound as a max value.
+     *
+     * @param target Validation target (not null).
+     * @return Validation result.
+     */
+    public boolean allowsAsMax(BigInteger target) {
+        if(target.bitLength() < 64) {return highestFits ? target.longValue() <= highestLong : highest.signum() > 0;}
+        return target.compareTo(highest) <= 0;
+    }
+
+    /**
+     * Getter for "value" field.
+     *
+     * @return Bound value.
+     */
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    /**
+     * Getter for "borderMethod" field.
+     *
+     * @return Defines the bound value is included or not.
+     */
+    public BorderMethod getBorderMethod() {
+        return borderMethod;
+    }
+
+    /**
+     * Get the bound value for the exception messages.
+     *
+     * @return Plain string of the bound value.
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Private internal method to compare the target with the bound value.
+     *
+     * @param target Validation target.
+     * @return Negative, zero or positive as the target is smaller than, equal to or larger than the bound value.
+     */
+    private int compare(BigDecimal target) {
+        int targetSignum = target.signum();
+        if(targetSignum != signum) {return Integer.compare(targetSignum, signum);}
+        if(targetSignum == 0) {return 0;}
+        int targetDigits = target.precision() - target.scale();
+        if(targetDigits != digits) {return targetDigits > digits ? targetSignum : -targetSignum;}
+        return target.compareTo(value);
+    }
+}
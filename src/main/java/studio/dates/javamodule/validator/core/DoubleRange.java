@@ -0,0 +1,208 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
+
+/**
+ * Double Range is an immutable range of float/double values with the border methods.<br>
+ * The border methods are resolved and the exception message is rendered when the range is created,
+ * so "check()" is just two comparisons: no formatting, and no boxing of the target or the bounds. NaN is never in the range.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final DoubleRange RATE = DoubleRange.of(0.0, BorderMethod.INCLUSIVE, 1.0, BorderMethod.EXCLUSIVE);<br>
+ *          &nbsp;&nbsp;private static final DoubleRange PRICE = DoubleRange.atLeast(0.0, BorderMethod.EXCLUSIVE);
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.range(item.getRate(), RATE, "rate");<br>
+ *          &nbsp;&nbsp;if(PRICE.check(price)) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class DoubleRange {
+    /**
+     * The private field to store the min value.
+     */
+    private final double min;
+
+    /**
+     * The private field to store whether the min value is included.
+     */
+    private final boolean minInclusive;
+
+    /**
+     * The private field to store the max value.
+     */
+    private final double max;
+
+    /**
+     * The private field to store whether the max value is included.
+     */
+    private final boolean maxInclusive;
+
+    /**
+     * The private field to store the pre-rendered exception message.
+     */
+    private final String message;
+
+    /**
+     * Private constructor with the bounds and the border methods as the arguments.
+     *
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     */
+    private DoubleRange(double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
+        if(minBorderMethod == null || maxBorderMethod == null) {throw new IllegalArgumentException("Border methods must not be null.");}
+        if(Double.isNaN(min) || Double.isNaN(max)) {throw new IllegalArgumentException("Bounds must not be NaN.");}
+        this.min = min;
+        this.minInclusive = minBorderMethod == BorderMethod.INCLUSIVE;
+        this.max = max;
+        this.maxInclusive = maxBorderMethod == BorderMethod.INCLUSIVE;
+        if(min > max || (min == max && !(minInclusive && maxInclusive))) {
+            throw new IllegalArgumentException("The range is empty: " + min + " (" + minBorderMethod.getMessage() + ") - " + max + " (" + maxBorderMethod.getMessage() + ").");
+        }
+        this.message = hasMin() && hasMax() ? String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage())
+                : hasMin() ? String.format(ExceptionMessage.minValueViolationMessage2, min, minBorderMethod.getMessage())
+                : String.format(ExceptionMessage.maxValueViolationMessage2, max, maxBorderMethod.getMessage());
+    }
+
+    /**
+     * Create a range with the border methods.
+     *
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty or a bound is NaN.
+     */
+    public static DoubleRange of(double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
+        return new DoubleRange(min, minBorderMethod, max, maxBorderMethod);
+    }
+
+    /**
+     * Create a range (borders are included).
+     *
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty or a bound is NaN.
+     */
+    public static DoubleRange of(double minInclusive, double maxInclusive) {
+        return new DoubleRange(minInclusive, BorderMethod.INCLUSIVE, maxInclusive, BorderMethod.INCLUSIVE);
+    }
+
+    /**
+     * Create a range without max value.
+     *
+     * @param min Min value.
+     * @param borderMethod Defines the min border value is included or not.
+     * @return Range.
+     */
+    public static DoubleRange atLeast(double min, BorderMethod borderMethod) {
+        return new DoubleRange(min, borderMethod, Double.POSITIVE_INFINITY, BorderMethod.INCLUSIVE);
+    }
+
+    /**
+     * Create a range without min value.
+     *
+     * @param max Max value.
+     * @param borderMethod Defines the max border value is included or not.
+     * @return Range.
+     */
+    public static DoubleRange atMost(double max, BorderMethod borderMethod) {
+        return new DoubleRange(Double.NEGATIVE_INFINITY, BorderMethod.INCLUSIVE, max, borderMethod);
+    }
+
+    /**
+     * Check whether the target is in the range.
+     *
+     * @param target Validation target.
+     * @return Validation result (NaN fails).
+     */
+    public boolean check(double target) {
+        return (minInclusive ? target >= min : target > min) && (maxInclusive ? target <= max : target < max);
+    }
+
+    /**
+     * Check whether the range has min value.
+     *
+     * @return false if the range starts with negative infinity (inclusive).
+     */
+    public boolean hasMin() {
+        return !(min == Double.NEGATIVE_INFINITY && minInclusive);
+    }
+
+    /**
+     * Check whether the range has max value.
+     *
+     * @return false if the range ends with positive infinity (inclusive).
+     */
+    public boolean hasMax() {
+        return !(max == Double.POSITIVE_INFINITY && maxInclusive);
+    }
+
+    /**
+     * Getter for "min" field.
+     *
+     * @return Min value.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Get the border method of the min value.
+     *
+     * @return Defines the min border value is included or not.
+     */
+    public BorderMethod getMinBorderMethod() {
+        return minInclusive ? BorderMethod.INCLUSIVE : BorderMethod.EXCLUSIVE;
+    }
+
+    /**
+     * Getter for "max" field.
+     *
+     * @return Max value.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Get the border method of the max value.
+     *
+     * @return Defines the max border value is included or not.
+     */
+    public BorderMethod getMaxBorderMethod() {
+        return maxInclusive ? BorderMethod.INCLUSIVE : BorderMethod.EXCLUSIVE;
+    }
+
+    /**
+     * Getter for "message" field.
+     *
+     * @return Exception message of the range.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the range in the message format.
+     *
+     * @return Exception message of the range.
+     */
+    @Override
+    public String toString() {
+        return message;
+    }
+}
@@ -0,0 +1,178 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
+
+/**
+ * Int Range is an immutable range of integer values.<br>
+ * Exclusive borders are converted into inclusive ones, and the exception message is rendered when the range is created,
+ * so "check()" is just two comparisons: no formatting, and no boxing of the target or the bounds.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final IntRange AGE = IntRange.of(0, 150);<br>
+ *          &nbsp;&nbsp;private static final IntRange PORT = IntRange.of(0, BorderMethod.EXCLUSIVE, 65535, BorderMethod.INCLUSIVE);
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.range(person.getAge(), AGE, "age");<br>
+ *          &nbsp;&nbsp;if(PORT.check(port)) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class IntRange {
+    /**
+     * The private field to store the min value (inclusive).
+     */
+    private final int min;
+
+    /**
+     * The private field to store the max value (inclusive).
+     */
+    private final int max;
+
+    /**
+     * The private field to store the pre-rendered exception message.
+     */
+    private final String message;
+
+    /**
+     * Private constructor with the inclusive bounds as the arguments.
+     *
+     * @param min Min value (inclusive).
+     * @param max Max value (inclusive).
+     */
+    private IntRange(int min, int max) {
+        if(min > max) {throw new IllegalArgumentException("The range is empty: " + min + " - " + max + ".");}
+        this.min = min;
+        this.max = max;
+        this.message = hasMin() && hasMax() ? String.format(ExceptionMessage.numericRangeViolationException1, min, max)
+                : hasMin() ? String.format(ExceptionMessage.minValueViolationMessage1, min)
+                : String.format(ExceptionMessage.maxValueViolationMessage1, max);
+    }
+
+    /**
+     * Create a range (borders are included).
+     *
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty.
+     */
+    public static IntRange of(int minInclusive, int maxInclusive) {
+        return new IntRange(minInclusive, maxInclusive);
+    }
+
+    /**
+     * Create a range with the border methods.
+     *
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty.
+     */
+    public static IntRange of(int min, BorderMethod minBorderMethod, int max, BorderMethod maxBorderMethod) {
+        if(minBorderMethod == BorderMethod.EXCLUSIVE) {
+            if(min == Integer.MAX_VALUE) {throw new IllegalArgumentException("The range is empty: min value is " + min + " (exclusive).");}
+            min++;
+        }
+        if(maxBorderMethod == BorderMethod.EXCLUSIVE) {
+            if(max == Integer.MIN_VALUE) {throw new IllegalArgumentException("The range is empty: max value is " + max + " (exclusive).");}
+            max--;
+        }
+        return new IntRange(min, max);
+    }
+
+    /**
+     * Create a range without max value.
+     *
+     * @param minInclusive Min value (inclusive).
+     * @return Range.
+     */
+    public static IntRange atLeast(int minInclusive) {
+        return new IntRange(minInclusive, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a range without min value.
+     *
+     * @param maxInclusive Max value (inclusive).
+     * @return Range.
+     */
+    public static IntRange atMost(int maxInclusive) {
+        return new IntRange(Integer.MIN_VALUE, maxInclusive);
+    }
+
+    /**
+     * Check whether the target is in the range.
+     *
+     * @param target Validation target.
+     * @return Validation result.
+     */
+    public boolean check(int target) {
+        return target >= min && target <= max;
+    }
+
+    /**
+     * Check whether the range has min value.
+     *
+     * @return false if the range starts with Integer.MIN_VALUE.
+     */
+    public boolean hasMin() {
+        return min != Integer.MIN_VALUE;
+    }
+
+    /**
+     * Check whether the range has max value.
+     *
+     * @return false if the range ends with Integer.MAX_VALUE.
+     */
+    public boolean hasMax() {
+        return max != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Getter for "min" field.
+     *
+     * @return Min value (inclusive).
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Getter for "max" field.
+     *
+     * @return Max value (inclusive).
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Getter for "message" field.
+     *
+     * @return Exception message of the range.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the range in the message format.
+     *
+     * @return Exception message of the range.
+     */
+    @Override
+    public String toString() {
+        return message;
+    }
+}
@@ -0,0 +1,104 @@
+package studio.dates.javamodule.validator.core;
+
+import java.util.Arrays;
+
+/**
+ * Int Set is an immutable set of integer codes for the membership constraints (Validator.in() / Validator.notIn()).<br>
+ * The set is laid out in a collision-free perfect hash table when it is created,
+ * so "contains()" is two hash mixes and one comparison: no probing, and no boxing of the target.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final IntSet STATUS = IntSet.of(200, 201, 204, 304);
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.in(response.getStatus(), STATUS, "status");<br>
+ *          &nbsp;&nbsp;if(STATUS.contains(status)) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class IntSet {
+    /**
+     * The private field to store the hash table layout.
+     */
+    private final PerfectHash hash;
+
+    /**
+     * The private field to store the key of each slot.
+     */
+    private final int[] keys;
+
+    /**
+     * The private field to store the number of the values.
+     */
+    private final int size;
+
+    /**
+     * The private field to store the values in the exception messages.
+     */
+    private final String text;
+
+    /**
+     * Private constructor with the distinct values as the argument.
+     *
+     * @param values Distinct values (sorted).
+     */
+    private IntSet(int[] values) {
+        long[] hashes = new long[values.length];
+        for(int i = 0; i < values.length; i++) {hashes[i] = values[i];}
+        this.hash = new PerfectHash(hashes);
+        this.keys = new int[hash.size()];
+        for(int slot = 0; slot < keys.length; slot++) {keys[slot] = values[hash.owner(slot)];}
+        this.size = values.length;
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < values.length && i < PerfectHash.MAX_LISTED; i++) {builder.append(i == 0 ? "" : ", ").append(values[i]);}
+        this.text = PerfectHash.listed(builder, values.length);
+    }
+
+    /**
+     * Create a set. Duplicated values are ignored.
+     *
+     * @param values Values.
+     * @return Set.
+     */
+    public static IntSet of(int... values) {
+        return new IntSet(Arrays.stream(values).sorted().distinct().toArray());
+    }
+
+    /**
+     * Check whether the value is in the set.
+     *
+     * @param value Value.
+     * @return true: the value is in the set.
+     */
+    public boolean contains(int value) {
+        int slot = hash.slot(value);
+        return slot >= 0 && keys[slot] == value;
+    }
+
+    /**
+     * Getter for "size" field.
+     *
+     * @return Number of the values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the values for the exception messages.
+     *
+     * @return Values (up to 10 values are listed).
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,116 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.LengthMode;
+
+/**
+ * Validator Core (Validation Engine) for Dates Library Validator.<br>
+ * Length Counter measures the length of a text given in chunks (e.g. buffers read from a Reader) in the length mode.
+ * Surrogate pairs and graphemes split between the chunks are counted once, as if the text were given at once.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+final class LengthCounter {
+    /**
+     * The private field to store the unit of the length.
+     */
+    private final LengthMode mode;
+
+    /**
+     * The private field to store the length counted so far.
+     */
+    private long count;
+
+    /**
+     * The private field to store the high surrogate at the end of the last chunk (0 if none).
+     */
+    private char pending;
+
+    /**
+     * The private field to store the grapheme class of the last code point.
+     */
+    private int previous = StringLengthValidator.NONE;
+
+    /**
+     * The private field to store the emoji sequence state of the last code point.
+     */
+    private int emoji;
+
+    /**
+     * The private field to store whether the last code point is an unpaired regional indicator.
+     */
+    private boolean oddRi;
+
+    /**
+     * Package-private constructor with the length mode as the argument.
+     *
+     * @param mode Unit of the length.
+     */
+    LengthCounter(LengthMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Package-private method to count the chunk.
+     *
+     * @param buffer Buffer which contains the chunk.
+     * @param offset Start of the chunk.
+     * @param length Length of the chunk.
+     * @return Length counted so far (a high surrogate at the end of the chunk is not counted until the next chunk or "finish()").
+     */
+    long add(char[] buffer, int offset, int length) {
+        if(mode == LengthMode.UTF16) {return count += length;}
+        for(int i = offset, end = offset + length; i < end; i++) {
+            char c = buffer[i];
+            if(pending != 0) {
+                char high = pending;
+                pending = 0;
+                if(Character.isLowSurrogate(c)) {
+                    codePoint(Character.toCodePoint(high, c));
+                    continue;
+                }
+                codePoint(high);
+            }
+            if(Character.isHighSurrogate(c)) {pending = c;}
+            else {codePoint(c);}
+        }
+        return count;
+    }
+
+    /**
+     * Package-private method to finish counting at the end of the text.
+     *
+     * @return Length of the text.
+     */
+    long finish() {
+        if(pending != 0) {
+            char high = pending;
+            pending = 0;
+            codePoint(high);
+        }
+        return count;
+    }
+
+    /**
+     * Private internal method to count the code point.
+     *
+     * @param cp Code point (or a lone surrogate).
+     */
+    private void codePoint(int cp) {
+        switch (mode) {
+            case UTF8_BYTES:
+                count += cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp >= 0x10000 ? 4 : Character.isSurrogate((char) cp) ? 1 : 3;
+                break;
+            case GRAPHEMES:
+                int current = StringLengthValidator.classify(cp);
+                if(!StringLengthValidator.joins(previous, current, emoji == 2, oddRi)) {count++;}
+                emoji = StringLengthValidator.emoji(emoji, current);
+                oddRi = current == StringLengthValidator.RI && !(previous == StringLengthValidator.RI && oddRi);
+                previous = current;
+                break;
+            default:
+                count++;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
+
+/**
+ * Long Range is an immutable range of long integer values.<br>
+ * Exclusive borders are converted into inclusive ones, and the exception message is rendered when the range is created,
+ * so "check()" is just two comparisons: no formatting, and no boxing of the target or the bounds.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final LongRange AMOUNT = LongRange.of(0, 10_000_000_000L);<br>
+ *          &nbsp;&nbsp;private static final LongRange ID = LongRange.atLeast(1);
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.range(order.getAmount(), AMOUNT, "amount");<br>
+ *          &nbsp;&nbsp;if(ID.check(id)) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class LongRange {
+    /**
+     * The private field to store the min value (inclusive).
+     */
+    private final long min;
+
+    /**
+     * The private field to store the max value (inclusive).
+     */
+    private final long max;
+
+    /**
+     * The private field to store the pre-rendered exception message.
+     */
+    private final String message;
+
+    /**
+     * Private constructor with the inclusive bounds as the arguments.
+     *
+     * @param min Min value (inclusive).
+     * @param max Max value (inclusive).
+     */
+    private LongRange(long min, long max) {
+        if(min > max) {throw new IllegalArgumentException("The range is empty: " + min + " - " + max + ".");}
+        this.min = min;
+        this.max = max;
+        this.message = hasMin() && hasMax() ? String.format(ExceptionMessage.numericRangeViolationException1, min, max)
+                : hasMin() ? String.format(ExceptionMessage.minValueViolationMessage1, min)
+                : String.format(ExceptionMessage.maxValueViolationMessage1, max);
+    }
+
+    /**
+     * Create a range (borders are included).
+     *
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty.
+     */
+    public static LongRange of(long minInclusive, long maxInclusive) {
+        return new LongRange(minInclusive, maxInclusive);
+    }
+
+    /**
+     * Create a range with the border methods.
+     *
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     * @return Range.
+     * @throws IllegalArgumentException Exception thrown when the range is empty.
+     */
+    public static LongRange of(long min, BorderMethod minBorderMethod, long max, BorderMethod maxBorderMethod) {
+        if(minBorderMethod == BorderMethod.EXCLUSIVE) {
+            if(min == Long.MAX_VALUE) {throw new IllegalArgumentException("The range is empty: min value is " + min + " (exclusive).");}
+            min++;
+        }
+        if(maxBorderMethod == BorderMethod.EXCLUSIVE) {
+            if(max == Long.MIN_VALUE) {throw new IllegalArgumentException("The range is empty: max value is " + max + " (exclusive).");}
+            max--;
+        }
+        return new LongRange(min, max);
+    }
+
+    /**
+     * Create a range without max value.
+     *
+     * @param minInclusive Min value (inclusive).
+     * @return Range.
+     */
+    public static LongRange atLeast(long minInclusive) {
+        return new LongRange(minInclusive, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create a range without min value.
+     *
+     * @param maxInclusive Max value (inclusive).
+     * @return Range.
+     */
+    public static LongRange atMost(long maxInclusive) {
+        return new LongRange(Long.MIN_VALUE, maxInclusive);
+    }
+
+    /**
+     * Check whether the target is in the range.
+     *
+     * @param target Validation target.
+     * @return Validation result.
+     */
+    public boolean check(long target) {
+        return target >= min && target <= max;
+    }
+
+    /**
+     * Check whether the range has min value.
+     *
+     * @return false if the range starts with Long.MIN_VALUE.
+     */
+    public boolean hasMin() {
+        return min != Long.MIN_VALUE;
+    }
+
+    /**
+     * Check whether the range has max value.
+     *
+     * @return false if the range ends with Long.MAX_VALUE.
+     */
+    public boolean hasMax() {
+        return max != Long.MAX_VALUE;
+    }
+
+    /**
+     * Getter for "min" field.
+     *
+     * @return Min value (inclusive).
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Getter for "max" field.
+     *
+     * @return Max value (inclusive).
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Getter for "message" field.
+     *
+     * @return Exception message of the range.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the range in the message format.
+     *
+     * @return Exception message of the range.
+     */
+    @Override
+    public String toString() {
+        return message;
+    }
+}
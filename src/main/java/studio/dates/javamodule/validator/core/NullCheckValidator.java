@@ -2,6 +2,8 @@ package studio.dates.javamodule.validator.core;
 
 import studio.dates.javamodule.validator.core.regex.Regex;
 
+import java.util.regex.Pattern;
+
 /**
  * Validator Core (Validation Engine) for Dates Library Validator.<br>
  * This class contains methods for null check.<br>
@@ -12,6 +14,11 @@ import studio.dates.javamodule.validator.core.regex.Regex;
  * @version 1.0.0 (Aug. 10, 2021)
  */
 public class NullCheckValidator {
+    /**
+     * Compiled pattern for blank string.
+     */
+    private static final Pattern blank = Pattern.compile(Regex.blank);
+
     /**
      * Requires target to be null.
      *
@@ -45,7 +52,7 @@ public class NullCheckValidator {
     public static boolean isBlank(String target) {
         if(isEmpty(target)) {return true;}
         else {
-            return target.matches(Regex.blank);
+            return blank.matcher(target).matches();
         }
     }
 }
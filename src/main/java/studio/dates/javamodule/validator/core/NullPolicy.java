@@ -0,0 +1,145 @@
+package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.Nullable;
+
+/**
+ * Validator Core (Validation Engine) for Dates Library Validator.<br>
+ * This class contains the decision tables of Nullable options.<br>
+ * The target is classified once into its state (NULL, EMPTY or PRESENT), and the action for the state is looked up in the table
+ * precomputed for each Nullable option, instead of walking a switch with separate null and empty checks.<br>
+ * NOTE: Direct usage of the methods in this class is not recommended.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class NullPolicy {
+    /**
+     * State: the target is null.
+     */
+    public static final int NULL = 0;
+
+    /**
+     * State: the target is an empty string (length = 0).
+     */
+    public static final int EMPTY = 1;
+
+    /**
+     * State: the target is neither null nor empty.
+     */
+    public static final int PRESENT = 2;
+
+    /**
+     * Action: the validation continues with the target.
+     */
+    public static final int CONTINUE = 0;
+
+    /**
+     * Action: the validation succeeds, and skips the following validation process.
+     */
+    public static final int PASS = 1;
+
+    /**
+     * Action: the validation fails because the target is null.
+     */
+    public static final int FAIL_NULL = 2;
+
+    /**
+     * Action: the validation fails because the target is empty (or null for NOT_EMPTY).
+     */
+    public static final int FAIL_EMPTY = 3;
+
+    /**
+     * Actions for string targets, indexed by "nullable.ordinal() * 3 + state".
+     */
+    private static final byte[] strings = new byte[Nullable.values().length * 3];
+
+    /**
+     * Actions for numeric targets, indexed by "nullable.ordinal() * 3 + state".
+     */
+    private static final byte[] numbers = new byte[Nullable.values().length * 3];
+
+    static {
+        for(Nullable nullable : Nullable.values()) {
+            int row = nullable.ordinal() * 3;
+            switch (nullable) {
+                case NOT_NULL:
+                    strings[row + NULL] = FAIL_NULL;
+                    numbers[row + NULL] = FAIL_NULL;
+                    break;
+                case ALLOW_NULL:
+                    strings[row + NULL] = PASS;
+                    numbers[row + NULL] = PASS;
+                    break;
+                case NOT_EMPTY:
+                    strings[row + NULL] = FAIL_EMPTY;
+                    strings[row + EMPTY] = FAIL_EMPTY;
+                    numbers[row + NULL] = FAIL_NULL;
+                    break;
+                case ALLOW_EMPTY:
+                    strings[row + NULL] = PASS;
+                    strings[row + EMPTY] = PASS;
+                    numbers[row + NULL] = PASS;
+                    break;
+                case ALLOW_NULL_NOT_EMPTY:
+                    strings[row + NULL] = PASS;
+                    strings[row + EMPTY] = FAIL_EMPTY;
+                    numbers[row + NULL] = PASS;
+                    break;
+                case NOT_NULL_ALLOW_EMPTY:
+                    strings[row + NULL] = FAIL_NULL;
+                    strings[row + EMPTY] = PASS;
+                    numbers[row + NULL] = FAIL_NULL;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Private constructor. This class only has static methods.
+     */
+    private NullPolicy() {
+    }
+
+    /**
+     * Classify the string target.
+     *
+     * @param target Validation target.
+     * @return NULL, EMPTY or PRESENT.
+     */
+    public static int state(String target) {
+        return target == null ? NULL : target.isEmpty() ? EMPTY : PRESENT;
+    }
+
+    /**
+     * Classify the target which cannot be empty (e.g. numeric wrapper classes).
+     *
+     * @param target Validation target.
+     * @return NULL or PRESENT.
+     */
+    public static int state(Object target) {
+        return target == null ? NULL : PRESENT;
+    }
+
+    /**
+     * Look up the action for the string target.
+     *
+     * @param nullable Nullable option.
+     * @param state State of the target.
+     * @return CONTINUE, PASS, FAIL_NULL or FAIL_EMPTY.
+     */
+    public static int string(Nullable nullable, int state) {
+        return strings[nullable.ordinal() * 3 + state];
+    }
+
+    /**
+     * Look up the action for the numeric target. Numeric targets are never EMPTY, so NOT_EMPTY behaves as NOT_NULL.
+     *
+     * @param nullable Nullable option.
+     * @param state State of the target.
+     * @return CONTINUE, PASS or FAIL_NULL.
+     */
+    public static int number(Nullable nullable, int state) {
+        return numbers[nullable.ordinal() * 3 + state];
+    }
+}
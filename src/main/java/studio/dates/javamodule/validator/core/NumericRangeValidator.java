@@ -2,6 +2,13 @@ package studio.dates.javamodule.validator.core;
 
 import studio.dates.javamodule.validator.enums.BorderMethod;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Validator Core (Validation Engine) for Dates Library Validator.<br>
  * This class contains methods for Numeric Range Validation.<br>
@@ -9,7 +16,7 @@ import studio.dates.javamodule.validator.enums.BorderMethod;
  *
  * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
  *
- * @version 1.0.0 (Aug. 10, 2021)
+ * @version 1.1.0 (Oct. 19, 2026)
  */
 public class NumericRangeValidator {
     /**
@@ -31,7 +38,7 @@ public class NumericRangeValidator {
      * @return Validation result.
      */
     public static boolean max(int target, int maxInclusive) {
-        return target >= maxInclusive;
+        return target <= maxInclusive;
     }
 
     /**
@@ -65,7 +72,7 @@ public class NumericRangeValidator {
      * @return Validation result.
      */
     public static boolean max(long target, long maxInclusive) {
-        return target >= maxInclusive;
+        return target <= maxInclusive;
     }
 
     /**
@@ -123,4 +130,125 @@ public class NumericRangeValidator {
     public static boolean range(double target, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod) {
         return min(target, min, minBorderMethod) && max(target, max, maxBorderMethod);
     }
+
+    /**
+     * Requires the target of any Number class to be larger than or equal to min.<br>
+     * Integer classes are compared as long integers, BigInteger and BigDecimal are compared exactly, and the others are compared as double values (NaN fails).
+     *
+     * @param target Validation target (not null).
+     * @param minInclusive Min value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean atLeast(Number target, long minInclusive) {
+        if(isIntegral(target)) {return target.longValue() >= minInclusive;}
+        if(target instanceof BigInteger integer) {return integer.compareTo(BigInteger.valueOf(minInclusive)) >= 0;}
+        if(target instanceof BigDecimal decimal) {return decimal.compareTo(BigDecimal.valueOf(minInclusive)) >= 0;}
+        return target.doubleValue() >= minInclusive;
+    }
+
+    /**
+     * Requires the target of any Number class to be smaller than or equal to max.<br>
+     * Integer classes are compared as long integers, BigInteger and BigDecimal are compared exactly, and the others are compared as double values (NaN fails).
+     *
+     * @param target Validation target (not null).
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean atMost(Number target, long maxInclusive) {
+        if(isIntegral(target)) {return target.longValue() <= maxInclusive;}
+        if(target instanceof BigInteger integer) {return integer.compareTo(BigInteger.valueOf(maxInclusive)) <= 0;}
+        if(target instanceof BigDecimal decimal) {return decimal.compareTo(BigDecimal.valueOf(maxInclusive)) <= 0;}
+        return target.doubleValue() <= maxInclusive;
+    }
+
+    /**
+     * Requires the target of any Number class to be in the range (borders are included).
+     *
+     * @param target Validation target (not null).
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @return Validation result.
+     */
+    public static boolean within(Number target, long minInclusive, long maxInclusive) {
+        return atLeast(target, minInclusive) && atMost(target, maxInclusive);
+    }
+
+    /**
+     * Requires the BigDecimal target to satisfy the min bound.
+     *
+     * @param target Validation target (not null).
+     * @param min Min bound.
+     * @return Validation result.
+     */
+    public static boolean min(BigDecimal target, DecimalBound min) {
+        return min.allowsAsMin(target);
+    }
+
+    /**
+     * Requires the BigDecimal target to satisfy the max bound.
+     *
+     * @param target Validation target (not null).
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean max(BigDecimal target, DecimalBound max) {
+        return max.allowsAsMax(target);
+    }
+
+    /**
+     * Requires the BigDecimal target to be in the range.
+     *
+     * @param target Validation target (not null).
+     * @param min Min bound.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean range(BigDecimal target, DecimalBound min, DecimalBound max) {
+        return min.allowsAsMin(target) && max.allowsAsMax(target);
+    }
+
+    /**
+     * Requires the BigInteger target to satisfy the min bound.
+     *
+     * @param target Validation target (not null).
+     * @param min Min bound.
+     * @return Validation result.
+     */
+    public static boolean min(BigInteger target, DecimalBound min) {
+        return min.allowsAsMin(target);
+    }
+
+    /**
+     * Requires the BigInteger target to satisfy the max bound.
+     *
+     * @param target Validation target (not null).
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean max(BigInteger target, DecimalBound max) {
+        return max.allowsAsMax(target);
+    }
+
+    /**
+     * Requires the BigInteger target to be in the range.
+     *
+     * @param target Validation target (not null).
+     * @param min Min bound.
+     * @param max Max bound.
+     * @return Validation result.
+     */
+    public static boolean range(BigInteger target, DecimalBound min, DecimalBound max) {
+        return min.allowsAsMin(target) && max.allowsAsMax(target);
+    }
+
+    /**
+     * Private internal method to check whether the value of the target is exactly represented by "longValue()".
+     *
+     * @param target Validation target.
+     * @return true: the target is an integer class which fits in a long integer.
+     */
+    private static boolean isIntegral(Number target) {
+        return target instanceof Integer || target instanceof Long || target instanceof Short || target instanceof Byte
+                || target instanceof AtomicInteger || target instanceof AtomicLong || target instanceof LongAdder || target instanceof LongAccumulator;
+    }
 }
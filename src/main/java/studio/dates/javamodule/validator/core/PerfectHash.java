@@ -0,0 +1,188 @@
+package studio.dates.javamodule.validator.core;
+
+import java.util.Arrays;
+
+/**
+ * Validator Core (Validation Engine) for Dates Library Validator.<br>
+ * Perfect Hash is the collision-free two-level hash table layout (FKS) shared by the membership sets.<br>
+ * The keys are distributed to N buckets by the first hash, and each bucket of k keys gets its own table of k * k slots
+ * with the seed which places the keys without collision. The total size is kept under 4N slots.
+ * A lookup is two hash mixes and one comparison, with no probing.<br>
+ * Empty slots are filled with a key of the same bucket, so a slot always holds a key and the owner can compare without null checks:
+ * a key always lands on its own slot, so a filler slot is only reached by the values which are not in the set.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+final class PerfectHash {
+    /**
+     * Max attempts to find the seed before giving up (practically never reached).
+     */
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    /**
+     * Max number of the values listed in the exception messages.
+     */
+    static final int MAX_LISTED = 10;
+
+    /**
+     * The private field to store the seed of the first level.
+     */
+    private final int seed;
+
+    /**
+     * The private field to store the start of each bucket table (the bucket b is "offsets[b]" to "offsets[b + 1]").
+     */
+    private final int[] offsets;
+
+    /**
+     * The private field to store the seed of each bucket table.
+     */
+    private final int[] seeds;
+
+    /**
+     * The private field to store the index of the key in each slot.
+     */
+    private final int[] owners;
+
+    /**
+     * Package-private constructor to build the layout of the hashes.
+     *
+     * @param hashes 64-bit hashes of the keys (must be distinct).
+     * @throws IllegalArgumentException Exception thrown when the hashes are not distinct.
+     */
+    PerfectHash(long[] hashes) {
+        int n = Math.max(1, hashes.length);
+        int[] buckets = new int[hashes.length];
+        int[] counts = new int[n];
+        int seed = 0;
+        for(int attempt = 0; ; attempt++) {
+            if(attempt == MAX_ATTEMPTS) {throw new IllegalArgumentException("Keys cannot be distributed.");}
+            seed = attempt * 0x61C88647;
+            Arrays.fill(counts, 0);
+            long total = 0;
+            for(int i = 0; i < hashes.length; i++) {
+                buckets[i] = reduce(mix(hashes[i], seed), n);
+                total += 2L * counts[buckets[i]]++ + 1;
+            }
+            if(total <= 4L * n) {break;}
+        }
+        this.seed = seed;
+        this.offsets = new int[n + 1];
+        for(int b = 0; b < n; b++) {offsets[b + 1] = offsets[b] + counts[b] * counts[b];}
+        this.seeds = new int[n];
+        this.owners = new int[offsets[n]];
+        int[] members = new int[hashes.length];
+        int[] starts = new int[n + 1];
+        for(int b = 0; b < n; b++) {starts[b + 1] = starts[b] + counts[b];}
+        int[] fill = starts.clone();
+        for(int i = 0; i < hashes.length; i++) {members[fill[buckets[i]]++] = i;}
+        for(int b = 0; b < n; b++) {
+            if(counts[b] > 0) {place(hashes, members, starts[b], counts[b], b);}
+        }
+    }
+
+    /**
+     * Package-private method to find the slot of the hash.
+     *
+     * @param hash 64-bit hash of the value.
+     * @return Slot which holds the key with the hash if it is in the set, or -1 if the bucket is empty.
+     */
+    int slot(long hash) {
+        int b = reduce(mix(hash, seed), seeds.length);
+        int start = offsets[b];
+        int size = offsets[b + 1] - start;
+        if(size == 0) {return -1;}
+        return start + reduce(mix(hash, seeds[b]), size);
+    }
+
+    /**
+     * Package-private method to get the index of the key in the slot.
+     *
+     * @param slot Slot.
+     * @return Index of the key (for the empty slots, a key of the same bucket).
+     */
+    int owner(int slot) {
+        return owners[slot];
+    }
+
+    /**
+     * Package-private method to get the number of the slots.
+     *
+     * @return Number of the slots.
+     */
+    int size() {
+        return owners.length;
+    }
+
+    /**
+     * Package-private method to finish the list of the values for the exception messages.
+     *
+     * @param builder List of the first values (up to MAX_LISTED), starting with "[".
+     * @param count Number of the values.
+     * @return List of the values (e.g. "[A, B, C]" or "[A, B, ... (25 values)]").
+     */
+    static String listed(StringBuilder builder, int count) {
+        if(count > MAX_LISTED) {builder.append(", ... (").append(count).append(" values)");}
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Package-private method to mix the 64-bit hash with the seed (splitmix64 finalizer).
+     *
+     * @param hash Hash.
+     * @param seed Seed.
+     * @return Mixed hash.
+     */
+    static long mix(long hash, int seed) {
+        long x = hash ^ (seed * 0x9E3779B97F4A7C15L);
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Private internal method to find the seed of the bucket table, and place the keys.
+     *
+     * @param hashes 64-bit hashes of the keys.
+     * @param members Indexes of the keys sorted by the buckets.
+     * @param from Start of the bucket in "members".
+     * @param count Number of the keys in the bucket.
+     * @param bucket Bucket.
+     * @throws IllegalArgumentException Exception thrown when the hashes are not distinct.
+     */
+    private void place(long[] hashes, int[] members, int from, int count, int bucket) {
+        int start = offsets[bucket];
+        int size = count * count;
+        for(int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int seed = attempt * 0x61C88647;
+            Arrays.fill(owners, start, start + size, -1);
+            boolean placed = true;
+            for(int i = from; i < from + count && placed; i++) {
+                int slot = start + reduce(mix(hashes[members[i]], seed), size);
+                if(owners[slot] >= 0) {placed = false;}
+                else {owners[slot] = members[i];}
+            }
+            if(placed) {
+                seeds[bucket] = seed;
+                for(int slot = start; slot < start + size; slot++) {
+                    if(owners[slot] < 0) {owners[slot] = members[from];}
+                }
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Keys have the same hash.");
+    }
+
+    /**
+     * Private internal method to map the mixed hash to [0, size) without division.
+     *
+     * @param mixed Mixed hash.
+     * @param size Size of the table.
+     * @return Index.
+     */
+    private static int reduce(long mixed, int size) {
+        return (int) (((mixed >>> 32) * size) >>> 32);
+    }
+}
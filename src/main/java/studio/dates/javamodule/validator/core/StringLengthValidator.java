@@ -1,15 +1,109 @@
 package studio.dates.javamodule.validator.core;
+
+import studio.dates.javamodule.validator.enums.LengthMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Validator Core (Validation Engine) for Dates Library Validator.<br>
  * This class contains methods for String Length Validation.<br>
- * NOTE: Calculated length can be different from it appears to humans.<br>
+ * The length is measured in UTF-16 code units by default. The variants with LengthMode measure it in code points, UTF-8 bytes or graphemes
+ * in a single pass without allocation, and stop counting as soon as the result is decided.
+ * Characters below U+0300 (Latin-1 and other characters which never combine with the previous one) take a fast path without Unicode property lookups.<br>
+ * The max length of Reader and InputStream sources of unknown size is checked through a fixed-size buffer, and reading stops once the max length is exceeded,
+ * so oversized sources are rejected without reading them to the end.<br>
+ * NOTE: Calculated length can be different from it appears to humans (except GRAPHEMES).<br>
  *       Direct usage of the methods in this class is not recommended.
  *
  * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
  *
- * @version 1.0.0 (Aug. 10, 2021)
+ * @version 1.1.0 (Oct. 19, 2026)
  */
 public class StringLengthValidator {
+    /**
+     * Size of the buffer to read Reader and InputStream sources.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Grapheme class: start of the text (nothing to join).
+     */
+    static final int NONE = 0;
+
+    /**
+     * Grapheme class: carriage return.
+     */
+    static final int CR = 1;
+
+    /**
+     * Grapheme class: line feed.
+     */
+    static final int LF = 2;
+
+    /**
+     * Grapheme class: control, format and separator characters (never joined).
+     */
+    static final int CONTROL = 3;
+
+    /**
+     * Grapheme class: combining marks, emoji modifiers, tags and ZWNJ (joined to the previous character).
+     */
+    static final int EXTEND = 4;
+
+    /**
+     * Grapheme class: zero width joiner.
+     */
+    static final int ZWJ = 5;
+
+    /**
+     * Grapheme class: regional indicators (joined in pairs as flags).
+     */
+    static final int RI = 6;
+
+    /**
+     * Grapheme class: Hangul leading consonant.
+     */
+    static final int L = 7;
+
+    /**
+     * Grapheme class: Hangul vowel.
+     */
+    static final int V = 8;
+
+    /**
+     * Grapheme class: Hangul trailing consonant.
+     */
+    static final int T = 9;
+
+    /**
+     * Grapheme class: Hangul LV syllable.
+     */
+    static final int LV = 10;
+
+    /**
+     * Grapheme class: Hangul LVT syllable.
+     */
+    static final int LVT = 11;
+
+    /**
+     * Grapheme class: spacing combining marks (joined to the previous character).
+     */
+    static final int SPACING = 12;
+
+    /**
+     * Grapheme class: pictographic characters (emojis).
+     */
+    static final int PICTO = 13;
+
+    /**
+     * Grapheme class: other characters.
+     */
+    static final int OTHER = 14;
+
     /**
      * Check whether the target matches its min length requirement.<br>
      * NOTE: Calculated length can be different from it appears to humans.
@@ -45,7 +139,7 @@ public class StringLengthValidator {
      */
     public static boolean length(String target, int minInclusive, int maxInclusive) {
         int length = target.length();
-        return  length >= minInclusive && length >= maxInclusive;
+        return  length >= minInclusive && length <= maxInclusive;
     }
 
     /**
@@ -59,4 +153,301 @@ public class StringLengthValidator {
     public static boolean length(String target, int length) {
         return target.length() == length;
     }
+
+    /**
+     * Check whether the target matches its min length requirement in the length mode.<br>
+     * Counting stops when the min length is reached.
+     *
+     * @param target Validation target.
+     * @param mode Unit of the length.
+     * @param minInclusive Min length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean min(CharSequence target, LengthMode mode, int minInclusive) {
+        if(minInclusive <= 0) {return true;}
+        int length = target.length();
+        if(mode == LengthMode.UTF8_BYTES && length >= minInclusive) {return true;}
+        if(mode != LengthMode.UTF8_BYTES && length < minInclusive) {return false;}
+        return count(target, mode, minInclusive - 1) >= minInclusive;
+    }
+
+    /**
+     * Check whether the target matches its max length requirement in the length mode.<br>
+     * Counting stops when the max length is exceeded.
+     *
+     * @param target Validation target.
+     * @param mode Unit of the length.
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean max(CharSequence target, LengthMode mode, int maxInclusive) {
+        int length = target.length();
+        if(mode == LengthMode.UTF8_BYTES && length > maxInclusive) {return false;}
+        if(mode == LengthMode.UTF8_BYTES ? length * 3L <= maxInclusive : length <= maxInclusive) {return true;}
+        return count(target, mode, maxInclusive) <= maxInclusive;
+    }
+
+    /**
+     * Check whether the target matches its min and max length requirement in the length mode.<br>
+     * Counting stops when the max length is exceeded.
+     *
+     * @param target Validation target.
+     * @param mode Unit of the length.
+     * @param minInclusive Min length (inclusive).
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     */
+    public static boolean length(CharSequence target, LengthMode mode, int minInclusive, int maxInclusive) {
+        long length = count(target, mode, maxInclusive);
+        return length >= minInclusive && length <= maxInclusive;
+    }
+
+    /**
+     * Check whether the target matches its length requirement in the length mode.<br>
+     * Counting stops when the length is exceeded.
+     *
+     * @param target Validation target.
+     * @param mode Unit of the length.
+     * @param length Length.
+     * @return Validation result.
+     */
+    public static boolean length(CharSequence target, LengthMode mode, int length) {
+        return count(target, mode, length) == length;
+    }
+
+    /**
+     * Check whether the text read from the source matches its max length requirement in the length mode.<br>
+     * The source is read in chunks of the fixed-size buffer, and reading stops as soon as the max length is exceeded
+     * (for UTF16, no more than "maxInclusive + 1" characters are read). The source is not closed.
+     *
+     * @param source Validation target.
+     * @param mode Unit of the length.
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    public static boolean max(Reader source, LengthMode mode, long maxInclusive) throws IOException {
+        LengthCounter counter = new LengthCounter(mode);
+        char[] buffer = new char[BUFFER_SIZE];
+        long count = 0;
+        while(count <= maxInclusive) {
+            int size = mode == LengthMode.UTF16 ? remaining(maxInclusive, count) : BUFFER_SIZE;
+            int read = source.read(buffer, 0, size);
+            if(read < 0) {return counter.finish() <= maxInclusive;}
+            count = counter.add(buffer, 0, read);
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the UTF-8 text read from the source matches its max length requirement in the length mode.<br>
+     * For UTF8_BYTES, the bytes are counted without decoding, and no more than "maxInclusive + 1" bytes are read.
+     * For the other modes, the source is decoded as UTF-8 (malformed bytes are counted as U+FFFD) and checked as Reader.
+     * The source is not closed.
+     *
+     * @param source Validation target.
+     * @param mode Unit of the length.
+     * @param maxInclusive Max length (inclusive).
+     * @return Validation result.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    public static boolean max(InputStream source, LengthMode mode, long maxInclusive) throws IOException {
+        if(mode != LengthMode.UTF8_BYTES) {return max(new InputStreamReader(source, StandardCharsets.UTF_8), mode, maxInclusive);}
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long count = 0;
+        while(count <= maxInclusive) {
+            int read = source.read(buffer, 0, remaining(maxInclusive, count));
+            if(read < 0) {return true;}
+            count += read;
+        }
+        return false;
+    }
+
+    /**
+     * Measure the length of the target in the length mode.<br>
+     * Counting stops as soon as the length exceeds "limit": the result is exact if it is smaller than or equal to "limit",
+     * and otherwise it is only guaranteed to be larger than "limit".
+     *
+     * @param target Target string.
+     * @param mode Unit of the length.
+     * @param limit Length beyond which counting can stop (Long.MAX_VALUE to count all).
+     * @return Length of the target.
+     */
+    public static long count(CharSequence target, LengthMode mode, long limit) {
+        switch (mode) {
+            case CODE_POINTS:
+                return codePoints(target, limit);
+            case UTF8_BYTES:
+                return utf8Bytes(target, limit);
+            case GRAPHEMES:
+                return graphemes(target, limit);
+            default:
+                return target.length();
+        }
+    }
+
+    /**
+     * Private internal method to decide the size to read, so that no more than "maxInclusive + 1" units are read.
+     *
+     * @param maxInclusive Max length (inclusive).
+     * @param count Length read so far (smaller than or equal to maxInclusive).
+     * @return Size to read (1 - BUFFER_SIZE).
+     */
+    private static int remaining(long maxInclusive, long count) {
+        return maxInclusive - count < BUFFER_SIZE ? (int) (maxInclusive - count + 1) : BUFFER_SIZE;
+    }
+
+    /**
+     * Private internal method to count the code points.
+     *
+     * @param target Target string.
+     * @param limit Length beyond which counting can stop.
+     * @return Number of the code points.
+     */
+    private static long codePoints(CharSequence target, long limit) {
+        int length = target.length();
+        long count = 0;
+        for(int i = 0; i < length; i++) {
+            char c = target.charAt(i);
+            if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(target.charAt(i + 1))) {i++;}
+            if(++count > limit) {return count;}
+        }
+        return count;
+    }
+
+    /**
+     * Private internal method to count the bytes encoded in UTF-8. ASCII prefix is counted without branches per character.
+     *
+     * @param target Target string.
+     * @param limit Length beyond which counting can stop.
+     * @return Number of the bytes.
+     */
+    private static long utf8Bytes(CharSequence target, long limit) {
+        int length = target.length();
+        int prefix = limit < length ? (int) limit + 1 : length;
+        int i = 0;
+        while(i < prefix && target.charAt(i) < 0x80) {i++;}
+        long bytes = i;
+        for(; i < length && bytes <= limit; i++) {
+            char c = target.charAt(i);
+            if(c < 0x80) {bytes++;}
+            else if(c < 0x800) {bytes += 2;}
+            else if(!Character.isSurrogate(c)) {bytes += 3;}
+            else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(target.charAt(i + 1))) {bytes += 4; i++;}
+            else {bytes++;}
+        }
+        return bytes;
+    }
+
+    /**
+     * Private internal method to count the extended grapheme clusters.
+     *
+     * @param target Target string.
+     * @param limit Length beyond which counting can stop.
+     * @return Number of the graphemes.
+     */
+    private static long graphemes(CharSequence target, long limit) {
+        int length = target.length();
+        long count = 0;
+        int previous = NONE;
+        int emoji = 0;
+        boolean oddRi = false;
+        for(int i = 0; i < length; ) {
+            char c = target.charAt(i++);
+            int current;
+            if(c < 0x300) {current = latin(c);}
+            else if(Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(target.charAt(i))) {current = classify(Character.toCodePoint(c, target.charAt(i++)));}
+            else {current = classify(c);}
+            if(!joins(previous, current, emoji == 2, oddRi) && ++count > limit) {return count;}
+            emoji = emoji(emoji, current);
+            oddRi = current == RI && !(previous == RI && oddRi);
+            previous = current;
+        }
+        return count;
+    }
+
+    /**
+     * Package-private method to classify the character below U+0300. These characters never join the previous one except LF after CR.
+     *
+     * @param c Character.
+     * @return Grapheme class.
+     */
+    static int latin(char c) {
+        if(c == '\r') {return CR;}
+        if(c == '\n') {return LF;}
+        if(c < 0x20 || (c >= 0x7F && c < 0xA0) || c == 0xAD) {return CONTROL;}
+        if(c == 0xA9 || c == 0xAE) {return PICTO;}
+        return OTHER;
+    }
+
+    /**
+     * Package-private method to classify the code point.
+     *
+     * @param cp Code point.
+     * @return Grapheme class.
+     */
+    static int classify(int cp) {
+        if(cp < 0x300) {return latin((char) cp);}
+        if(cp == 0x200D) {return ZWJ;}
+        if(cp == 0x200C || (cp >= 0x1F3FB && cp <= 0x1F3FF) || (cp >= 0xE0020 && cp <= 0xE007F)) {return EXTEND;}
+        if(cp >= 0x1F1E6 && cp <= 0x1F1FF) {return RI;}
+        if((cp >= 0x1100 && cp <= 0x115F) || (cp >= 0xA960 && cp <= 0xA97C)) {return L;}
+        if((cp >= 0x1160 && cp <= 0x11A7) || (cp >= 0xD7B0 && cp <= 0xD7C6)) {return V;}
+        if((cp >= 0x11A8 && cp <= 0x11FF) || (cp >= 0xD7CB && cp <= 0xD7FB)) {return T;}
+        if(cp >= 0xAC00 && cp <= 0xD7A3) {return (cp - 0xAC00) % 28 == 0 ? LV : LVT;}
+        if((cp >= 0x1F000 && cp <= 0x1FAFF) || (cp >= 0x2600 && cp <= 0x27BF) || (cp >= 0x2300 && cp <= 0x23FF) || (cp >= 0x2B00 && cp <= 0x2BFF)
+                || (cp >= 0x2194 && cp <= 0x21AA) || cp == 0x203C || cp == 0x2049 || cp == 0x2122 || cp == 0x2139
+                || cp == 0x3030 || cp == 0x303D || cp == 0x3297 || cp == 0x3299) {return PICTO;}
+        switch (Character.getType(cp)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+                return EXTEND;
+            case Character.COMBINING_SPACING_MARK:
+                return SPACING;
+            case Character.CONTROL:
+            case Character.FORMAT:
+            case Character.LINE_SEPARATOR:
+            case Character.PARAGRAPH_SEPARATOR:
+            case Character.SURROGATE:
+                return CONTROL;
+            default:
+                return OTHER;
+        }
+    }
+
+    /**
+     * Package-private method to decide whether the character joins the grapheme of the previous one (UAX #29, GB3 - GB13).
+     *
+     * @param previous Grapheme class of the previous character.
+     * @param current Grapheme class of the character.
+     * @param emojiZwj Whether the previous characters are an emoji followed by extends and ZWJ (GB11).
+     * @param oddRi Whether the previous character is an unpaired regional indicator (GB12, GB13).
+     * @return true: the character is in the same grapheme.
+     */
+    static boolean joins(int previous, int current, boolean emojiZwj, boolean oddRi) {
+        if(previous == NONE) {return false;}
+        if(previous == CR) {return current == LF;}
+        if(previous == LF || previous == CONTROL || current == CR || current == LF || current == CONTROL) {return false;}
+        if(previous == L && (current == L || current == V || current == LV || current == LVT)) {return true;}
+        if((previous == V || previous == LV) && (current == V || current == T)) {return true;}
+        if((previous == T || previous == LVT) && current == T) {return true;}
+        if(current == EXTEND || current == ZWJ || current == SPACING) {return true;}
+        if(current == PICTO) {return previous == ZWJ && emojiZwj;}
+        if(current == RI) {return previous == RI && oddRi;}
+        return false;
+    }
+
+    /**
+     * Package-private method to track emoji sequences (GB11): 1 after an emoji and its extends, 2 after the following ZWJ, and 0 otherwise.
+     *
+     * @param state State before the character.
+     * @param current Grapheme class of the character.
+     * @return State after the character.
+     */
+    static int emoji(int state, int current) {
+        if(current == PICTO) {return 1;}
+        if(state == 1 && current == EXTEND) {return 1;}
+        if(state == 1 && current == ZWJ) {return 2;}
+        return 0;
+    }
 }
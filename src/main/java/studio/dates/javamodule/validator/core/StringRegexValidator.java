@@ -1,7 +1,10 @@
 package studio.dates.javamodule.validator.core;
 
+import studio.dates.javamodule.validator.core.regex.PatternCache;
 import studio.dates.javamodule.validator.core.regex.Regex;
 
+import java.util.regex.Pattern;
+
 /**
  * Validator Core (Validation Engine) for Dates Library Validator.<br>
  * This class contains methods for Regular Expression check.<br>
@@ -13,14 +16,41 @@ import studio.dates.javamodule.validator.core.regex.Regex;
  */
 public class StringRegexValidator {
     /**
-     * Check whether the target matches the regular expression.
+     * Compiled pattern for email format.
+     */
+    private static final Pattern email = Pattern.compile(Regex.email);
+
+    /**
+     * Compiled pattern for http/https uri format.
+     */
+    private static final Pattern http = Pattern.compile(Regex.http);
+
+    /**
+     * Compiled pattern for phone number format.
+     */
+    private static final Pattern phone = Pattern.compile(Regex.phone);
+
+    /**
+     * Check whether the target matches the regular expression.<br>
+     * Compiled patterns are kept in the shared Pattern Cache.
      *
      * @param target Validation target.
      * @param regex Regular expression.
      * @return Validation result.
      */
     public static boolean regex(String target, String regex) {
-        return target.matches(regex);
+        return PatternCache.shared().get(regex).matcher(target).matches();
+    }
+
+    /**
+     * Check whether the target matches the compiled regular expression.
+     *
+     * @param target Validation target.
+     * @param pattern Compiled regular expression.
+     * @return Validation result.
+     */
+    public static boolean regex(String target, Pattern pattern) {
+        return pattern.matcher(target).matches();
     }
 
     /**
@@ -30,7 +60,7 @@ public class StringRegexValidator {
      * @return Validation result.
      */
     public static boolean email(String target) {
-        return target.matches(Regex.email);
+        return email.matcher(target).matches();
     }
 
     /**
@@ -40,7 +70,7 @@ public class StringRegexValidator {
      * @return Validation result.
      */
     public static boolean http(String target) {
-        return target.matches(Regex.http);
+        return http.matcher(target).matches();
     }
 
     /**
@@ -50,6 +80,6 @@ public class StringRegexValidator {
      * @return Validation result.
      */
     public static boolean phone(String target) {
-        return target.matches(Regex.phone);
+        return phone.matcher(target).matches();
     }
 }
@@ -0,0 +1,177 @@
+package studio.dates.javamodule.validator.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String Set is an immutable set of string codes for the membership constraints (Validator.in() / Validator.notIn()).<br>
+ * The set is laid out in a collision-free perfect hash table when it is created, so "contains()" hashes the target once,
+ * finds its only candidate slot, and compares it with "equals()" (or "equalsIgnoreCase()").<br>
+ * Case-insensitive sets hash the target with the case folded per character (the same folding as "equalsIgnoreCase()"),
+ * so the target is never converted with "toLowerCase()" and no string is allocated.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;private static final StringSet CURRENCY = StringSet.of("JPY", "USD", "EUR");<br>
+ *          &nbsp;&nbsp;private static final StringSet RESERVED = StringSet.ofIgnoreCase("admin", "root", "system");
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;Validator.in(order.getCurrency(), Nullable.NOT_NULL, CURRENCY, "currency");<br>
+ *          &nbsp;&nbsp;Validator.notIn(user.getName(), Nullable.NOT_NULL, RESERVED, "name");
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public final class StringSet {
+    /**
+     * The private field to store the hash table layout.
+     */
+    private final PerfectHash hash;
+
+    /**
+     * The private field to store the key of each slot.
+     */
+    private final String[] keys;
+
+    /**
+     * The private field to store whether the case is ignored.
+     */
+    private final boolean ignoreCase;
+
+    /**
+     * The private field to store the number of the values.
+     */
+    private final int size;
+
+    /**
+     * The private field to store the values in the exception messages.
+     */
+    private final String text;
+
+    /**
+     * Private constructor with the values and the case sensitivity as the arguments.
+     *
+     * @param values Values.
+     * @param ignoreCase Whether the case is ignored.
+     */
+    private StringSet(String[] values, boolean ignoreCase) {
+        Map<Long, String> distinct = new HashMap<>();
+        List<String> list = new ArrayList<>();
+        for(String value : values) {
+            if(value == null) {throw new IllegalArgumentException("Values must not be null.");}
+            String previous = distinct.putIfAbsent(hash(value, ignoreCase), value);
+            if(previous == null) {list.add(value);}
+            else if(!(ignoreCase ? previous.equalsIgnoreCase(value) : previous.equals(value))) {
+                throw new IllegalArgumentException("Values have the same hash: \"" + previous + "\", \"" + value + "\".");
+            }
+        }
+        long[] hashes = new long[list.size()];
+        for(int i = 0; i < hashes.length; i++) {hashes[i] = hash(list.get(i), ignoreCase);}
+        this.hash = new PerfectHash(hashes);
+        this.keys = new String[hash.size()];
+        for(int slot = 0; slot < keys.length; slot++) {keys[slot] = list.get(hash.owner(slot));}
+        this.ignoreCase = ignoreCase;
+        this.size = list.size();
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < size && i < PerfectHash.MAX_LISTED; i++) {builder.append(i == 0 ? "" : ", ").append(list.get(i));}
+        this.text = PerfectHash.listed(builder, size);
+    }
+
+    /**
+     * Create a case-sensitive set. Duplicated values are ignored.
+     *
+     * @param values Values (not null).
+     * @return Set.
+     */
+    public static StringSet of(String... values) {
+        return new StringSet(values, false);
+    }
+
+    /**
+     * Create a case-insensitive set. Values equal ignoring case are treated as duplicates, and the first one is kept.
+     *
+     * @param values Values (not null).
+     * @return Set.
+     */
+    public static StringSet ofIgnoreCase(String... values) {
+        return new StringSet(values, true);
+    }
+
+    /**
+     * Check whether the value is in the set.
+     *
+     * @param value Value.
+     * @return true: the value is in the set (false for null).
+     */
+    public boolean contains(String value) {
+        if(value == null) {return false;}
+        int slot = hash.slot(hash(value, ignoreCase));
+        if(slot < 0) {return false;}
+        return ignoreCase ? keys[slot].equalsIgnoreCase(value) : keys[slot].equals(value);
+    }
+
+    /**
+     * Getter for "size" field.
+     *
+     * @return Number of the values.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for "ignoreCase" field.
+     *
+     * @return Whether the case is ignored.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * Get the values for the exception messages.
+     *
+     * @return Values (up to 10 values are listed).
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Private internal method to hash the string (64-bit FNV-1a) without allocation.<br>
+     * With "ignoreCase", every code point is folded with "toLowerCase(toUpperCase())" before it is hashed,
+     * so the strings equal by "equalsIgnoreCase()" have the same hash. ASCII characters are folded without the Unicode tables.
+     *
+     * @param value String.
+     * @param ignoreCase Whether the case is ignored.
+     * @return Hash.
+     */
+    private static long hash(String value, boolean ignoreCase) {
+        long h = 0xCBF29CE484222325L;
+        int length = value.length();
+        for(int i = 0; i < length; i++) {
+            int c = value.charAt(i);
+            if(ignoreCase) {
+                if(c < 0x80) {
+                    if(c >= 'A' && c <= 'Z') {c += 'a' - 'A';}
+                } else {
+                    if(Character.isHighSurrogate((char) c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        c = Character.toCodePoint((char) c, value.charAt(++i));
+                    }
+                    c = Character.toLowerCase(Character.toUpperCase(c));
+                }
+            }
+            h = (h ^ c) * 0x100000001B3L;
+        }
+        return h;
+    }
+}
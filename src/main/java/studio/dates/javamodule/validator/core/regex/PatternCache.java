@@ -0,0 +1,173 @@
+package studio.dates.javamodule.validator.core.regex;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regular expressions used by the regex checks.<br>
+ * Lookups do not take any lock. When the cache is full, an arbitrary entry is evicted before a new pattern is added.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class PatternCache {
+    /**
+     * Default max number of the cached patterns.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * The private field to store the cache shared by Validator and BooleanValidator.
+     */
+    private static final PatternCache shared = new PatternCache(DEFAULT_MAX_SIZE);
+
+    /**
+     * The private field to store the compiled patterns by the regular expression.
+     */
+    private final ConcurrentHashMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    /**
+     * The private field to store the max number of the cached patterns.
+     */
+    private volatile int maxSize;
+
+    /**
+     * The private field to store the number of the cache hits.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The private field to store the number of the cache misses.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor with the max size as the argument.
+     *
+     * @param maxSize Max number of the cached patterns. 0 disables caching.
+     */
+    public PatternCache(int maxSize) {
+        if(maxSize < 0) {throw new IllegalArgumentException("maxSize must not be negative.");}
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cache shared by Validator and BooleanValidator.
+     *
+     * @return Shared pattern cache.
+     */
+    public static PatternCache shared() {
+        return shared;
+    }
+
+    /**
+     * Get the compiled pattern of the regular expression.
+     *
+     * @param regex Regular expression.
+     * @return Compiled pattern.
+     */
+    public Pattern get(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if(pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+        misses.increment();
+        pattern = Pattern.compile(regex);
+        int max = maxSize;
+        if(max > 0) {
+            while (patterns.size() >= max && evict()) {}
+            Pattern existing = patterns.putIfAbsent(regex, pattern);
+            if(existing != null) {return existing;}
+        }
+        return pattern;
+    }
+
+    /**
+     * Change the max size. Entries exceeding the new size are evicted.
+     *
+     * @param maxSize Max number of the cached patterns. 0 disables caching.
+     */
+    public void resize(int maxSize) {
+        if(maxSize < 0) {throw new IllegalArgumentException("maxSize must not be negative.");}
+        this.maxSize = maxSize;
+        while (patterns.size() > maxSize && evict()) {}
+    }
+
+    /**
+     * Getter for "maxSize" field.
+     *
+     * @return Max number of the cached patterns.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the number of the cached patterns.
+     *
+     * @return Current size.
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    /**
+     * Get the number of the cache hits.
+     *
+     * @return Number of the hits since the last reset.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of the cache misses.
+     *
+     * @return Number of the misses since the last reset.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of the cache hits.
+     *
+     * @return Hits / (hits + misses), or 0 if the cache has not been used.
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * Clear the hit and miss counters. Cached patterns are kept.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Remove all the cached patterns.
+     */
+    public void clear() {
+        patterns.clear();
+    }
+
+    /**
+     * Private internal method to remove an arbitrary entry.
+     *
+     * @return false if the cache is empty.
+     */
+    private boolean evict() {
+        Iterator<String> iterator = patterns.keySet().iterator();
+        if(!iterator.hasNext()) {return false;}
+        patterns.remove(iterator.next());
+        return true;
+    }
+}
@@ -23,5 +23,5 @@ public class Regex {
     /**
      * Regular expression for phone number format.
      */
-    public static final String phone = "^\\+?[\\d\\W]{,32}";
+    public static final String phone = "^\\+?[\\d\\W]{0,32}";
 }
@@ -0,0 +1,55 @@
+package studio.dates.javamodule.validator.enums;
+
+/**
+ * Enum defines the tokens reported by the streaming JSON tokenizer.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public enum JsonToken {
+    /**
+     * Beginning of an object ("{").
+     */
+    START_OBJECT,
+    /**
+     * End of an object ("}").
+     */
+    END_OBJECT,
+    /**
+     * Beginning of an array ("[").
+     */
+    START_ARRAY,
+    /**
+     * End of an array ("]").
+     */
+    END_ARRAY,
+    /**
+     * Name of an object field. The following token is the value of the field.
+     */
+    FIELD_NAME,
+    /**
+     * String value.
+     */
+    STRING,
+    /**
+     * Numeric value.
+     */
+    NUMBER,
+    /**
+     * Literal "true".
+     */
+    TRUE,
+    /**
+     * Literal "false".
+     */
+    FALSE,
+    /**
+     * Literal "null".
+     */
+    NULL,
+    /**
+     * End of the document. No more tokens are available.
+     */
+    END_DOCUMENT;
+}
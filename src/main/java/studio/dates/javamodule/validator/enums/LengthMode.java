@@ -0,0 +1,50 @@
+package studio.dates.javamodule.validator.enums;
+
+/**
+ * Enum used to specify the unit of the string length during validation process.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public enum LengthMode {
+    /**
+     * UTF-16 code units ("String.length()"). A character out of the BMP (e.g. most emojis) is counted as 2.
+     */
+    UTF16("UTF-16 units"),
+    /**
+     * Unicode code points. A surrogate pair is counted as 1.
+     */
+    CODE_POINTS("code points"),
+    /**
+     * Bytes encoded in UTF-8 (e.g. storage limits). A lone surrogate is counted as 1, as it is replaced with "?" when encoded.
+     */
+    UTF8_BYTES("UTF-8 bytes"),
+    /**
+     * Extended grapheme clusters (characters as they appear to humans, e.g. UI limits).<br>
+     * NOTE: Clusters are found with the rules of UAX #29 except Prepend and Indic conjuncts, and emojis are recognized by the code point blocks.
+     */
+    GRAPHEMES("graphemes");
+
+    /**
+     * String used for Validation Exception message.
+     */
+    private final String message;
+
+    /**
+     * Getter for "message" field.
+     * @return Validation Exception message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Constructor with message (used for Validation Exception message) as the argument.
+     *
+     * @param message String used for Validation Exception message.
+     */
+    LengthMode(String message) {
+        this.message = message;
+    }
+}
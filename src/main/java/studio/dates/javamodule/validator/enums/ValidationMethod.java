@@ -4,11 +4,13 @@ package studio.dates.javamodule.validator.enums;
  * Enum defines Validation Methods.<br>
  *     1. SYNCHRONOUS: Process validation methods not depending on the result of other methods. Multiple Validation Exceptions can be thrown.<br>
  *     2. SEQUENTIAL: Process validation methods sequentially. If one method throws an exception, then stops validating. Only one Validation Exception can be thrown.<br>
+ *     3. FAIL_FAST: Same as SEQUENTIAL. The name is provided to make the intention explicit.<br>
+ *     4. COLLECT_UP_TO: Process validation methods as SYNCHRONOUS, but stops validating when the limit of the failures is reached.<br>
  * NOTE: This method selection is only applicable for Throwing validation methods. Boolean Methods only can be SEQUENTIAL.
  *
  * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
  *
- * @version 1.0.0 (Aug. 9, 2021)
+ * @version 1.1.0 (Oct. 19, 2026)
  */
 public enum ValidationMethod {
     /**
@@ -18,5 +20,14 @@ public enum ValidationMethod {
     /**
      * Process validation methods sequentially. If one method throws an exception, then stops validating. Only one Validation Exception can be thrown.
      */
-    SEQUENTIAL;
+    SEQUENTIAL,
+    /**
+     * Process validation methods sequentially, and stops validating at the first failure. The exception of the failed method is thrown as it is.
+     */
+    FAIL_FAST,
+    /**
+     * Process validation methods not depending on the result of other methods, but stops validating when the limit of the failures is reached.<br>
+     * The limit is set with "collectUpTo()" of the validators. Without the limit, this behaves just as "SYNCHRONOUS".
+     */
+    COLLECT_UP_TO;
 }
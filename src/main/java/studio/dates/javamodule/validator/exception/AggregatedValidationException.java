@@ -0,0 +1,61 @@
+package studio.dates.javamodule.validator.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validation Exception thrown by the validators collecting multiple failures (SYNCHRONOUS and COLLECT_UP_TO).<br>
+ * Individual exceptions are kept as a list, and the message is rendered only when it is requested.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class AggregatedValidationException extends ValidationException {
+    /**
+     * The private field to store the individual exceptions.
+     */
+    private final List<ValidationException> violations;
+
+    /**
+     * The private field to store the rendered message.
+     */
+    private String message;
+
+    /**
+     * Constructor with the individual exceptions as the argument.
+     *
+     * @param violations Individual exceptions in the order of the failed constraints. The list must not be modified afterwards.
+     */
+    public AggregatedValidationException(List<ValidationException> violations) {
+        super(null);
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Getter for "violations" field.
+     *
+     * @return Individual exceptions in the order of the failed constraints.
+     */
+    public List<ValidationException> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Get the messages of the individual exceptions joined with line breaks.
+     *
+     * @return Exception Message.
+     */
+    @Override
+    public String getMessage() {
+        if(message == null) {
+            StringBuilder builder = new StringBuilder();
+            for(ValidationException violation : violations) {
+                if(builder.length() > 0) {builder.append('\n');}
+                builder.append(violation.getMessage());
+            }
+            message = builder.toString();
+        }
+        return message;
+    }
+}
@@ -46,6 +46,10 @@ public class ExceptionMessage {
      * NumericValueRangeViolationException message for float/double value.
      */
     public static final String numericRangeViolationException2 = "Value expected to be in the following range: %f (%s) - %f (%s).";
+    /**
+     * NumericValueRangeViolationException message for BigDecimal/BigInteger value.
+     */
+    public static final String numericRangeViolationException3 = "Value expected to be in the following range: %s (%s) - %s (%s).";
     /**
      * MinValueViolationException message for integer value.
      */
@@ -54,6 +58,10 @@ public class ExceptionMessage {
      * MinValueViolationException message for float/double value.
      */
     public static final String minValueViolationMessage2 = "Min value is %f (%s)";
+    /**
+     * MinValueViolationException message for BigDecimal/BigInteger value.
+     */
+    public static final String minValueViolationMessage3 = "Min value is %s (%s).";
     /**
      * MaxValueViolationException message for integer value.
      */
@@ -62,6 +70,10 @@ public class ExceptionMessage {
      * MaxValueViolationException message for float/double value.
      */
     public static final String maxValueViolationMessage2 = "Max value is %f (%s).";
+    /**
+     * MaxValueViolationException message for BigDecimal/BigInteger value.
+     */
+    public static final String maxValueViolationMessage3 = "Max value is %s (%s).";
 
     /**
      * LengthViolationException message for range requirement.
@@ -79,6 +91,26 @@ public class ExceptionMessage {
      * MaxLengthViolationException message.
      */
     public static final String maxLengthViolationMessage = "Max string length is %d (inclusive). Provided string length is %d.";
+    /**
+     * LengthViolationException message for range requirement in the length mode.
+     */
+    public static final String lengthViolationMessage3 = "String length is not in its required range: %d (inclusive) - %d (inclusive) %s. Provided string length is %d %s.";
+    /**
+     * LengthViolationException message for fixed requirement in the length mode.
+     */
+    public static final String lengthViolationMessage4 = "String length is required to be %d %s. Provided string length is %d %s.";
+    /**
+     * MinLengthViolationException message in the length mode.
+     */
+    public static final String minLengthViolationMessage2 = "Min string length is %d %s (inclusive). Provided string length is %d %s.";
+    /**
+     * MaxLengthViolationException message in the length mode.
+     */
+    public static final String maxLengthViolationMessage2 = "Max string length is %d %s (inclusive). Provided string length is %d %s.";
+    /**
+     * MaxLengthViolationException message for streaming sources (the source is not read to the end).
+     */
+    public static final String maxLengthViolationMessage3 = "Max length is %d %s (inclusive). Provided source is longer.";
 
     /**
      * StringFormatViolationException message.
@@ -97,6 +129,30 @@ public class ExceptionMessage {
      */
     public static final String phoneFormatViolationMessage = "String must match phone number format.";
 
+    /**
+     * MembershipViolationException message.
+     */
+    public static final String membershipViolationMessage = "Must be one of the following values: %s.";
+    /**
+     * DeniedValueViolationException message.
+     */
+    public static final String deniedValueViolationMessage = "Must NOT be any of the following values: %s.";
+
+    /**
+     * JsonFormatViolationException message for malformed documents.
+     */
+    public static final String jsonFormatViolationMessage = "Malformed JSON at offset %d: %s";
+
+    /**
+     * ValidationException message for the targets satisfying a negated rule.
+     */
+    public static final String negatedRuleViolationMessage = "Must NOT satisfy the negated rule.";
+
+    /**
+     * Message for modifications of the frozen validators.
+     */
+    public static final String frozenValidatorMessage = "Validator is frozen. Settings and constraints cannot be changed.";
+
     /**
      * Message for unexpected exceptions.
      */
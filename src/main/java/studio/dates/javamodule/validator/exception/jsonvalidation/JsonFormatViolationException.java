@@ -0,0 +1,22 @@
+package studio.dates.javamodule.validator.exception.jsonvalidation;
+
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+/**
+ * Validation Exception thrown by JSON validator when the document is not well-formed JSON,<br>
+ * or when a value does not have the structure required by the validation rules.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class JsonFormatViolationException extends ValidationException {
+    /**
+     * Constructor with Validation Message as the argument.
+     *
+     * @param message Exception Message
+     */
+    public JsonFormatViolationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package studio.dates.javamodule.validator.exception.membership;
+
+/**
+ * Validation Exception thrown by "notIn()" validation method when the target is one of the denied values.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class DeniedValueViolationException extends MembershipViolationException {
+    /**
+     * Constructor with Validation Message as the argument.
+     *
+     * @param message Exception Message
+     */
+    public DeniedValueViolationException(String message) {
+        super(message);
+    }
+}
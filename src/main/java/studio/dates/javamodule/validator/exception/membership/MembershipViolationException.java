@@ -0,0 +1,21 @@
+package studio.dates.javamodule.validator.exception.membership;
+
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+/**
+ * Validation Exception thrown by "in()" validation method when the target is not one of the allowed values.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class MembershipViolationException extends ValidationException {
+    /**
+     * Constructor with Validation Message as the argument.
+     *
+     * @param message Exception Message
+     */
+    public MembershipViolationException(String message) {
+        super(message);
+    }
+}
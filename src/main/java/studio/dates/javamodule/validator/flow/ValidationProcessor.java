@@ -0,0 +1,494 @@
+package studio.dates.javamodule.validator.flow;
+
+import studio.dates.javamodule.validator.classvalidator.ClassValidator;
+import studio.dates.javamodule.validator.exception.ValidationException;
+import studio.dates.javamodule.validator.stream.ValidationFailure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Validation Processor is a reactive stage which validates the elements with frozen Class Validator.<br>
+ * Valid elements are published downstream, and invalid elements are published through the error publisher ("errors()").
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;ValidationProcessor&lt;Person&gt; processor = new ValidationProcessor&lt;&gt;(validator, executor, 64);<br>
+ *          &nbsp;&nbsp;processor.errors().subscribe(deadLetterSubscriber);<br>
+ *          &nbsp;&nbsp;processor.subscribe(downstreamSubscriber);<br>
+ *          &nbsp;&nbsp;upstreamPublisher.subscribe(processor);
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * Elements are validated in micro-batches on the executor, so the upstream thread is never blocked by validation.<br>
+ * At most "batchSize" elements are requested from upstream at a time, and more elements are requested only after the previous ones are handed to downstream.
+ * The elements in flight to each subscriber are tracked, and when a subscriber has "batchSize" elements not delivered yet, the drain stops.
+ * It is resumed on the executor when that subscriber takes an element (i.e. on its demand) or cancels,
+ * so no executor thread waits for the downstream demand (which would deadlock if the subscribers are delivered on the same executor).<br>
+ * Valid elements are never dropped: until the first downstream subscriber subscribes (or after all of them cancel),
+ * the drain stops and upstream is not requested beyond the first batch.<br>
+ * NOTE: Invalid elements are dropped if the error publisher has no subscriber.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <T> Class of validation Target
+ */
+public class ValidationProcessor<T> implements Flow.Processor<T, T> {
+    /**
+     * The private field to store the validator applied to each element.
+     */
+    private final ClassValidator<T> validator;
+
+    /**
+     * The private field to store the executor running the validation.
+     */
+    private final Executor executor;
+
+    /**
+     * The private field to store the max number of the elements validated at a time.
+     */
+    private final int batchSize;
+
+    /**
+     * The private field to store the publisher of the valid elements.
+     */
+    private final Outlet<T> output;
+
+    /**
+     * The private field to store the publisher of the invalid elements.
+     */
+    private final Outlet<ValidationFailure<T>> errors;
+
+    /**
+     * The private field to store the lock guarding the pending elements and the state flags.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The private field to store the elements waiting for validation.
+     */
+    private List<T> pending;
+
+    /**
+     * The private field to store whether a batch is being processed on the executor.
+     */
+    private boolean running;
+
+    /**
+     * The private field to store whether the drain stopped because a subscriber has no room (or no downstream subscriber exists).
+     * It is written under the lock, and read without the lock on each delivery.
+     */
+    private volatile boolean stalled;
+
+    /**
+     * The private field to store whether upstream has completed.
+     */
+    private boolean completed;
+
+    /**
+     * The private field to store the error signaled by upstream.
+     */
+    private Throwable failure;
+
+    /**
+     * The private field to store the upstream subscription.
+     */
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * Constructor with the validator as the argument.<br>
+     * Common Fork Join Pool and default buffer size of Flow are used.
+     *
+     * @param validator Validator applied to each element. The validator is frozen by this constructor.
+     */
+    public ValidationProcessor(ClassValidator<T> validator) {
+        this(validator, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructor with the validator, the executor and the batch size as the arguments.
+     *
+     * @param validator Validator applied to each element. The validator is frozen by this constructor.
+     * @param executor Executor running the validation and the delivery to subscribers.
+     * @param batchSize Max number of the elements validated at a time. This is also the number of elements requested from upstream.
+     */
+    public ValidationProcessor(ClassValidator<T> validator, Executor executor, int batchSize) {
+        if(batchSize <= 0) {throw new IllegalArgumentException("batchSize must be positive.");}
+        this.validator = validator.freeze();
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.pending = new ArrayList<>(batchSize);
+        this.output = new Outlet<>(false);
+        this.errors = new Outlet<>(true);
+    }
+
+    /**
+     * Get the publisher of the invalid elements.
+     *
+     * @return Publisher of the failures. It completes when this processor completes.
+     */
+    public Flow.Publisher<ValidationFailure<T>> errors() {
+        return errors;
+    }
+
+    /**
+     * Subscribe to the valid elements.
+     *
+     * @param subscriber Downstream subscriber.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        output.subscribe(subscriber);
+    }
+
+    /**
+     * Receive the upstream subscription, and request the first batch. The batch is kept until a downstream subscriber subscribes.
+     *
+     * @param subscription Upstream subscription.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if(this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(batchSize);
+    }
+
+    /**
+     * Receive an element from upstream. Validation is scheduled on the executor if it is not running.
+     *
+     * @param item Element to be validated.
+     */
+    @Override
+    public void onNext(T item) {
+        boolean schedule;
+        synchronized (lock) {
+            pending.add(item);
+            schedule = !running;
+            running = true;
+        }
+        if(schedule) {executor.execute(this::drain);}
+    }
+
+    /**
+     * Receive the upstream error. Subscribers are terminated after the pending elements are processed.
+     *
+     * @param throwable Upstream error.
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        terminate(throwable);
+    }
+
+    /**
+     * Receive the upstream completion. Subscribers are completed after the pending elements are processed.
+     */
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    /**
+     * Private internal method to record the upstream termination.
+     *
+     * @param throwable Upstream error, or null on completion.
+     */
+    private void terminate(Throwable throwable) {
+        boolean schedule;
+        synchronized (lock) {
+            completed = true;
+            failure = throwable;
+            schedule = !running;
+            running = true;
+        }
+        if(schedule) {executor.execute(this::drain);}
+    }
+
+    /**
+     * Private internal method to process the pending elements batch by batch. Only one drain runs at a time.
+     * The drain stops while a downstream buffer is full, and the elements not processed yet are kept for the retry.
+     */
+    private void drain() {
+        while (true) {
+            List<T> batch;
+            synchronized (lock) {
+                if(pending.isEmpty()) {
+                    running = false;
+                    if(completed) {close(failure);}
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>(batchSize);
+            }
+            int processed;
+            try {
+                processed = process(batch);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                synchronized (lock) {
+                    pending.clear();
+                    completed = true;
+                    running = false;
+                }
+                close(e);
+                return;
+            }
+            if(processed > 0) {subscription.request(processed);}
+            if(processed < batch.size()) {
+                synchronized (lock) {
+                    List<T> rest = new ArrayList<>(batch.subList(processed, batch.size()));
+                    rest.addAll(pending);
+                    pending = rest;
+                    stalled = true;
+                    running = false;
+                }
+                // a delivery between the check in process() and setting "stalled" did not resume the drain, so check again
+                if(!hasCapacity() || !reclaim()) {return;}
+            }
+        }
+    }
+
+    /**
+     * Private internal method to restart the stalled drain on the executor. This is called when a subscriber takes an element,
+     * subscribes or cancels.
+     */
+    private void resume() {
+        if(!stalled) {return;}
+        boolean schedule;
+        synchronized (lock) {
+            if(!stalled) {return;}
+            stalled = false;
+            schedule = !running;
+            running = true;
+        }
+        if(schedule) {executor.execute(this::drain);}
+    }
+
+    /**
+     * Private internal method to continue the drain on the current thread after it has stalled, unless it is already resumed.
+     *
+     * @return true if the current thread should continue the drain.
+     */
+    private boolean reclaim() {
+        synchronized (lock) {
+            if(!stalled || running) {return false;}
+            stalled = false;
+            running = true;
+            return true;
+        }
+    }
+
+    /**
+     * Private internal method to check whether the next element can be published without being dropped, whether it is valid or not.
+     *
+     * @return true if every subscriber has room for the next element and a downstream subscriber exists.
+     */
+    private boolean hasCapacity() {
+        return output.hasCapacity() && errors.hasCapacity();
+    }
+
+    /**
+     * Private internal method to validate a batch and publish the results until a downstream buffer is full.
+     *
+     * @param batch Elements to be validated.
+     * @return Number of the processed elements from the head of the batch.
+     */
+    private int process(List<T> batch) {
+        for(int i = 0; i < batch.size(); i++) {
+            if(!hasCapacity()) {return i;}
+            T item = batch.get(i);
+            try {
+                validator.validate(item);
+            } catch (ValidationException e) {
+                errors.publish(new ValidationFailure<>(item, e));
+                continue;
+            }
+            output.publish(item);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Private internal method to terminate the subscribers.
+     *
+     * @param throwable Error to be signaled, or null on completion.
+     */
+    private void close(Throwable throwable) {
+        output.close(throwable);
+        errors.close(throwable);
+    }
+
+    /**
+     * Outlet publishes the results through Submission Publisher, and tracks the elements in flight to each subscriber
+     * so that an element is published only when every subscriber has room for it.
+     * The drain is resumed when a subscriber takes an element, subscribes or cancels.
+     *
+     * @param <E> Class of the published elements
+     */
+    private final class Outlet<E> implements Flow.Publisher<E> {
+        /**
+         * Publisher delivering the elements to the subscribers on the executor.
+         */
+        private final SubmissionPublisher<E> publisher = new SubmissionPublisher<>(executor, batchSize);
+
+        /**
+         * Subscribers which have not been terminated or cancelled (guarded by this outlet).
+         */
+        private final List<Tracked> subscribers = new ArrayList<>();
+
+        /**
+         * Whether the elements may be published (and dropped) when no subscriber exists.
+         */
+        private final boolean dropWithoutSubscriber;
+
+        /**
+         * Constructor with the policy for no subscriber as the argument.
+         *
+         * @param dropWithoutSubscriber true if the elements may be dropped when no subscriber exists.
+         */
+        private Outlet(boolean dropWithoutSubscriber) {
+            this.dropWithoutSubscriber = dropWithoutSubscriber;
+        }
+
+        /**
+         * Subscribe to the published elements.
+         *
+         * @param subscriber Subscriber.
+         */
+        @Override
+        public void subscribe(Flow.Subscriber<? super E> subscriber) {
+            synchronized (this) {
+                Tracked tracked = new Tracked(subscriber);
+                subscribers.add(tracked);
+                publisher.subscribe(tracked);
+            }
+            resume();
+        }
+
+        /**
+         * Check whether an element can be published without being dropped by a subscriber.<br>
+         * The slot of an element is released before it is delivered, so the element count in flight never underestimates the buffer usage.
+         *
+         * @return true if every subscriber has room in its buffer.
+         */
+        private synchronized boolean hasCapacity() {
+            if(subscribers.isEmpty()) {return dropWithoutSubscriber;}
+            int capacity = publisher.getMaxBufferCapacity();
+            for(Tracked tracked : subscribers) {
+                if(tracked.inFlight.get() >= capacity) {return false;}
+            }
+            return true;
+        }
+
+        /**
+         * Publish an element. This must be called only after "hasCapacity()" returned true.
+         *
+         * @param item Element to be published.
+         */
+        private synchronized void publish(E item) {
+            for(Tracked tracked : subscribers) {tracked.inFlight.incrementAndGet();}
+            publisher.offer(item, (subscriber, dropped) -> true);
+        }
+
+        /**
+         * Terminate the subscribers.
+         *
+         * @param throwable Error to be signaled, or null on completion.
+         */
+        private void close(Throwable throwable) {
+            if(throwable == null) {
+                publisher.close();
+            } else {
+                publisher.closeExceptionally(throwable);
+            }
+        }
+
+        /**
+         * Private internal method to stop tracking the subscriber.
+         *
+         * @param tracked Subscriber to be removed.
+         */
+        private synchronized void remove(Tracked tracked) {
+            subscribers.remove(tracked);
+        }
+
+        /**
+         * Tracked subscriber wraps a downstream subscriber and its subscription, and counts the elements in flight to it.
+         */
+        private final class Tracked implements Flow.Subscriber<E>, Flow.Subscription {
+            /**
+             * Downstream subscriber.
+             */
+            private final Flow.Subscriber<? super E> downstream;
+
+            /**
+             * Number of the elements published but not delivered yet.
+             */
+            private final AtomicLong inFlight = new AtomicLong();
+
+            /**
+             * Subscription of the Submission Publisher.
+             */
+            private volatile Flow.Subscription subscription;
+
+            /**
+             * Constructor with the downstream subscriber as the argument.
+             *
+             * @param downstream Downstream subscriber.
+             */
+            private Tracked(Flow.Subscriber<? super E> downstream) {
+                this.downstream = downstream;
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                downstream.onSubscribe(this);
+            }
+
+            @Override
+            public void onNext(E item) {
+                inFlight.decrementAndGet();
+                resume();
+                downstream.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                remove(this);
+                resume();
+                downstream.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                remove(this);
+                downstream.onComplete();
+            }
+
+            @Override
+            public void request(long n) {
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                remove(this);
+                subscription.cancel();
+                resume();
+            }
+        }
+    }
+}
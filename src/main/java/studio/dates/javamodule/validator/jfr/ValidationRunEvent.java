@@ -0,0 +1,57 @@
+package studio.dates.javamodule.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event emitted for each "ClassValidator.validate()" run.<br>
+ * The event is disabled by default. Enable "studio.dates.validator.ValidationRun" in the recording settings
+ * (e.g. "recording.enable(ValidationRunEvent.class)") to record it.<br>
+ * NOTE: While the event is disabled, validators do not read the clock or fill the event.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Name("studio.dates.validator.ValidationRun")
+@Label("Validation Run")
+@Category({"Dates Library", "Validator"})
+@Description("Run of ClassValidator.validate()")
+@Enabled(false)
+@StackTrace(false)
+public class ValidationRunEvent extends Event {
+    /**
+     * Class of the validation target.
+     */
+    @Label("Target Type")
+    public Class<?> targetType;
+
+    /**
+     * Name of the validator.
+     */
+    @Label("Validator")
+    public String validator;
+
+    /**
+     * Validation method of the validator.
+     */
+    @Label("Validation Method")
+    public String method;
+
+    /**
+     * Number of the constraints of the validator.
+     */
+    @Label("Constraint Count")
+    public int constraintCount;
+
+    /**
+     * Number of the failed constraints.
+     */
+    @Label("Violation Count")
+    public int violationCount;
+}
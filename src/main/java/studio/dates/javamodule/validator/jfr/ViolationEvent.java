@@ -0,0 +1,78 @@
+package studio.dates.javamodule.validator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Java Flight Recorder event emitted for the violations raised by the static checks of Validator.<br>
+ * The event is disabled by default. Enable "studio.dates.validator.Violation" in the recording settings to record it.<br>
+ * Violations are sampled: one of every "samplingInterval" violations is recorded on average (default: 1, all the violations).
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+@Name("studio.dates.validator.Violation")
+@Label("Validation Violation")
+@Category({"Dates Library", "Validator"})
+@Description("Violation raised by a static check of Validator")
+@Enabled(false)
+public class ViolationEvent extends Event {
+    /**
+     * The private field to store the sampling interval.
+     */
+    private static volatile int samplingInterval = 1;
+
+    /**
+     * Class of the Validation Exception.
+     */
+    @Label("Exception Type")
+    public Class<?> exceptionType;
+
+    /**
+     * Name of the field.
+     */
+    @Label("Field")
+    public String field;
+
+    /**
+     * Exception message.
+     */
+    @Label("Message")
+    public String message;
+
+    /**
+     * Set the sampling interval.
+     *
+     * @param interval One of every "interval" violations is recorded on average. 1 records all the violations.
+     */
+    public static void setSamplingInterval(int interval) {
+        if(interval <= 0) {throw new IllegalArgumentException("interval must be positive.");}
+        samplingInterval = interval;
+    }
+
+    /**
+     * Getter for "samplingInterval" field.
+     *
+     * @return Sampling interval.
+     */
+    public static int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Check whether the current violation is sampled.
+     *
+     * @return true if the violation should be recorded.
+     */
+    public static boolean sampled() {
+        int interval = samplingInterval;
+        return interval == 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+    }
+}
@@ -0,0 +1,137 @@
+package studio.dates.javamodule.validator.jmx;
+
+import studio.dates.javamodule.validator.metrics.ConstraintMetricsSnapshot;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Statistics of a named Class Validator exposed as a platform MBean.<br>
+ * Values are read from the metrics registry of the validator when the attributes are requested.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ClassValidatorStats implements ClassValidatorStatsMXBean {
+    /**
+     * Number of the constraints reported by "getSlowestConstraints()".
+     */
+    private static final int SLOWEST_LIMIT = 5;
+
+    /**
+     * The private field to store the name of the validator.
+     */
+    private final String name;
+
+    /**
+     * The private field to store the metrics registry of the validator.
+     */
+    private final ValidationMetrics metrics;
+
+    /**
+     * The private field to store the time of the last reset (System.nanoTime()).
+     */
+    private volatile long resetTime = System.nanoTime();
+
+    /**
+     * Constructor with the name and the metrics registry of the validator as the arguments.
+     *
+     * @param name Name of the validator.
+     * @param metrics Metrics registry of the validator.
+     */
+    public ClassValidatorStats(String name, ValidationMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getValidations() {
+        return runs().getInvocations();
+    }
+
+    @Override
+    public long getFailures() {
+        return runs().getFailures();
+    }
+
+    @Override
+    public double getFailureRatio() {
+        ConstraintMetricsSnapshot runs = runs();
+        return runs.getInvocations() == 0 ? 0 : (double) runs.getFailures() / runs.getInvocations();
+    }
+
+    @Override
+    public double getValidationsPerSecond() {
+        return perSecond(runs().getInvocations());
+    }
+
+    @Override
+    public double getFailuresPerSecond() {
+        return perSecond(runs().getFailures());
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return runs().getMeanNanos();
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return runs().getPercentileNanos(0.99);
+    }
+
+    @Override
+    public String[] getSlowestConstraints() {
+        String prefix = name + ".";
+        List<ConstraintMetricsSnapshot> constraints = new ArrayList<>();
+        for(ConstraintMetricsSnapshot snapshot : metrics.snapshot()) {
+            if(snapshot.getName().startsWith(prefix)) {constraints.add(snapshot);}
+        }
+        constraints.sort(Comparator.comparingDouble(ConstraintMetricsSnapshot::getMeanNanos).reversed());
+        int size = Math.min(SLOWEST_LIMIT, constraints.size());
+        String[] slowest = new String[size];
+        for(int i = 0; i < size; i++) {
+            ConstraintMetricsSnapshot snapshot = constraints.get(i);
+            slowest[i] = String.format("%s: mean %.0f ns, p99 %d ns, failures %d",
+                    snapshot.getName().substring(prefix.length()), snapshot.getMeanNanos(), snapshot.getPercentileNanos(0.99), snapshot.getFailures());
+        }
+        return slowest;
+    }
+
+    @Override
+    public void resetCounters() {
+        String prefix = name + ".";
+        for(ConstraintMetricsSnapshot snapshot : metrics.snapshot()) {
+            if(snapshot.getName().equals(name) || snapshot.getName().startsWith(prefix)) {metrics.constraint(snapshot.getName()).reset();}
+        }
+        resetTime = System.nanoTime();
+    }
+
+    /**
+     * Private internal method to take the snapshot of the whole validation runs.
+     *
+     * @return Snapshot of the runs.
+     */
+    private ConstraintMetricsSnapshot runs() {
+        return metrics.constraint(name).snapshot();
+    }
+
+    /**
+     * Private internal method to convert the count into the rate since the last reset.
+     *
+     * @param count Count since the last reset.
+     * @return Count per second.
+     */
+    private double perSecond(long count) {
+        double seconds = (System.nanoTime() - resetTime) / 1e9;
+        return seconds <= 0 ? 0 : count / seconds;
+    }
+}
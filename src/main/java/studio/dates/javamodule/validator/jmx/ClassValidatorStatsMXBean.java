@@ -0,0 +1,78 @@
+package studio.dates.javamodule.validator.jmx;
+
+/**
+ * Management interface of the statistics of a named Class Validator.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public interface ClassValidatorStatsMXBean {
+    /**
+     * Get the name of the validator.
+     *
+     * @return Name of the validator.
+     */
+    String getName();
+
+    /**
+     * Get the number of the validation runs.
+     *
+     * @return Number of the runs since the last reset.
+     */
+    long getValidations();
+
+    /**
+     * Get the number of the failed validation runs.
+     *
+     * @return Number of the failed runs since the last reset.
+     */
+    long getFailures();
+
+    /**
+     * Get the ratio of the failed validation runs.
+     *
+     * @return Failures / validations, or 0 if the validator has not been run.
+     */
+    double getFailureRatio();
+
+    /**
+     * Get the average rate of the validation runs.
+     *
+     * @return Runs per second since the last reset.
+     */
+    double getValidationsPerSecond();
+
+    /**
+     * Get the average rate of the failed validation runs.
+     *
+     * @return Failed runs per second since the last reset.
+     */
+    double getFailuresPerSecond();
+
+    /**
+     * Get the mean duration of the validation runs.
+     *
+     * @return Mean duration in nanoseconds.
+     */
+    double getMeanNanos();
+
+    /**
+     * Get the approximate 99th percentile of the durations of the validation runs.
+     *
+     * @return Upper bound of the histogram bucket in nanoseconds.
+     */
+    long getP99Nanos();
+
+    /**
+     * Get the slowest constraints of the validator.
+     *
+     * @return Up to five constraints ordered by the mean duration ("name: mean ns, p99 ns, failures").
+     */
+    String[] getSlowestConstraints();
+
+    /**
+     * Clear the counters of the validator and its constraints.
+     */
+    void resetCounters();
+}
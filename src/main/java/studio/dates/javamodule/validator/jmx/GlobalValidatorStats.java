@@ -0,0 +1,174 @@
+package studio.dates.javamodule.validator.jmx;
+
+import studio.dates.javamodule.validator.booleanvalidator.BooleanValidator;
+import studio.dates.javamodule.validator.core.regex.PatternCache;
+import studio.dates.javamodule.validator.metrics.ConstraintMetricsSnapshot;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
+import studio.dates.javamodule.validator.validator.Validator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics of the static checks and the shared caches exposed as a platform MBean.<br>
+ * Counters and latencies are read from the metrics registries set with "Validator.metrics()" and "BooleanValidator.metrics()".
+ * A false result of BooleanValidator is counted as a failure.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class GlobalValidatorStats implements GlobalValidatorStatsMXBean {
+    /**
+     * Prefix of the metrics names recorded by Validator.
+     */
+    private static final String PREFIX = "Validator.";
+
+    /**
+     * Prefix of the metrics names recorded by BooleanValidator.
+     */
+    private static final String BOOLEAN_PREFIX = "BooleanValidator.";
+
+    /**
+     * Number of the checks reported by "getSlowestChecks()".
+     */
+    private static final int SLOWEST_LIMIT = 5;
+
+    /**
+     * The private field to store the time of the last reset (System.nanoTime()).
+     */
+    private volatile long resetTime = System.nanoTime();
+
+    /**
+     * Constructor without any argument.
+     */
+    public GlobalValidatorStats() {
+    }
+
+    @Override
+    public long getCalls() {
+        long calls = 0;
+        for(ConstraintMetricsSnapshot snapshot : checks()) {calls += snapshot.getInvocations();}
+        return calls;
+    }
+
+    @Override
+    public double getCallsPerSecond() {
+        double seconds = (System.nanoTime() - resetTime) / 1e9;
+        return seconds <= 0 ? 0 : getCalls() / seconds;
+    }
+
+    @Override
+    public long getFailures() {
+        long failures = 0;
+        for(ConstraintMetricsSnapshot snapshot : checks()) {failures += snapshot.getFailures();}
+        return failures;
+    }
+
+    @Override
+    public double getFailuresPerSecond() {
+        double seconds = (System.nanoTime() - resetTime) / 1e9;
+        return seconds <= 0 ? 0 : getFailures() / seconds;
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByType() {
+        Map<String, Long> types = new TreeMap<>();
+        for(ConstraintMetricsSnapshot snapshot : checks()) {snapshot.getFailuresByType().forEach((type, count) -> types.merge(type, count, Long::sum));}
+        return types;
+    }
+
+    @Override
+    public String[] getSlowestChecks() {
+        List<ConstraintMetricsSnapshot> checks = checks();
+        checks.sort(Comparator.comparingDouble(ConstraintMetricsSnapshot::getMeanNanos).reversed());
+        int size = Math.min(SLOWEST_LIMIT, checks.size());
+        String[] slowest = new String[size];
+        for(int i = 0; i < size; i++) {
+            ConstraintMetricsSnapshot snapshot = checks.get(i);
+            slowest[i] = String.format("%s: mean %.0f ns, p99 %d ns, calls %d, failures %d",
+                    snapshot.getName(), snapshot.getMeanNanos(), snapshot.getPercentileNanos(0.99), snapshot.getInvocations(), snapshot.getFailures());
+        }
+        return slowest;
+    }
+
+    @Override
+    public int getPatternCacheSize() {
+        return PatternCache.shared().size();
+    }
+
+    @Override
+    public int getPatternCacheMaxSize() {
+        return PatternCache.shared().getMaxSize();
+    }
+
+    @Override
+    public void setPatternCacheMaxSize(int maxSize) {
+        PatternCache.shared().resize(maxSize);
+    }
+
+    @Override
+    public long getPatternCacheHits() {
+        return PatternCache.shared().hits();
+    }
+
+    @Override
+    public long getPatternCacheMisses() {
+        return PatternCache.shared().misses();
+    }
+
+    @Override
+    public double getPatternCacheHitRatio() {
+        return PatternCache.shared().hitRatio();
+    }
+
+    @Override
+    public void resetCounters() {
+        reset(Validator.getMetrics(), PREFIX);
+        reset(BooleanValidator.getMetrics(), BOOLEAN_PREFIX);
+        PatternCache.shared().resetCounters();
+        resetTime = System.nanoTime();
+    }
+
+    /**
+     * Private internal method to take the snapshots of the static checks of Validator and BooleanValidator.
+     *
+     * @return Snapshots of the checks. Empty if no metrics registry is set.
+     */
+    private List<ConstraintMetricsSnapshot> checks() {
+        List<ConstraintMetricsSnapshot> checks = new ArrayList<>();
+        collect(Validator.getMetrics(), PREFIX, checks);
+        collect(BooleanValidator.getMetrics(), BOOLEAN_PREFIX, checks);
+        return checks;
+    }
+
+    /**
+     * Private internal method to add the snapshots whose names start with the prefix.
+     *
+     * @param metrics Metrics registry, or null.
+     * @param prefix Prefix of the metrics names.
+     * @param checks List to which the snapshots are added.
+     */
+    private static void collect(ValidationMetrics metrics, String prefix, List<ConstraintMetricsSnapshot> checks) {
+        if(metrics == null) {return;}
+        for(ConstraintMetricsSnapshot snapshot : metrics.snapshot()) {
+            if(snapshot.getName().startsWith(prefix)) {checks.add(snapshot);}
+        }
+    }
+
+    /**
+     * Private internal method to reset the metrics whose names start with the prefix.
+     *
+     * @param metrics Metrics registry, or null.
+     * @param prefix Prefix of the metrics names.
+     */
+    private static void reset(ValidationMetrics metrics, String prefix) {
+        if(metrics == null) {return;}
+        for(ConstraintMetricsSnapshot snapshot : metrics.snapshot()) {
+            if(snapshot.getName().startsWith(prefix)) {metrics.constraint(snapshot.getName()).reset();}
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package studio.dates.javamodule.validator.jmx;
+
+import java.util.Map;
+
+/**
+ * Management interface of the statistics of the static checks (Validator and BooleanValidator) and the shared caches.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public interface GlobalValidatorStatsMXBean {
+    /**
+     * Get the number of the calls of the static checks of Validator and BooleanValidator.
+     *
+     * @return Number of the calls since the last reset. Only the calls made while a metrics registry is set are counted.
+     */
+    long getCalls();
+
+    /**
+     * Get the average rate of the calls of the static checks.
+     *
+     * @return Calls per second since the last reset.
+     */
+    double getCallsPerSecond();
+
+    /**
+     * Get the number of the violations raised by the static checks of Validator and the false results of BooleanValidator.
+     *
+     * @return Number of the violations since the last reset. 0 if no metrics registry is set.
+     */
+    long getFailures();
+
+    /**
+     * Get the average rate of the violations raised by the static checks.
+     *
+     * @return Violations per second since the last reset.
+     */
+    double getFailuresPerSecond();
+
+    /**
+     * Get the number of the violations by the exception class (false results of BooleanValidator are counted as ValidationException).
+     *
+     * @return Number of the violations by the fully qualified name of the exception class.
+     */
+    Map<String, Long> getFailuresByType();
+
+    /**
+     * Get the static checks with the highest mean latency. Checks are named "Validator.{field name}" or "BooleanValidator.{method name}".
+     *
+     * @return Descriptions of the slowest checks (up to 5), slowest first.
+     */
+    String[] getSlowestChecks();
+
+    /**
+     * Get the number of the cached patterns.
+     *
+     * @return Size of the shared pattern cache.
+     */
+    int getPatternCacheSize();
+
+    /**
+     * Get the max number of the cached patterns.
+     *
+     * @return Max size of the shared pattern cache.
+     */
+    int getPatternCacheMaxSize();
+
+    /**
+     * Change the max number of the cached patterns.
+     *
+     * @param maxSize Max size of the shared pattern cache. 0 disables caching.
+     */
+    void setPatternCacheMaxSize(int maxSize);
+
+    /**
+     * Get the number of the pattern cache hits.
+     *
+     * @return Number of the hits since the last reset.
+     */
+    long getPatternCacheHits();
+
+    /**
+     * Get the number of the pattern cache misses.
+     *
+     * @return Number of the misses since the last reset.
+     */
+    long getPatternCacheMisses();
+
+    /**
+     * Get the ratio of the pattern cache hits.
+     *
+     * @return Hits / (hits + misses).
+     */
+    double getPatternCacheHitRatio();
+
+    /**
+     * Clear the call and violation counters, the latencies and the cache counters.
+     */
+    void resetCounters();
+}
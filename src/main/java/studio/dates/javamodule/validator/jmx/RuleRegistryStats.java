@@ -0,0 +1,62 @@
+package studio.dates.javamodule.validator.jmx;
+
+import studio.dates.javamodule.validator.compiler.RuleRegistry;
+
+/**
+ * Statistics of a Rule Registry exposed as a platform MBean.<br>
+ * Values are read from the reload metrics of the registry when the attributes are requested.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class RuleRegistryStats implements RuleRegistryStatsMXBean {
+    /**
+     * The private field to store the registry.
+     */
+    private final RuleRegistry registry;
+
+    /**
+     * Constructor with the registry as the argument.
+     *
+     * @param registry Rule Registry.
+     */
+    public RuleRegistryStats(RuleRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public String getDirectory() {
+        return registry.getDirectory().toString();
+    }
+
+    @Override
+    public long getReloads() {
+        return registry.reloads();
+    }
+
+    @Override
+    public long getFailures() {
+        return registry.failures();
+    }
+
+    @Override
+    public String getLastFailure() {
+        return registry.lastFailure();
+    }
+
+    @Override
+    public double getMeanReloadNanos() {
+        return registry.snapshot().getMeanNanos();
+    }
+
+    @Override
+    public long getP99ReloadNanos() {
+        return registry.snapshot().getPercentileNanos(0.99);
+    }
+
+    @Override
+    public void reload(String fileName) {
+        registry.reload(fileName);
+    }
+}
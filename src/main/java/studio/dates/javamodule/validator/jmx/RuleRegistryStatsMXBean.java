@@ -0,0 +1,59 @@
+package studio.dates.javamodule.validator.jmx;
+
+/**
+ * Management interface of the statistics of a Rule Registry.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public interface RuleRegistryStatsMXBean {
+    /**
+     * Get the watched directory.
+     *
+     * @return Absolute path of the directory.
+     */
+    String getDirectory();
+
+    /**
+     * Get the number of the published plans (the initial loads are not counted).
+     *
+     * @return Number of the reloads.
+     */
+    long getReloads();
+
+    /**
+     * Get the number of the rule files which could not be read or compiled.
+     *
+     * @return Number of the failures.
+     */
+    long getFailures();
+
+    /**
+     * Get the message of the last failure.
+     *
+     * @return "{file}: {message}", or null if no reload has failed.
+     */
+    String getLastFailure();
+
+    /**
+     * Get the mean duration of the reloads.
+     *
+     * @return Mean duration in nanoseconds.
+     */
+    double getMeanReloadNanos();
+
+    /**
+     * Get the approximate 99th percentile of the durations of the reloads.
+     *
+     * @return Upper bound of the histogram bucket in nanoseconds.
+     */
+    long getP99ReloadNanos();
+
+    /**
+     * Schedule the reload of the rule file regardless of the watch events.
+     *
+     * @param fileName Name of the bound rule file.
+     */
+    void reload(String fileName);
+}
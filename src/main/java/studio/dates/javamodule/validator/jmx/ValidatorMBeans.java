@@ -0,0 +1,105 @@
+package studio.dates.javamodule.validator.jmx;
+
+import studio.dates.javamodule.validator.classvalidator.ClassValidator;
+import studio.dates.javamodule.validator.compiler.RuleRegistry;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Validator MBeans registers the statistics of the validators to the platform MBean server.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Registering<br>
+ *          &nbsp;&nbsp;ValidatorMBeans.register(validator);&nbsp;&nbsp;// studio.dates.validator:type=ClassValidator,name="person"<br>
+ *          &nbsp;&nbsp;ValidatorMBeans.registerGlobal();&nbsp;&nbsp;// studio.dates.validator:type=Validator<br>
+ *          &nbsp;&nbsp;ValidatorMBeans.register(registry, "rules");&nbsp;&nbsp;// studio.dates.validator:type=RuleRegistry,name="rules"
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ValidatorMBeans {
+    /**
+     * Domain of the object names.
+     */
+    public static final String DOMAIN = "studio.dates.validator";
+
+    /**
+     * Register the statistics of the named Class Validator.
+     *
+     * @param validator Validator with the name and the metrics registry.
+     * @return Object name of the registered MBean.
+     * @throws IllegalArgumentException Exception thrown when the name or the metrics registry is not set to the validator.
+     * @throws IllegalStateException Exception thrown when the MBean cannot be registered.
+     */
+    public static ObjectName register(ClassValidator<?> validator) {
+        if(validator.getName() == null || validator.getMetrics() == null) {
+            throw new IllegalArgumentException("Validator must have the name and the metrics registry.");
+        }
+        return register(DOMAIN + ":type=ClassValidator,name=" + ObjectName.quote(validator.getName()),
+                new ClassValidatorStats(validator.getName(), validator.getMetrics()));
+    }
+
+    /**
+     * Register the statistics of the static checks and the shared caches.
+     *
+     * @return Object name of the registered MBean.
+     * @throws IllegalStateException Exception thrown when the MBean cannot be registered.
+     */
+    public static ObjectName registerGlobal() {
+        return register(DOMAIN + ":type=Validator", new GlobalValidatorStats());
+    }
+
+    /**
+     * Register the statistics of the Rule Registry.
+     *
+     * @param registry Rule Registry.
+     * @param name Name of the registry in the object name.
+     * @return Object name of the registered MBean.
+     * @throws IllegalStateException Exception thrown when the MBean cannot be registered.
+     */
+    public static ObjectName register(RuleRegistry registry, String name) {
+        return register(DOMAIN + ":type=RuleRegistry,name=" + ObjectName.quote(name), new RuleRegistryStats(registry));
+    }
+
+    /**
+     * Unregister the MBean.
+     *
+     * @param name Object name returned by "register()" or "registerGlobal()".
+     * @throws IllegalStateException Exception thrown when the MBean cannot be unregistered.
+     */
+    public static void unregister(ObjectName name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Private internal method to register the MBean. The existing MBean with the same name is replaced.
+     *
+     * @param name Object name.
+     * @param mbean MBean.
+     * @return Object name of the registered MBean.
+     */
+    private static ObjectName register(String name, Object mbean) {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if(server.isRegistered(objectName)) {server.unregisterMBean(objectName);}
+            server.registerMBean(mbean, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,499 @@
+package studio.dates.javamodule.validator.jsonvalidator;
+
+import studio.dates.javamodule.validator.enums.JsonToken;
+import studio.dates.javamodule.validator.exception.ExceptionMessage;
+import studio.dates.javamodule.validator.exception.jsonvalidation.JsonFormatViolationException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Incremental (pull) JSON tokenizer used by JSON Validator.<br>
+ * Characters are read from the source through a fixed-size buffer, so the document is never loaded as a whole.<br>
+ * Text of string and number tokens is kept in a reusable buffer, and it is converted to String only when "text()" is called.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *     <li>Reading<br>
+ *          &nbsp;&nbsp;JsonTokenizer tokenizer = new JsonTokenizer(reader);<br>
+ *          &nbsp;&nbsp;for(JsonToken token = tokenizer.next(); token != JsonToken.END_DOCUMENT; token = tokenizer.next()) {<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;if(token == JsonToken.STRING) {System.out.println(tokenizer.text());}<br>
+ *          &nbsp;&nbsp;}
+ *     </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class JsonTokenizer {
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Container type: object.
+     */
+    private static final byte OBJECT = 1;
+    /**
+     * Container type: array.
+     */
+    private static final byte ARRAY = 2;
+
+    /**
+     * Tokenizer state: a value is expected (document start, after ":" or after "," in arrays).
+     */
+    private static final int EXPECT_VALUE = 0;
+    /**
+     * Tokenizer state: the first field name or "}" is expected.
+     */
+    private static final int EXPECT_FIRST_FIELD_OR_END = 1;
+    /**
+     * Tokenizer state: a field name is expected (after "," in objects).
+     */
+    private static final int EXPECT_FIELD = 2;
+    /**
+     * Tokenizer state: the first value or "]" is expected.
+     */
+    private static final int EXPECT_FIRST_VALUE_OR_END = 3;
+    /**
+     * Tokenizer state: "," or the end of the current container is expected.
+     */
+    private static final int EXPECT_COMMA_OR_END = 4;
+    /**
+     * Tokenizer state: the top-level value is finished.
+     */
+    private static final int DONE = 5;
+
+    /**
+     * The private field to store the source of the document.
+     */
+    private final Reader reader;
+
+    /**
+     * The private field to store the read buffer.
+     */
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * The private field to store the position of the next character in the buffer.
+     */
+    private int position;
+
+    /**
+     * The private field to store the number of valid characters in the buffer.
+     */
+    private int limit;
+
+    /**
+     * The private field to store the number of characters read before the current buffer.
+     */
+    private long offset;
+
+    /**
+     * The private field to store the text of the current token.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * The private field to store whether the text of string tokens is discarded (used while skipping values).
+     */
+    private boolean discardText;
+
+    /**
+     * The private field to store the types of the open containers.
+     */
+    private byte[] stack = new byte[32];
+
+    /**
+     * The private field to store the number of the open containers.
+     */
+    private int depth;
+
+    /**
+     * The private field to store the tokenizer state.
+     */
+    private int state = EXPECT_VALUE;
+
+    /**
+     * The private field to store the current token.
+     */
+    private JsonToken token;
+
+    /**
+     * Constructor with the source of the document as the argument.
+     *
+     * @param reader Source of the JSON document.
+     */
+    public JsonTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next token.
+     *
+     * @return The next token. END_DOCUMENT is returned after the top-level value is finished.
+     * @throws IOException Exception thrown when the source cannot be read.
+     * @throws JsonFormatViolationException Validation Exception thrown when the document is not well-formed JSON.
+     */
+    public JsonToken next() throws IOException, JsonFormatViolationException {
+        int c = skipWhitespace();
+        switch (state) {
+            case DONE:
+                if(c != -1) {throw error("Unexpected character after the end of the document.");}
+                return token = JsonToken.END_DOCUMENT;
+            case EXPECT_FIRST_FIELD_OR_END:
+                if(c == '}') {return endContainer(OBJECT);}
+                return readFieldName(c);
+            case EXPECT_FIELD:
+                return readFieldName(c);
+            case EXPECT_FIRST_VALUE_OR_END:
+                if(c == ']') {return endContainer(ARRAY);}
+                return readValue(c);
+            case EXPECT_COMMA_OR_END:
+                if(c == '}') {return endContainer(OBJECT);}
+                if(c == ']') {return endContainer(ARRAY);}
+                if(c != ',') {throw error("',' or the end of the container expected.");}
+                c = skipWhitespace();
+                if(stack[depth - 1] == OBJECT) {return readFieldName(c);}
+                return readValue(c);
+            default:
+                return readValue(c);
+        }
+    }
+
+    /**
+     * Skip the children of the current token.<br>
+     * If the current token is START_OBJECT or START_ARRAY, tokens are consumed until the matching end token without materializing any text.
+     * Otherwise, nothing happens.
+     *
+     * @throws IOException Exception thrown when the source cannot be read.
+     * @throws JsonFormatViolationException Validation Exception thrown when the document is not well-formed JSON.
+     */
+    public void skipChildren() throws IOException, JsonFormatViolationException {
+        if(token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {return;}
+        int target = depth - 1;
+        discardText = true;
+        try {
+            while (depth > target) {next();}
+        } finally {
+            discardText = false;
+        }
+    }
+
+    /**
+     * Get the current token.
+     *
+     * @return The current token. Null is returned before the first call of "next()".
+     */
+    public JsonToken token() {
+        return token;
+    }
+
+    /**
+     * Get the text of the current token.
+     *
+     * @return Unescaped text for FIELD_NAME and STRING, literal text for NUMBER, TRUE and FALSE. Null is returned for other tokens.
+     */
+    public String text() {
+        if(token == null) {return null;}
+        return switch (token) {
+            case FIELD_NAME, STRING, NUMBER -> text.toString();
+            case TRUE -> "true";
+            case FALSE -> "false";
+            default -> null;
+        };
+    }
+
+    /**
+     * Compare the text of the current token without converting it to String.
+     *
+     * @param value String to be compared.
+     * @return true if the current token is FIELD_NAME or STRING and its text equals to the value.
+     */
+    public boolean textEquals(String value) {
+        return (token == JsonToken.FIELD_NAME || token == JsonToken.STRING) && value.contentEquals(text);
+    }
+
+    /**
+     * Get the number of the open containers.
+     *
+     * @return Nesting depth of the current position.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Private internal method to read a field name followed by ":".
+     *
+     * @param c The first character of the field name.
+     * @return FIELD_NAME token.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private JsonToken readFieldName(int c) throws IOException {
+        if(c != '"') {throw error("Field name expected.");}
+        readString();
+        if(skipWhitespace() != ':') {throw error("':' expected.");}
+        state = EXPECT_VALUE;
+        return token = JsonToken.FIELD_NAME;
+    }
+
+    /**
+     * Private internal method to read a value.
+     *
+     * @param c The first character of the value.
+     * @return Token of the value.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private JsonToken readValue(int c) throws IOException {
+        switch (c) {
+            case '{':
+                push(OBJECT);
+                state = EXPECT_FIRST_FIELD_OR_END;
+                return token = JsonToken.START_OBJECT;
+            case '[':
+                push(ARRAY);
+                state = EXPECT_FIRST_VALUE_OR_END;
+                return token = JsonToken.START_ARRAY;
+            case '"':
+                readString();
+                return endValue(JsonToken.STRING);
+            case 't':
+                readLiteral("true");
+                return endValue(JsonToken.TRUE);
+            case 'f':
+                readLiteral("false");
+                return endValue(JsonToken.FALSE);
+            case 'n':
+                readLiteral("null");
+                return endValue(JsonToken.NULL);
+            case -1:
+                throw error("Unexpected end of the document.");
+            default:
+                if(c == '-' || isDigit(c)) {
+                    readNumber(c);
+                    return endValue(JsonToken.NUMBER);
+                }
+                throw error("Unexpected character '" + (char) c + "'.");
+        }
+    }
+
+    /**
+     * Private internal method to finish a scalar value or a container.
+     *
+     * @param value Token of the finished value.
+     * @return The token given as the argument.
+     */
+    private JsonToken endValue(JsonToken value) {
+        state = depth == 0 ? DONE : EXPECT_COMMA_OR_END;
+        return token = value;
+    }
+
+    /**
+     * Private internal method to close the current container.
+     *
+     * @param type Type of the container to be closed.
+     * @return END_OBJECT or END_ARRAY.
+     */
+    private JsonToken endContainer(byte type) {
+        if(depth == 0 || stack[depth - 1] != type) {throw error("Mismatched end of the container.");}
+        depth--;
+        return endValue(type == OBJECT ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+    }
+
+    /**
+     * Private internal method to open a container.
+     *
+     * @param type Type of the container.
+     */
+    private void push(byte type) {
+        if(depth == stack.length) {
+            byte[] grown = new byte[stack.length * 2];
+            System.arraycopy(stack, 0, grown, 0, depth);
+            stack = grown;
+        }
+        stack[depth++] = type;
+    }
+
+    /**
+     * Private internal method to read the rest of a string. The opening quote has been consumed already.
+     *
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private void readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            if(position == limit && !fill()) {throw error("Unterminated string.");}
+            int start = position;
+            while (position < limit) {
+                char ch = buffer[position];
+                if(ch == '"' || ch == '\\' || ch < 0x20) {break;}
+                position++;
+            }
+            if(!discardText) {text.append(buffer, start, position - start);}
+            if(position == limit) {continue;}
+            char ch = buffer[position++];
+            if(ch == '"') {return;}
+            if(ch != '\\') {throw error("Control character in string.");}
+            readEscape();
+        }
+    }
+
+    /**
+     * Private internal method to read an escape sequence. The backslash has been consumed already.
+     *
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private void readEscape() throws IOException {
+        int c = read();
+        char unescaped;
+        switch (c) {
+            case '"', '\\', '/' -> unescaped = (char) c;
+            case 'b' -> unescaped = '\b';
+            case 'f' -> unescaped = '\f';
+            case 'n' -> unescaped = '\n';
+            case 'r' -> unescaped = '\r';
+            case 't' -> unescaped = '\t';
+            case 'u' -> {
+                int code = 0;
+                for(int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if(digit < 0) {throw error("Invalid unicode escape.");}
+                    code = (code << 4) | digit;
+                }
+                unescaped = (char) code;
+            }
+            default -> throw error("Invalid escape sequence.");
+        }
+        if(!discardText) {text.append(unescaped);}
+    }
+
+    /**
+     * Private internal method to read the rest of a literal (true, false or null). The first character has been consumed already.
+     *
+     * @param literal Expected literal.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private void readLiteral(String literal) throws IOException {
+        for(int i = 1; i < literal.length(); i++) {
+            if(read() != literal.charAt(i)) {throw error("Invalid literal, '" + literal + "' expected.");}
+        }
+    }
+
+    /**
+     * Private internal method to read the rest of a number. The first character has been consumed already.
+     *
+     * @param c The first character of the number.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private void readNumber(int c) throws IOException {
+        text.setLength(0);
+        text.append((char) c);
+        if(c == '-') {
+            c = read();
+            if(!isDigit(c)) {throw error("Invalid number.");}
+            text.append((char) c);
+        }
+        if(c != '0') {readDigits();}
+        if(peek() == '.') {
+            text.append((char) read());
+            if(readDigits() == 0) {throw error("Invalid number.");}
+        }
+        int p = peek();
+        if(p == 'e' || p == 'E') {
+            text.append((char) read());
+            p = peek();
+            if(p == '+' || p == '-') {text.append((char) read());}
+            if(readDigits() == 0) {throw error("Invalid number.");}
+        }
+    }
+
+    /**
+     * Private internal method to read a sequence of digits.
+     *
+     * @return Number of the digits read.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private int readDigits() throws IOException {
+        int count = 0;
+        while (isDigit(peek())) {
+            text.append((char) read());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Private internal method to skip whitespaces and read the next character.
+     *
+     * @return The next non-whitespace character, or -1 at the end of the source.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if(position == limit && !fill()) {return -1;}
+            char ch = buffer[position++];
+            if(ch != ' ' && ch != '\t' && ch != '\n' && ch != '\r') {return ch;}
+        }
+    }
+
+    /**
+     * Private internal method to read the next character.
+     *
+     * @return The next character, or -1 at the end of the source.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private int read() throws IOException {
+        if(position == limit && !fill()) {return -1;}
+        return buffer[position++];
+    }
+
+    /**
+     * Private internal method to get the next character without consuming it.
+     *
+     * @return The next character, or -1 at the end of the source.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private int peek() throws IOException {
+        if(position == limit && !fill()) {return -1;}
+        return buffer[position];
+    }
+
+    /**
+     * Private internal method to refill the buffer.
+     *
+     * @return false at the end of the source.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = Math.max(reader.read(buffer, 0, BUFFER_SIZE), 0);
+        return limit > 0;
+    }
+
+    /**
+     * Private internal method to check whether the character is a decimal digit.
+     *
+     * @param c Character.
+     * @return true if the character is between '0' and '9'.
+     */
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Private internal method to create the exception for malformed documents.
+     *
+     * @param message Detail of the error.
+     * @return Exception to be thrown.
+     */
+    private JsonFormatViolationException error(String message) {
+        String detail = String.format(ExceptionMessage.jsonFormatViolationMessage, offset + position, message);
+        return new JsonFormatViolationException(String.format(ExceptionMessage.format, "JSON", detail));
+    }
+}
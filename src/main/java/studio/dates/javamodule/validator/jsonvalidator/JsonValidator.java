@@ -0,0 +1,394 @@
+package studio.dates.javamodule.validator.jsonvalidator;
+
+import studio.dates.javamodule.validator.enums.JsonToken;
+import studio.dates.javamodule.validator.enums.ValidationMethod;
+import studio.dates.javamodule.validator.exception.AggregatedValidationException;
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JSON Validator provides Validation sequence for JSON documents without binding them to objects.<br>
+ * The document is tokenized incrementally, and the constraints are applied to the values as they stream past.<br>
+ * Objects and arrays which are not covered by any rule are skipped without materializing their text.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;public static final JsonValidator validator =<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;new JsonValidator()<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.method(ValidationMethod.SEQUENTIAL)<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.rule("user.email", value -> Validator.email(value, Nullable.NOT_NULL, "email"))<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.rule("items[].sku", value -> Validator.regex(value, Nullable.NOT_EMPTY, "[A-Z]{3}-\\d{4}", "sku"));
+ *      </li>
+ *      <li>Validating<br>
+ *          &nbsp;&nbsp;validator.validate(inputStream);
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * Path format:<br>
+ * &nbsp;&nbsp;Field names are separated with ".", and "[]" matches every element of an array (e.g. "order.items[].sku", "[].id").<br>
+ * Rule values:<br>
+ * &nbsp;&nbsp;Constraints receive unescaped text for strings, literal text for numbers and booleans, and null for JSON null.<br>
+ * &nbsp;&nbsp;Constraints on an object or an array receive "{}" or "[]" without its contents, so only the null and presence checks are meaningful for them.<br>
+ * &nbsp;&nbsp;If a field is missing, or its parent is missing, null or not an object, the constraints of the field and of all the fields under it receive null
+ * (e.g. a NOT_NULL rule on "address.zip" fails for both {} and {"address": null}). Rules under "[]" are not applied to a missing array.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class JsonValidator {
+    /**
+     * The private field to store validation method setting.
+     */
+    private ValidationMethod method = ValidationMethod.SEQUENTIAL;
+
+    /**
+     * The private field to store the max number of the failures collected with COLLECT_UP_TO.
+     */
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * The private field to store the root of the rule tree.
+     */
+    private final PathNode root = new PathNode("");
+
+    /**
+     * Constructor without any argument.
+     */
+    public JsonValidator() {
+    }
+
+    /**
+     * Set validation method of the validation chain.
+     *
+     * @param method Four options:<br>
+     *               1. SYNCHRONOUS: the whole document is read, and Validation Exception with the result messages from all the failed constraints is thrown.<br>
+     *               2. SEQUENTIAL (default) / FAIL_FAST: reading stops at the first failed constraint, and its exception is thrown.<br>
+     *               3. COLLECT_UP_TO: same as SYNCHRONOUS, but reading stops when the limit set with "collectUpTo()" is reached.
+     * @return JsonValidator with new ValidationMethod value. This method is intended to be used as a part of the method chain.
+     */
+    public JsonValidator method(ValidationMethod method) {
+        this.method = method;
+        return this;
+    }
+
+    /**
+     * Set validation method to COLLECT_UP_TO with the limit of the failures.
+     *
+     * @param limit Max number of the failures to be collected. Reading stops once the limit is reached.
+     * @return JsonValidator with new ValidationMethod value. This method is intended to be used as a part of the method chain.
+     */
+    public JsonValidator collectUpTo(int limit) {
+        if(limit <= 0) {throw new IllegalArgumentException("limit must be positive.");}
+        this.method = ValidationMethod.COLLECT_UP_TO;
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Add a constraint for the value at the path.
+     *
+     * @param path Path of the value (e.g. "user.email", "items[].sku").
+     * @param constraint Constraint to be added to the validation chain.<br>
+     *                   Constraint must be a Consumer of the text of the value.
+     * @return JsonValidator with the new constraint. This method is intended to be used as a part of the method chain.
+     */
+    public JsonValidator rule(String path, Consumer<String> constraint) {
+        PathNode node = root;
+        for(String segment : path.split("\\.")) {
+            String name = segment;
+            int arrays = 0;
+            while (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2);
+                arrays++;
+            }
+            if(!name.isEmpty()) {node = node.field(name);}
+            for(int i = 0; i < arrays; i++) {node = node.element();}
+        }
+        if(node.constraints == null) {node.constraints = new LinkedList<>();}
+        node.constraints.add(constraint);
+        return this;
+    }
+
+    /**
+     * Run validation process for the JSON text.
+     *
+     * @param json validation target.
+     * @throws ValidationException Validation Exception thrown when the validation fails.
+     */
+    public void validate(String json) throws ValidationException {
+        validate(new StringReader(json));
+    }
+
+    /**
+     * Run validation process for the UTF-8 encoded JSON stream.<br>
+     * NOTE: The stream is not closed by this method.
+     *
+     * @param json validation target.
+     * @throws ValidationException Validation Exception thrown when the validation fails.
+     */
+    public void validate(InputStream json) throws ValidationException {
+        validate(new InputStreamReader(json, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Run validation process for the JSON stream.<br>
+     * NOTE: The reader is not closed by this method.
+     *
+     * @param json validation target.
+     * @throws ValidationException Validation Exception thrown when the validation fails.<br>
+     *                             AggregatedValidationException will be thrown when the validation method is set SYNCHRONOUS or COLLECT_UP_TO.<br>
+     *                             A Subclass of ValidationException will be thrown when the validation method is set SEQUENTIAL or FAIL_FAST.<br>
+     *                             JsonFormatViolationException is always thrown immediately when the document is malformed.
+     * @throws UncheckedIOException Exception thrown when the source cannot be read.
+     */
+    public void validate(Reader json) throws ValidationException {
+        JsonTokenizer tokenizer = new JsonTokenizer(json);
+        Violations violations = new Violations(method, limit);
+        try {
+            visit(tokenizer, tokenizer.next(), root, violations);
+            tokenizer.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        violations.throwIfAny();
+    }
+
+    /**
+     * Private internal method to validate the value starting at the current token.
+     *
+     * @param tokenizer Tokenizer positioned at the first token of the value.
+     * @param token The first token of the value.
+     * @param node Rule tree node matching the value.
+     * @param violations Failures collected so far.
+     * @throws IOException Exception thrown when the source cannot be read.
+     */
+    private void visit(JsonTokenizer tokenizer, JsonToken token, PathNode node, Violations violations) throws IOException {
+        if(node.constraints != null) {
+            if(token == JsonToken.START_OBJECT) {check(node, "{}", violations);}
+            else if(token == JsonToken.START_ARRAY) {check(node, "[]", violations);}
+            else {check(node, tokenizer.text(), violations);}
+        }
+        if(token == JsonToken.START_OBJECT) {
+            List<PathNode> fields = node.fields;
+            boolean[] seen = fields == null ? null : new boolean[fields.size()];
+            for(JsonToken next = tokenizer.next(); next != JsonToken.END_OBJECT; next = tokenizer.next()) {
+                int index = fields == null ? -1 : indexOf(fields, tokenizer);
+                JsonToken value = tokenizer.next();
+                if(index < 0) {tokenizer.skipChildren();}
+                else {
+                    seen[index] = true;
+                    visit(tokenizer, value, fields.get(index), violations);
+                }
+            }
+            if(fields != null) {
+                for(int i = 0; i < seen.length; i++) {
+                    if(!seen[i]) {missing(fields.get(i), violations);}
+                }
+            }
+            return;
+        }
+        if(token == JsonToken.START_ARRAY) {
+            for(JsonToken next = tokenizer.next(); next != JsonToken.END_ARRAY; next = tokenizer.next()) {
+                if(node.element == null) {tokenizer.skipChildren();}
+                else {visit(tokenizer, next, node.element, violations);}
+            }
+        }
+        if(node.fields != null) {
+            for(PathNode field : node.fields) {missing(field, violations);}
+        }
+    }
+
+    /**
+     * Private internal method to apply the constraints of the missing field and of all the fields under it with null.
+     * Array elements under the field are not checked, because a missing array has no element.
+     *
+     * @param node Rule tree node of the missing field.
+     * @param violations Failures collected so far.
+     */
+    private static void missing(PathNode node, Violations violations) {
+        if(node.constraints != null) {check(node, null, violations);}
+        if(node.fields != null) {
+            for(PathNode field : node.fields) {missing(field, violations);}
+        }
+    }
+
+    /**
+     * Private internal method to find the field node matching the current field name.
+     *
+     * @param fields Field nodes.
+     * @param tokenizer Tokenizer positioned at a field name.
+     * @return Index of the matching node, or -1 if no node matches.
+     */
+    private static int indexOf(List<PathNode> fields, JsonTokenizer tokenizer) {
+        for(int i = 0; i < fields.size(); i++) {
+            if(tokenizer.textEquals(fields.get(i).name)) {return i;}
+        }
+        return -1;
+    }
+
+    /**
+     * Private internal method to apply the constraints of the node.
+     *
+     * @param node Rule tree node.
+     * @param value Text of the value.
+     * @param violations Failures collected so far.
+     */
+    private static void check(PathNode node, String value, Violations violations) {
+        for(Consumer<String> constraint : node.constraints) {
+            if(!violations.collecting) {
+                constraint.accept(value);
+                continue;
+            }
+            try {
+                constraint.accept(value);
+            } catch (ValidationException e) {
+                violations.add(e);
+            }
+        }
+    }
+
+    /**
+     * Failures collected during one validation run (SYNCHRONOUS and COLLECT_UP_TO only).
+     */
+    private static class Violations {
+        /**
+         * Whether the failures are collected. If false, the exceptions are thrown as they are.
+         */
+        private final boolean collecting;
+
+        /**
+         * Number of the failures which can still be collected.
+         */
+        private int remaining;
+
+        /**
+         * Exceptions of the failed constraints.
+         */
+        private List<ValidationException> exceptions;
+
+        /**
+         * Constructor with the validation method and the limit as the arguments.
+         *
+         * @param method Validation method.
+         * @param limit Max number of the failures collected with COLLECT_UP_TO.
+         */
+        private Violations(ValidationMethod method, int limit) {
+            this.collecting = method == ValidationMethod.SYNCHRONOUS || method == ValidationMethod.COLLECT_UP_TO;
+            this.remaining = method == ValidationMethod.COLLECT_UP_TO ? limit : Integer.MAX_VALUE;
+        }
+
+        /**
+         * Add a failure. Reading stops when the limit is reached.
+         *
+         * @param e Validation Exception thrown by the constraint.
+         * @throws ValidationException Validation Exception thrown when the limit is reached.
+         */
+        private void add(ValidationException e) throws ValidationException {
+            if(exceptions == null) {exceptions = new ArrayList<>();}
+            exceptions.add(e);
+            if(--remaining == 0) {throwIfAny();}
+        }
+
+        /**
+         * Throw the collected failures.
+         *
+         * @throws ValidationException Validation Exception thrown when any failure is collected.
+         */
+        private void throwIfAny() throws ValidationException {
+            if(exceptions != null) {
+                throw new AggregatedValidationException(exceptions);
+            }
+        }
+    }
+
+    /**
+     * Node of the rule tree. Each node matches one segment of the path.
+     */
+    private static class PathNode {
+        /**
+         * Field name of the node ("[]" for array elements).
+         */
+        private final String name;
+
+        /**
+         * Full path of the node (used for exception messages).
+         */
+        private final String path;
+
+        /**
+         * Child nodes matching object fields.
+         */
+        private List<PathNode> fields;
+
+        /**
+         * Child node matching array elements.
+         */
+        private PathNode element;
+
+        /**
+         * Constraints applied to the value of the node.
+         */
+        private List<Consumer<String>> constraints;
+
+        /**
+         * Constructor with the path as the argument.
+         *
+         * @param path Full path of the node.
+         */
+        private PathNode(String path) {
+            this(path, path);
+        }
+
+        /**
+         * Constructor with the name and the path as the arguments.
+         *
+         * @param name Field name of the node.
+         * @param path Full path of the node.
+         */
+        private PathNode(String name, String path) {
+            this.name = name;
+            this.path = path;
+        }
+
+        /**
+         * Get (or create) the child node for the field.
+         *
+         * @param name Field name.
+         * @return Child node.
+         */
+        private PathNode field(String name) {
+            if(fields == null) {fields = new ArrayList<>();}
+            for(PathNode field : fields) {
+                if(field.name.equals(name)) {return field;}
+            }
+            PathNode field = new PathNode(name, path.isEmpty() ? name : path + "." + name);
+            fields.add(field);
+            return field;
+        }
+
+        /**
+         * Get (or create) the child node for array elements.
+         *
+         * @return Child node.
+         */
+        private PathNode element() {
+            if(element == null) {element = new PathNode("[]", path + "[]");}
+            return element;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package studio.dates.javamodule.validator.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of one named constraint.<br>
+ * Recording does not take any lock, so a single instance can be shared by all the threads running the constraint.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ConstraintMetrics {
+    /**
+     * The private field to store the name of the constraint.
+     */
+    private final String name;
+
+    /**
+     * The private field to store the number of the invocations.
+     */
+    private final LongAdder invocations = new LongAdder();
+
+    /**
+     * The private field to store the number of the failures.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * The private field to store the number of the failures by the exception class.
+     */
+    private final ConcurrentHashMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    /**
+     * The private field to store the latency histogram.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Constructor with the name of the constraint as the argument.
+     *
+     * @param name Name of the constraint.
+     */
+    public ConstraintMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter for "name" field.
+     *
+     * @return Name of the constraint.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Record a successful invocation.
+     *
+     * @param nanos Duration of the invocation in nanoseconds.
+     */
+    public void record(long nanos) {
+        invocations.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Record a failed invocation.
+     *
+     * @param nanos Duration of the invocation in nanoseconds.
+     * @param type Class of the Validation Exception (or the reason) of the failure.
+     */
+    public void recordFailure(long nanos, Class<?> type) {
+        record(nanos);
+        recordFailure(type);
+    }
+
+    /**
+     * Record a failure without the invocation and its duration (used when only the failures can be observed).
+     *
+     * @param type Class of the Validation Exception (or the reason) of the failure.
+     */
+    public void recordFailure(Class<?> type) {
+        failures.increment();
+        LongAdder counter = failuresByType.get(type);
+        if(counter == null) {counter = failuresByType.computeIfAbsent(type, key -> new LongAdder());}
+        counter.increment();
+    }
+
+    /**
+     * Take a snapshot of the current values.<br>
+     * NOTE: Counters are read one by one, so the values recorded during the snapshot can be partially included.
+     *
+     * @return Snapshot of the metrics.
+     */
+    public ConstraintMetricsSnapshot snapshot() {
+        Map<String, Long> types = new TreeMap<>();
+        failuresByType.forEach((type, counter) -> types.put(type.getName(), counter.sum()));
+        return new ConstraintMetricsSnapshot(name, invocations.sum(), failures.sum(), types, latency.counts(), latency.total());
+    }
+
+    /**
+     * Package-private method to read the number of the invocations without taking a snapshot.
+     *
+     * @return Number of the invocations.
+     */
+    long invocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Package-private method to read the failure counters by the exception class without taking a snapshot.
+     *
+     * @return Live view of the counters.
+     */
+    Map<Class<?>, LongAdder> failuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * Package-private method to read the latency histogram without taking a snapshot.
+     *
+     * @return Live histogram.
+     */
+    LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * Clear all the counters and the histogram. The counters are reset in place, so failures recorded during the reset are not lost
+     * with a removed counter. The exception classes seen before are kept with the count 0.
+     */
+    public void reset() {
+        invocations.reset();
+        failures.reset();
+        for(LongAdder counter : failuresByType.values()) {counter.reset();}
+        latency.reset();
+    }
+}
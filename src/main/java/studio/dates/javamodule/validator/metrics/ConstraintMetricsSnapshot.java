@@ -0,0 +1,144 @@
+package studio.dates.javamodule.validator.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the metrics of one named constraint.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ConstraintMetricsSnapshot {
+    /**
+     * The private field to store the name of the constraint.
+     */
+    private final String name;
+
+    /**
+     * The private field to store the number of the invocations.
+     */
+    private final long invocations;
+
+    /**
+     * The private field to store the number of the failures.
+     */
+    private final long failures;
+
+    /**
+     * The private field to store the number of the failures by the fully qualified name of the exception class.
+     */
+    private final Map<String, Long> failuresByType;
+
+    /**
+     * The private field to store the counts of the latency buckets (see LatencyHistogram).
+     */
+    private final long[] latencyBuckets;
+
+    /**
+     * The private field to store the sum of the durations in nanoseconds.
+     */
+    private final long totalNanos;
+
+    /**
+     * Constructor with all the values as the arguments.
+     *
+     * @param name Name of the constraint.
+     * @param invocations Number of the invocations.
+     * @param failures Number of the failures.
+     * @param failuresByType Number of the failures by the fully qualified name of the exception class.
+     * @param latencyBuckets Counts of the latency buckets.
+     * @param totalNanos Sum of the durations in nanoseconds.
+     */
+    public ConstraintMetricsSnapshot(String name, long invocations, long failures, Map<String, Long> failuresByType, long[] latencyBuckets, long totalNanos) {
+        this.name = name;
+        this.invocations = invocations;
+        this.failures = failures;
+        this.failuresByType = Collections.unmodifiableMap(failuresByType);
+        this.latencyBuckets = latencyBuckets;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Getter for "name" field.
+     *
+     * @return Name of the constraint.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for "invocations" field.
+     *
+     * @return Number of the invocations.
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Getter for "failures" field.
+     *
+     * @return Number of the failures.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Getter for "failuresByType" field.
+     *
+     * @return Number of the failures by the fully qualified name of the exception class.
+     */
+    public Map<String, Long> getFailuresByType() {
+        return failuresByType;
+    }
+
+    /**
+     * Getter for "latencyBuckets" field.
+     *
+     * @return Copy of the counts of the latency buckets. Use "LatencyHistogram.upperBound()" to get the range of each bucket.
+     */
+    public long[] getLatencyBuckets() {
+        return latencyBuckets.clone();
+    }
+
+    /**
+     * Getter for "totalNanos" field.
+     *
+     * @return Sum of the durations in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Get the mean duration.
+     *
+     * @return Mean duration in nanoseconds, or 0 if no invocation is recorded.
+     */
+    public double getMeanNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+    /**
+     * Get the approximate percentile of the durations.
+     *
+     * @param percentile Percentile (0.0 - 1.0).
+     * @return Upper bound of the bucket containing the percentile in nanoseconds, or 0 if no invocation is recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long count = 0;
+        for(long bucket : latencyBuckets) {count += bucket;}
+        if(count == 0) {return 0;}
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for(int i = 0; i < latencyBuckets.length; i++) {
+            seen += latencyBuckets[i];
+            if(seen >= rank) {return LatencyHistogram.upperBound(i);}
+        }
+        return LatencyHistogram.upperBound(latencyBuckets.length - 1);
+    }
+}
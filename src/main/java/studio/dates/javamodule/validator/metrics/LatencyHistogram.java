@@ -0,0 +1,107 @@
+package studio.dates.javamodule.validator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets (in nanoseconds).<br>
+ * Bucket "i" counts the durations between 2^(i-1) and 2^i - 1 nanoseconds (bucket 0 counts zero durations),
+ * and the last bucket counts all the longer durations.<br>
+ * Each bucket is a Long Adder, so the threads recording similar durations do not contend on the same counter.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class LatencyHistogram {
+    /**
+     * Number of the buckets. The last bounded bucket ends at about 275 seconds.
+     */
+    public static final int BUCKETS = 40;
+
+    /**
+     * The private field to store the counts of the buckets.
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    /**
+     * The private field to store the sum of the recorded durations.
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Constructor without any argument.
+     */
+    public LatencyHistogram() {
+        for(int i = 0; i < BUCKETS; i++) {counts[i] = new LongAdder();}
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        counts[bucket(nanos)].increment();
+        total.add(nanos);
+    }
+
+    /**
+     * Get the counts of the buckets.
+     *
+     * @return Copy of the bucket counts.
+     */
+    public long[] counts() {
+        long[] copy = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) {copy[i] = counts[i].sum();}
+        return copy;
+    }
+
+    /**
+     * Get the count of a bucket without copying all the counts.
+     *
+     * @param bucket Index of the bucket.
+     * @return Count of the bucket.
+     */
+    public long count(int bucket) {
+        return counts[bucket].sum();
+    }
+
+    /**
+     * Get the sum of the recorded durations.
+     *
+     * @return Sum in nanoseconds.
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * Clear all the buckets.<br>
+     * NOTE: Durations recorded during the reset can be partially kept.
+     */
+    public void reset() {
+        for(int i = 0; i < BUCKETS; i++) {counts[i].reset();}
+        total.reset();
+    }
+
+    /**
+     * Get the largest duration counted by the bucket.
+     *
+     * @param bucket Index of the bucket.
+     * @return Upper bound (inclusive) in nanoseconds. Long.MAX_VALUE for the last bucket.
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Private internal method to find the bucket of the duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Index of the bucket.
+     */
+    private static int bucket(long nanos) {
+        if(nanos <= 0) {return 0;}
+        return Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+    }
+}
@@ -0,0 +1,265 @@
+package studio.dates.javamodule.validator.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prometheus Exporter serves the metrics of a registry in Prometheus text format (version 0.0.4).<br>
+ * The endpoint runs on the HTTP server of the JDK ("jdk.httpserver" module), so no other dependency is required.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Serving<br>
+ *          &nbsp;&nbsp;PrometheusExporter exporter = new PrometheusExporter(metrics).start(new InetSocketAddress("127.0.0.1", 9404));<br>
+ *          &nbsp;&nbsp;// GET http://127.0.0.1:9404/metrics
+ *      </li>
+ *      <li>Rendering without the server<br>
+ *          &nbsp;&nbsp;String text = exporter.render();
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * Exported families ("constraint" label is the name in the registry):
+ * <ul>
+ *      <li>dates_validator_invocations_total (counter)</li>
+ *      <li>dates_validator_failures_total (counter, with "exception" label of the fully qualified name of the exception class)</li>
+ *      <li>dates_validator_latency_seconds (histogram)</li>
+ * </ul>
+ * Counters are read directly from the live metrics without snapshots, and the text is written into a buffer reused by every scrape,
+ * so scraping does not affect the recording threads.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class PrometheusExporter {
+    /**
+     * Path of the metrics endpoint.
+     */
+    public static final String PATH = "/metrics";
+
+    /**
+     * Content type of Prometheus text format.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Prefix of the metric names.
+     */
+    private static final String PREFIX = "dates_validator_";
+
+    /**
+     * Rendered "le" label values of the latency buckets in seconds (rendered once).
+     */
+    private static final String[] LE = new String[LatencyHistogram.BUCKETS];
+
+    static {
+        for(int i = 0; i < LatencyHistogram.BUCKETS - 1; i++) {LE[i] = Double.toString(LatencyHistogram.upperBound(i) / 1e9);}
+        LE[LatencyHistogram.BUCKETS - 1] = "+Inf";
+    }
+
+    /**
+     * The private field to store the exported registry.
+     */
+    private final ValidationMetrics metrics;
+
+    /**
+     * The private field to store the buffer reused by every rendering.
+     */
+    private final StringBuilder buffer = new StringBuilder(4096);
+
+    /**
+     * The private field to store the running server.
+     */
+    private HttpServer server;
+
+    /**
+     * Constructor with the registry as the argument.
+     *
+     * @param metrics Registry to be exported.
+     */
+    public PrometheusExporter(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Start the HTTP server serving "/metrics". Requests are handled on the single dispatcher thread of the server.
+     *
+     * @param address Address to bind. Use the loopback address unless the endpoint must be reachable from other hosts.
+     * @return This exporter.
+     * @throws UncheckedIOException Exception thrown when the server cannot be bound.
+     * @throws IllegalStateException Exception thrown when the server is already running.
+     */
+    public synchronized PrometheusExporter start(InetSocketAddress address) {
+        if(server != null) {throw new IllegalStateException("Exporter is already running.");}
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(PATH, this::handle);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Stop the HTTP server. Nothing is done if the server is not running.
+     */
+    public synchronized void stop() {
+        if(server == null) {return;}
+        server.stop(0);
+        server = null;
+    }
+
+    /**
+     * Get the address the server is bound to (useful when port 0 is given to "start()").
+     *
+     * @return Bound address, or null if the server is not running.
+     */
+    public synchronized InetSocketAddress getAddress() {
+        return server == null ? null : server.getAddress();
+    }
+
+    /**
+     * Render the current values in Prometheus text format.
+     *
+     * @return Exposition text.
+     */
+    public String render() {
+        synchronized (buffer) {
+            return renderToBuffer().toString();
+        }
+    }
+
+    /**
+     * Private internal method to handle a scrape.
+     *
+     * @param exchange HTTP exchange.
+     * @throws IOException Exception thrown when the response cannot be written.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if(!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body;
+            synchronized (buffer) {
+                body = renderToBuffer().toString().getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if(method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Private internal method to render all the families into the reused buffer. The caller must hold the lock of the buffer.
+     *
+     * @return Buffer holding the exposition text.
+     */
+    private StringBuilder renderToBuffer() {
+        StringBuilder out = buffer;
+        out.setLength(0);
+
+        family(out, "invocations_total", "counter", "Number of the constraint invocations.");
+        for(ConstraintMetrics constraint : metrics.constraints()) {
+            sample(out, "invocations_total", constraint.getName()).append(' ').append(constraint.invocations()).append('\n');
+        }
+
+        family(out, "failures_total", "counter", "Number of the constraint failures by the exception class.");
+        for(ConstraintMetrics constraint : metrics.constraints()) {
+            for(Map.Entry<Class<?>, LongAdder> entry : constraint.failuresByType().entrySet()) {
+                sample(out, "failures_total", constraint.getName());
+                out.setLength(out.length() - 1);
+                out.append(",exception=\"");
+                escape(out, entry.getKey().getName());
+                out.append("\"} ").append(entry.getValue().sum()).append('\n');
+            }
+        }
+
+        family(out, "latency_seconds", "histogram", "Duration of the constraint invocations.");
+        for(ConstraintMetrics constraint : metrics.constraints()) {
+            LatencyHistogram latency = constraint.latency();
+            long cumulative = 0;
+            for(int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+                cumulative += latency.count(i);
+                sample(out, "latency_seconds_bucket", constraint.getName());
+                out.setLength(out.length() - 1);
+                out.append(",le=\"").append(LE[i]).append("\"} ").append(cumulative).append('\n');
+            }
+            sample(out, "latency_seconds_sum", constraint.getName()).append(' ').append(latency.total() / 1e9).append('\n');
+            sample(out, "latency_seconds_count", constraint.getName()).append(' ').append(cumulative).append('\n');
+        }
+        return out;
+    }
+
+    /**
+     * Private internal method to write the HELP and TYPE lines of a family.
+     *
+     * @param out Buffer.
+     * @param name Name of the family without the prefix.
+     * @param type Prometheus type of the family.
+     * @param help Description of the family.
+     */
+    private static void family(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Private internal method to write the name and the constraint label of a sample.
+     *
+     * @param out Buffer.
+     * @param name Name of the sample without the prefix.
+     * @param constraint Name of the constraint.
+     * @return Buffer ending with the closing brace of the labels.
+     */
+    private static StringBuilder sample(StringBuilder out, String name, String constraint) {
+        out.append(PREFIX).append(name).append("{constraint=\"");
+        escape(out, constraint);
+        return out.append("\"}");
+    }
+
+    /**
+     * Private internal method to write a label value with the escapes of Prometheus text format.
+     *
+     * @param out Buffer.
+     * @param value Label value.
+     */
+    private static void escape(StringBuilder out, String value) {
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+}
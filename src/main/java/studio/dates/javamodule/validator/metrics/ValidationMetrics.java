@@ -0,0 +1,84 @@
+package studio.dates.javamodule.validator.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validation Metrics is the registry of the metrics of the named constraints.<br>
+ * Instrumentation is optional: validators record metrics only when a registry is set to them.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Building<br>
+ *          &nbsp;&nbsp;public static final ValidationMetrics metrics = new ValidationMetrics();<br>
+ *          &nbsp;&nbsp;public static final ClassValidator&lt;Person&gt; validator =<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;new ClassValidator&lt;Person&gt;()<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.name("person")<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.metrics(metrics)<br>
+ *          &nbsp;&nbsp;&nbsp;&nbsp;.constraint("email", entity -> Validator.email(entity.getEmail(), Nullable.NOT_NULL, "email"));
+ *      </li>
+ *      <li>Scraping<br>
+ *          &nbsp;&nbsp;for(ConstraintMetricsSnapshot snapshot : metrics.snapshot()) {...}
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ValidationMetrics {
+    /**
+     * The private field to store the metrics by the name of the constraint.
+     */
+    private final ConcurrentHashMap<String, ConstraintMetrics> constraints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor without any argument.
+     */
+    public ValidationMetrics() {
+    }
+
+    /**
+     * Get (or create) the metrics of the constraint.<br>
+     * NOTE: Validators resolve the metrics once when they are configured, so this method is not called on every validation.
+     *
+     * @param name Name of the constraint.
+     * @return Metrics of the constraint.
+     */
+    public ConstraintMetrics constraint(String name) {
+        return constraints.computeIfAbsent(name, ConstraintMetrics::new);
+    }
+
+    /**
+     * Take snapshots of all the constraints.
+     *
+     * @return Snapshots ordered by the name of the constraint.
+     */
+    public List<ConstraintMetricsSnapshot> snapshot() {
+        List<ConstraintMetricsSnapshot> snapshots = new ArrayList<>(constraints.size());
+        for(ConstraintMetrics metrics : constraints.values()) {snapshots.add(metrics.snapshot());}
+        snapshots.sort(Comparator.comparing(ConstraintMetricsSnapshot::getName));
+        return snapshots;
+    }
+
+    /**
+     * Package-private method to iterate the metrics without taking snapshots.
+     *
+     * @return Live view of the registered metrics (unordered).
+     */
+    Collection<ConstraintMetrics> constraints() {
+        return constraints.values();
+    }
+
+    /**
+     * Clear the counters of all the constraints. Registered constraints are kept.
+     */
+    public void reset() {
+        for(ConstraintMetrics metrics : constraints.values()) {metrics.reset();}
+    }
+}
@@ -0,0 +1,53 @@
+package studio.dates.javamodule.validator.stream;
+
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+/**
+ * Pair of the invalid element and the Validation Exception thrown for it.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <T> Class of validation Target
+ */
+public class ValidationFailure<T> {
+    /**
+     * The private field to store the invalid element.
+     */
+    private final T target;
+
+    /**
+     * The private field to store the Validation Exception thrown for the element.
+     */
+    private final ValidationException exception;
+
+    /**
+     * Constructor with the invalid element and the exception as the arguments.
+     *
+     * @param target Invalid element.
+     * @param exception Validation Exception thrown for the element.
+     */
+    public ValidationFailure(T target, ValidationException exception) {
+        this.target = target;
+        this.exception = exception;
+    }
+
+    /**
+     * Getter for "target" field.
+     *
+     * @return Invalid element.
+     */
+    public T getTarget() {
+        return target;
+    }
+
+    /**
+     * Getter for "exception" field.
+     *
+     * @return Validation Exception thrown for the element.
+     */
+    public ValidationException getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,61 @@
+package studio.dates.javamodule.validator.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of the partitioning collector. Valid elements and failures are kept in the encounter order.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ *
+ * @param <T> Class of validation Target
+ */
+public class ValidationPartition<T> {
+    /**
+     * The private field to store the valid elements.
+     */
+    private final List<T> valid = new ArrayList<>();
+
+    /**
+     * The private field to store the failures of the invalid elements.
+     */
+    private final List<ValidationFailure<T>> invalid = new ArrayList<>();
+
+    /**
+     * Constructor without any argument.
+     */
+    public ValidationPartition() {
+    }
+
+    /**
+     * Getter for "valid" field.
+     *
+     * @return Valid elements.
+     */
+    public List<T> getValid() {
+        return valid;
+    }
+
+    /**
+     * Getter for "invalid" field.
+     *
+     * @return Failures of the invalid elements.
+     */
+    public List<ValidationFailure<T>> getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * Internal method to merge the partial result of another thread (used as the combiner of the collector).
+     *
+     * @param other Partial result to be appended.
+     * @return This partition.
+     */
+    ValidationPartition<T> merge(ValidationPartition<T> other) {
+        valid.addAll(other.valid);
+        invalid.addAll(other.invalid);
+        return this;
+    }
+}
@@ -0,0 +1,107 @@
+package studio.dates.javamodule.validator.stream;
+
+import studio.dates.javamodule.validator.classbooleanvalidator.ClassBooleanValidator;
+import studio.dates.javamodule.validator.classvalidator.ClassValidator;
+import studio.dates.javamodule.validator.exception.ValidationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Validation Streams provides stream stages which validate the elements with Class Validator or Class Boolean Validator.<br>
+ * All the stages are stateless, so they can be used with parallel streams.
+ *
+ * <blockquote>
+ * Example:
+ * <ol>
+ *      <li>Partitioning<br>
+ *          &nbsp;&nbsp;ValidationPartition&lt;Person&gt; result = people.parallelStream().collect(ValidationStreams.partitioning(validator));
+ *      </li>
+ *      <li>Filtering<br>
+ *          &nbsp;&nbsp;people.stream().filter(ValidationStreams.valid(validator, failure -> log.warn(failure.getException().getMessage()))).forEach(repository::save);
+ *      </li>
+ * </ol>
+ * </blockquote>
+ *
+ * NOTE: Class Boolean Validator variants do not allocate any exception, so they are recommended when the reason of the failure is not needed.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+public class ValidationStreams {
+    /**
+     * Collector which splits the elements into valid elements and failures.
+     *
+     * @param validator Validator applied to each element.
+     * @param <T> Class of validation Target
+     * @return Collector returning Validation Partition.
+     */
+    public static <T> Collector<T, ?, ValidationPartition<T>> partitioning(ClassValidator<T> validator) {
+        return Collector.of(
+                ValidationPartition::new,
+                (partition, element) -> {
+                    try {
+                        validator.validate(element);
+                        partition.getValid().add(element);
+                    } catch (ValidationException e) {
+                        partition.getInvalid().add(new ValidationFailure<>(element, e));
+                    }
+                },
+                ValidationPartition::merge,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Collector which splits the elements into valid (true) and invalid (false) elements.
+     *
+     * @param validator Validator applied to each element.
+     * @param <T> Class of validation Target
+     * @return Collector returning the map of the validation result and the elements.
+     */
+    public static <T> Collector<T, ?, Map<Boolean, List<T>>> partitioning(ClassBooleanValidator<T> validator) {
+        return Collectors.partitioningBy(validator::validate);
+    }
+
+    /**
+     * Predicate which passes the valid elements and sends the failures to the sink (intended to be used with "filter()").<br>
+     * NOTE: The sink must be thread-safe when it is used with parallel streams.
+     *
+     * @param validator Validator applied to each element.
+     * @param sink Consumer of the failures.
+     * @param <T> Class of validation Target
+     * @return Predicate returning the validation result.
+     */
+    public static <T> Predicate<T> valid(ClassValidator<T> validator, Consumer<? super ValidationFailure<T>> sink) {
+        return element -> {
+            try {
+                validator.validate(element);
+                return true;
+            } catch (ValidationException e) {
+                sink.accept(new ValidationFailure<>(element, e));
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Predicate which passes the valid elements and sends the invalid elements to the sink (intended to be used with "filter()").<br>
+     * NOTE: The sink must be thread-safe when it is used with parallel streams.
+     *
+     * @param validator Validator applied to each element.
+     * @param sink Consumer of the invalid elements.
+     * @param <T> Class of validation Target
+     * @return Predicate returning the validation result.
+     */
+    public static <T> Predicate<T> valid(ClassBooleanValidator<T> validator, Consumer<? super T> sink) {
+        return element -> {
+            if(validator.validate(element)) {return true;}
+            sink.accept(element);
+            return false;
+        };
+    }
+}
@@ -1,16 +1,27 @@
 package studio.dates.javamodule.validator.validator;
 
+import studio.dates.javamodule.validator.core.DecimalBound;
+import studio.dates.javamodule.validator.core.DoubleRange;
+import studio.dates.javamodule.validator.core.IntRange;
+import studio.dates.javamodule.validator.core.IntSet;
+import studio.dates.javamodule.validator.core.LongRange;
+import studio.dates.javamodule.validator.core.LongSet;
 import studio.dates.javamodule.validator.core.NullCheckValidator;
+import studio.dates.javamodule.validator.core.NullPolicy;
 import studio.dates.javamodule.validator.core.NumericRangeValidator;
 import studio.dates.javamodule.validator.core.StringLengthValidator;
 import studio.dates.javamodule.validator.core.StringRegexValidator;
+import studio.dates.javamodule.validator.core.StringSet;
 import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.LengthMode;
 import studio.dates.javamodule.validator.enums.Nullable;
 import studio.dates.javamodule.validator.exception.ExceptionMessage;
 import studio.dates.javamodule.validator.exception.ValidationException;
 import studio.dates.javamodule.validator.exception.lengthvalidation.LengthViolationException;
 import studio.dates.javamodule.validator.exception.lengthvalidation.MaxLengthViolationException;
 import studio.dates.javamodule.validator.exception.lengthvalidation.MinLengthViolationException;
+import studio.dates.javamodule.validator.exception.membership.DeniedValueViolationException;
+import studio.dates.javamodule.validator.exception.membership.MembershipViolationException;
 import studio.dates.javamodule.validator.exception.nullvalidation.*;
 import studio.dates.javamodule.validator.exception.numericrange.MaxValueViolationException;
 import studio.dates.javamodule.validator.exception.numericrange.MinValueViolationException;
@@ -19,9 +30,18 @@ import studio.dates.javamodule.validator.exception.regexvalidation.EmailFormatVi
 import studio.dates.javamodule.validator.exception.regexvalidation.HttpFormatViolationException;
 import studio.dates.javamodule.validator.exception.regexvalidation.PhoneFormatViolationException;
 import studio.dates.javamodule.validator.exception.regexvalidation.StringFormatViolationException;
+import studio.dates.javamodule.validator.jfr.ViolationEvent;
+import studio.dates.javamodule.validator.metrics.ValidationMetrics;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.regex.Pattern;
 
 /**
  * Validator Class provides various common validation methods to validate single value.<br>
@@ -33,6 +53,31 @@ import java.lang.reflect.InvocationTargetException;
  *
  */
 public class Validator {
+    /**
+     * The private field to store the metrics registry for the static checks. Metrics are not recorded if this is null.
+     */
+    private static volatile ValidationMetrics metrics;
+
+    /**
+     * Set the metrics registry for the static checks.<br>
+     * Invocations, latencies and failures by the exception class are recorded under the name "Validator.{field name}".
+     * Nothing is recorded and no time is measured while this is null.
+     *
+     * @param metrics Metrics registry, or null to disable the instrumentation.
+     */
+    public static void metrics(ValidationMetrics metrics) {
+        Validator.metrics = metrics;
+    }
+
+    /**
+     * Getter for "metrics" field.
+     *
+     * @return Metrics registry for the static checks, or null if the instrumentation is disabled.
+     */
+    public static ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Requires target to be null.
      *
@@ -41,7 +86,12 @@ public class Validator {
      * @throws NullViolationException Validation Exception thrown when the target is not null.
      */
     public static void isNull(Object target, String name) throws NullViolationException {
-        if(!NullCheckValidator.isNull(target)) {throwException(NullViolationException.class, name, ExceptionMessage.nullViolationMessage);}
+        long start = start();
+        try {
+            if(!NullCheckValidator.isNull(target)) {throwException(NullViolationException.class, name, ExceptionMessage.nullViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -52,7 +102,12 @@ public class Validator {
      * @throws NotNullViolationException Validation Exception thrown when the target is null.
      */
     public static void notNull(Object target, String name) throws NotNullViolationException {
-        if(NullCheckValidator.isNull(target)) {throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
+        long start = start();
+        try {
+            if(NullCheckValidator.isNull(target)) {throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -64,7 +119,12 @@ public class Validator {
      * @throws EmptyViolationException Validation Exception thrown when the target is not empty.
      */
     public static void isEmpty(String target, String name)  throws EmptyViolationException{
-        if(NullCheckValidator.isEmpty(target)) {throwException(EmptyViolationException.class, name, ExceptionMessage.emptyViolationMessage);}
+        long start = start();
+        try {
+            if(NullCheckValidator.isEmpty(target)) {throwException(EmptyViolationException.class, name, ExceptionMessage.emptyViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -77,8 +137,13 @@ public class Validator {
      * @throws NotNullViolationException Validation Exception thrown when the target is null.
      */
     public static void isEmptyNotNull(String target, String name) throws NotNullViolationException, EmptyViolationException {
-        if(NullCheckValidator.isNull(target)) {throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
-        if(!NullCheckValidator.isEmpty(target)) {throwException(EmptyViolationException.class, name, ExceptionMessage.emptyViolationMessage);}
+        long start = start();
+        try {
+            if(NullCheckValidator.isNull(target)) {throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
+            if(!NullCheckValidator.isEmpty(target)) {throwException(EmptyViolationException.class, name, ExceptionMessage.emptyViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -90,7 +155,12 @@ public class Validator {
      * @throws NotEmptyViolationException Validation Exception thrown when the target is empty.
      */
     public static void notEmpty(String target, String name) throws NotEmptyViolationException {
-        if(NullCheckValidator.isEmpty(target)) {throwException(NotEmptyViolationException.class, name, ExceptionMessage.notEmptyViolationMessage);}
+        long start = start();
+        try {
+            if(NullCheckValidator.isEmpty(target)) {throwException(NotEmptyViolationException.class, name, ExceptionMessage.notEmptyViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -102,7 +172,12 @@ public class Validator {
      * @throws NotBlankViolationException Validation Exception thrown when the target is blank.
      */
     public static void notBlank(String target, String name) throws NotBlankViolationException {
-        if(NullCheckValidator.isBlank(target)) {throwException(NotBlankViolationException.class, name, ExceptionMessage.notBlankViolationMessage);}
+        long start = start();
+        try {
+            if(NullCheckValidator.isBlank(target)) {throwException(NotBlankViolationException.class, name, ExceptionMessage.notBlankViolationMessage);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -116,9 +191,14 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(int target, int minInclusive, int maxInclusive, String name) throws NumericValueRangeViolationException {
-        if(!NumericRangeValidator.range(target,minInclusive,maxInclusive)) {
-            String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
-            throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(!NumericRangeValidator.range(target,minInclusive,maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -132,9 +212,14 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(long target, long minInclusive, int maxInclusive, String name) throws NumericValueRangeViolationException {
-        if(!NumericRangeValidator.range(target,minInclusive,maxInclusive)) {
-            String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
-            throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(!NumericRangeValidator.range(target,minInclusive,maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -150,9 +235,14 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(double target, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod, String name) throws NumericValueRangeViolationException {
-        if(!NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod)) {
-            String message = String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage());
-            throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(!NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage());
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -170,10 +260,15 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(Number target, Nullable nullable, int minInclusive, int maxInclusive, String name) throws NotNullViolationException, NumericValueRangeViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.range((int) target, minInclusive, maxInclusive)) {
-            String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
-            throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.within(target, minInclusive, maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -191,10 +286,15 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(Long target, Nullable nullable, long minInclusive, int maxInclusive, String name) throws NotNullViolationException, NumericValueRangeViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.range(target, minInclusive, maxInclusive)) {
-            String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
-            throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target, minInclusive, maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -214,9 +314,282 @@ public class Validator {
      * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
      */
     public static void range(Double target, Nullable nullable, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod, String name) throws NotNullViolationException, NumericValueRangeViolationException {
-        if(numberNullCheck(target, nullable, name)){return;}
-        String message = String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage());
-        if(!NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod)) {throwException(NumericValueRangeViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)){return;}
+            if(!NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage());
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.<br>
+     * Example: Validator.range(value.orElse(0), value.isPresent(), Nullable.ALLOW_NULL, 0, 100, "score")
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     */
+    public static void range(int target, boolean present, Nullable nullable, int minInclusive, int maxInclusive, String name) throws NotNullViolationException, NumericValueRangeViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target,minInclusive,maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     */
+    public static void range(long target, boolean present, Nullable nullable, long minInclusive, long maxInclusive, String name) throws NotNullViolationException, NumericValueRangeViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target, minInclusive, maxInclusive)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException1, minInclusive, maxInclusive);
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the float/double target in the specified range. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
+     *
+     * @param target Validation target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min value.
+     * @param minBorderMethod Defines the min border value is included or not.
+     * @param max Max value.
+     * @param maxBorderMethod Defines the max border value is included or not.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     */
+    public static void range(double target, boolean present, Nullable nullable, double min, BorderMethod minBorderMethod, double max, BorderMethod maxBorderMethod, String name) throws NotNullViolationException, NumericValueRangeViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target, min, minBorderMethod, max, maxBorderMethod)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException2, min, minBorderMethod.getMessage(), max, maxBorderMethod.getMessage());
+                throwException(NumericValueRangeViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the BigDecimal target in the specified range. The bounds are prepared once with "DecimalBound.of()", and the message is formatted only when the validation fails.
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @param max Max bound.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     */
+    public static void range(BigDecimal target, Nullable nullable, DecimalBound min, DecimalBound max, String name) throws NotNullViolationException, NumericValueRangeViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target, min, max)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException3, min, min.getBorderMethod().getMessage(), max, max.getBorderMethod().getMessage());
+                throwException(NumericValueRangeViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the BigInteger target in the specified range. The bounds are prepared once with "DecimalBound.of()", and the message is formatted only when the validation fails.
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min bound.
+     * @param max Max bound.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     */
+    public static void range(BigInteger target, Nullable nullable, DecimalBound min, DecimalBound max, String name) throws NotNullViolationException, NumericValueRangeViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.range(target, min, max)) {
+                String message = String.format(ExceptionMessage.numericRangeViolationException3, min, min.getBorderMethod().getMessage(), max, max.getBorderMethod().getMessage());
+                throwException(NumericValueRangeViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target in the range. The message of the range is rendered when the range is created.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(int target, IntRange range, String name) throws NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target in the range. The message of the range is rendered when the range is created.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(long target, LongRange range, String name) throws NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the float/double target in the range. The message of the range is rendered when the range is created.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(double target, DoubleRange range, String name) throws NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Integer" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(Integer target, Nullable nullable, IntRange range, String name) throws NotNullViolationException, NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Long" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(Long target, Nullable nullable, LongRange range, String name) throws NotNullViolationException, NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Double" target in the range. This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param range Range.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NumericValueRangeViolationException Validation Exception thrown when the target value is out of range.
+     *                                             MinValueViolationException or MaxValueViolationException is thrown instead if the range only has min or max value.
+     */
+    public static void range(Double target, Nullable nullable, DoubleRange range, String name) throws NotNullViolationException, NumericValueRangeViolationException, MinValueViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!range.check(target)) {throwException(rangeException(range.hasMin(), range.hasMax()), name, range.getMessage());}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -229,9 +602,14 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
     public static void min(int target, int minInclusive, String name) throws MinValueViolationException {
-        if(!NumericRangeValidator.min(target, minInclusive)){
-            String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
-            throwException(MinValueViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(!NumericRangeValidator.min(target, minInclusive)){
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -244,9 +622,14 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
     public static void min(long target, long minInclusive, String name) throws MinValueViolationException {
-        if(!NumericRangeValidator.min(target, minInclusive)){
-            String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
-            throwException(MinValueViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(!NumericRangeValidator.min(target, minInclusive)){
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -260,9 +643,14 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than (or equal to) min value.
      */
     public static void min(double target, double min, BorderMethod borderMethod, String name) throws MinValueViolationException {
-        if(!NumericRangeValidator.min(target, min, borderMethod)) {
-            String message = String.format(ExceptionMessage.minValueViolationMessage2, min, borderMethod.getMessage());
-            throwException(MinValueViolationException.class, name, message);
+        long start = start();
+        try {
+            if(!NumericRangeValidator.min(target, min, borderMethod)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage2, min, borderMethod.getMessage());
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -280,10 +668,15 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
     public static void min(Number target, Nullable nullable, int minInclusive, String name) throws NotNullViolationException, MinValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.min((int) target, minInclusive)) {
-            String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
-            throwException(MinValueViolationException.class, name, message);
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.atLeast(target, minInclusive)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -301,10 +694,15 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
     public static void min(Long target, Nullable nullable, long minInclusive, String name) throws NotNullViolationException, MinValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.min(target, minInclusive)) {
-            String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
-            throwException(MinValueViolationException.class, name, message);
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, minInclusive)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -323,123 +721,424 @@ public class Validator {
      * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than (or equal to) min value.
      */
     public static void min(Double target, Nullable nullable, double min, BorderMethod borderMethod, String name) throws NotNullViolationException, MinValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.min(target, min, borderMethod)) {
-            String message = String.format(ExceptionMessage.minValueViolationMessage2, min, borderMethod);
-            throwException(MinValueViolationException.class, name, message);
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, min, borderMethod)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage2, min, borderMethod);
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the integer target to be smaller than or equal to the specified value.<br>
-     * NOTE: For wrapper classes, use another variant instead.
+     * Requires the integer target to be larger than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.
      *
-     * @param target Validation Target.
-     * @param maxInclusive Max value (inclusive).
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
      * @param name Name of the field to be checked. This parameter is used for the exception message.
-     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
-    public static void max(int target, int maxInclusive, String name) throws MaxValueViolationException {
-        if(!NumericRangeValidator.max(target, maxInclusive)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
-            throwException(MaxValueViolationException.class, name, message);
+    public static void min(int target, boolean present, Nullable nullable, int minInclusive, String name) throws NotNullViolationException, MinValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, minInclusive)){
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the long integer target to be smaller than or equal to the specified value.<br>
-     * NOTE: For wrapper classes, use another variant instead.
+     * Requires the long integer target to be larger than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
      *
-     * @param target Validation Target.
-     * @param maxInclusive Max value (inclusive).
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param minInclusive Min value (inclusive).
      * @param name Name of the field to be checked. This parameter is used for the exception message.
-     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than min value.
      */
-    public static void max(long target, long maxInclusive, String name) throws MaxValueViolationException {
-        if(!NumericRangeValidator.max(target, maxInclusive)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
-            throwException(MaxValueViolationException.class, name, message);
+    public static void min(long target, boolean present, Nullable nullable, long minInclusive, String name) throws NotNullViolationException, MinValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, minInclusive)){
+                String message = String.format(ExceptionMessage.minValueViolationMessage1, minInclusive);
+                throwException(MinValueViolationException.class, name, message);}
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the float/double target to be smaller than (or equal to) the specified value.<br>
-     * NOTE: For wrapper classes, use another variant instead.
+     * Requires the float/double target to be larger than (or equal to) the specified value. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
      *
-     * @param target Validation Target.
-     * @param max Max value.
-     * @param borderMethod Defines the max border value is included or not.
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param min Min value.
+     * @param borderMethod Defines the min border value is included or not.
      * @param name Name of the field to be checked. This parameter is used for the exception message.
-     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than (or equal to) min value.
      */
-    public static void max(double target, double max, BorderMethod borderMethod, String name) throws MaxValueViolationException {
-        if(!NumericRangeValidator.max(target, max, borderMethod)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage2, max, borderMethod);
-            throwException(MaxValueViolationException.class, name, message);
+    public static void min(double target, boolean present, Nullable nullable, double min, BorderMethod borderMethod, String name) throws NotNullViolationException, MinValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, min, borderMethod)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage2, min, borderMethod.getMessage());
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the integer target to be smaller than or equal to the specified value. This is a variant for wrapper classes.
+     * Requires the BigDecimal target to be larger than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
      *
-     * @param target Validation Target.
+     * @param target Validation target.
      * @param nullable Two options:<br>
      *                 NOT_NULL: If null, the validation fails.<br>
      *                 ALLOW_NULL: If null, the validation succeeds.<br>
      *                 NOTE: Using other values are not recommended.
-     * @param maxInclusive Max value (inclusive).
+     * @param min Min bound.
      * @param name Name of the field to be checked. This parameter is used for the exception message.
      * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
-     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than (or equal to) min value.
      */
-    public static void max(Number target, Nullable nullable, int maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.max((int) target, maxInclusive)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
-            throwException(MaxValueViolationException.class, name, message);
+    public static void min(BigDecimal target, Nullable nullable, DecimalBound min, String name) throws NotNullViolationException, MinValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, min)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage3, min, min.getBorderMethod().getMessage());
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the long integer target to be smaller than or equal to the specified value. This is a variant for "Long" class.
+     * Requires the BigInteger target to be larger than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
      *
-     * @param target Validation Target.
+     * @param target Validation target.
      * @param nullable Two options:<br>
      *                 NOT_NULL: If null, the validation fails.<br>
      *                 ALLOW_NULL: If null, the validation succeeds.<br>
      *                 NOTE: Using other values are not recommended.
-     * @param maxInclusive Max value (inclusive).
+     * @param min Min bound.
      * @param name Name of the field to be checked. This parameter is used for the exception message.
      * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
-     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     * @throws MinValueViolationException Validation Exception thrown when the target value is smaller than (or equal to) min value.
      */
-    public static void max(Long target, Nullable nullable, long maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.max(target, maxInclusive)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
-            throwException(MaxValueViolationException.class, name, message);
+    public static void min(BigInteger target, Nullable nullable, DecimalBound min, String name) throws NotNullViolationException, MinValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.min(target, min)) {
+                String message = String.format(ExceptionMessage.minValueViolationMessage3, min, min.getBorderMethod().getMessage());
+                throwException(MinValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
     /**
-     * Requires the float/double target to be smaller than (or equal to) the specified value. This is a variant for wrapper classes.
+     * Requires the integer target to be smaller than or equal to the specified value.<br>
+     * NOTE: For wrapper classes, use another variant instead.
      *
      * @param target Validation Target.
-     * @param nullable Two options:<br>
-     *                 NOT_NULL: If null, the validation fails.<br>
-     *                 ALLOW_NULL: If null, the validation succeeds.<br>
-     *                 NOTE: Using other values are not recommended.
-     * @param max Max value.
-     * @param borderMethod Defines the max border value is included or not.
+     * @param maxInclusive Max value (inclusive).
      * @param name Name of the field to be checked. This parameter is used for the exception message.
-     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(int target, int maxInclusive, String name) throws MaxValueViolationException {
+        long start = start();
+        try {
+            if(!NumericRangeValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target to be smaller than or equal to the specified value.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation Target.
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(long target, long maxInclusive, String name) throws MaxValueViolationException {
+        long start = start();
+        try {
+            if(!NumericRangeValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the float/double target to be smaller than (or equal to) the specified value.<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation Target.
+     * @param max Max value.
+     * @param borderMethod Defines the max border value is included or not.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
+     */
+    public static void max(double target, double max, BorderMethod borderMethod, String name) throws MaxValueViolationException {
+        long start = start();
+        try {
+            if(!NumericRangeValidator.max(target, max, borderMethod)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage2, max, borderMethod);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target to be smaller than or equal to the specified value. This is a variant for wrapper classes.
+     *
+     * @param target Validation Target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(Number target, Nullable nullable, int maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.atMost(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target to be smaller than or equal to the specified value. This is a variant for "Long" class.
+     *
+     * @param target Validation Target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(Long target, Nullable nullable, long maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the float/double target to be smaller than (or equal to) the specified value. This is a variant for wrapper classes.
+     *
+     * @param target Validation Target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max value.
+     * @param borderMethod Defines the max border value is included or not.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
      * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
      */
     public static void max(Double target, Nullable nullable, double max, BorderMethod borderMethod, String name) throws NotNullViolationException, MaxValueViolationException {
-        if(numberNullCheck(target, nullable, name)) {return;}
-        if(!NumericRangeValidator.max(target, max, borderMethod)) {
-            String message = String.format(ExceptionMessage.maxValueViolationMessage2, max, borderMethod.getMessage());
-            throwException(MaxValueViolationException.class, name, message);
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, max, borderMethod)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage2, max, borderMethod.getMessage());
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target to be smaller than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalInt), which never boxes the target.
+     *
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(int target, boolean present, Nullable nullable, int maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target to be smaller than or equal to the specified value. This is a variant for nullable values held as primitives (e.g. OptionalLong), which never boxes the target.
+     *
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param maxInclusive Max value (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than max value.
+     */
+    public static void max(long target, boolean present, Nullable nullable, long maxInclusive, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage1, maxInclusive);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the float/double target to be smaller than (or equal to) the specified value. This is a variant for nullable values held as primitives (e.g. OptionalDouble), which never boxes the target.
+     *
+     * @param target Validation Target. Ignored if "present" is false.
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If absent, the validation fails.<br>
+     *                 ALLOW_NULL: If absent, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max value.
+     * @param borderMethod Defines the max border value is included or not.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
+     */
+    public static void max(double target, boolean present, Nullable nullable, double max, BorderMethod borderMethod, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(presenceCheck(present, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, max, borderMethod)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage2, max, borderMethod);
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the BigDecimal target to be smaller than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max bound.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
+     */
+    public static void max(BigDecimal target, Nullable nullable, DecimalBound max, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, max)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage3, max, max.getBorderMethod().getMessage());
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the BigInteger target to be smaller than (or equal to) the specified bound. The bound is prepared once with "DecimalBound.of()".
+     *
+     * @param target Validation target.
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param max Max bound.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MaxValueViolationException Validation Exception thrown when the target value is larger than (or equal to) max value.
+     */
+    public static void max(BigInteger target, Nullable nullable, DecimalBound max, String name) throws NotNullViolationException, MaxValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!NumericRangeValidator.max(target, max)) {
+                String message = String.format(ExceptionMessage.maxValueViolationMessage3, max, max.getBorderMethod().getMessage());
+                throwException(MaxValueViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -464,11 +1163,16 @@ public class Validator {
      * @throws LengthViolationException Violation Exception thrown if the target length is out of range.
      */
     public static void length(String target, Nullable nullable, int minInclusive, int maxInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, LengthViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringLengthValidator.length(target, minInclusive, maxInclusive)) {
-            String message = String.format(ExceptionMessage.lengthViolationMessage1, maxInclusive, maxInclusive, target.length());
-            throwException(LengthViolationException.class, name, message);}
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.length(target, minInclusive, maxInclusive)) {
+                String message = String.format(ExceptionMessage.lengthViolationMessage1, minInclusive, maxInclusive, target.length());
+                throwException(LengthViolationException.class, name, message);}
 
+        } finally {
+            finish(name, start);
+        }
     }
 
     /**
@@ -490,10 +1194,15 @@ public class Validator {
      * @throws LengthViolationException Violation Exception thrown if the target length does not match the fixed length.
      */
     public static void length(String target, Nullable nullable, int length, String name) throws NotNullViolationException, NotEmptyViolationException, LengthViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringLengthValidator.length(target, length)) {
-            String message = String.format(ExceptionMessage.lengthViolationMessage2, length, target.length());
-            throwException(LengthViolationException.class, name, message);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.length(target, length)) {
+                String message = String.format(ExceptionMessage.lengthViolationMessage2, length, target.length());
+                throwException(LengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -516,10 +1225,15 @@ public class Validator {
      * @throws MinLengthViolationException Violation Exception thrown if the target length does not match its min length requirement.
      */
     public static void min(String target, Nullable nullable, int minInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, MinLengthViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringLengthValidator.min(target, minInclusive)) {
-            String message = String.format(ExceptionMessage.minLengthViolationMessage, minInclusive, target.length());
-            throwException(MinLengthViolationException.class, name, message);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.min(target, minInclusive)) {
+                String message = String.format(ExceptionMessage.minLengthViolationMessage, minInclusive, target.length());
+                throwException(MinLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -542,10 +1256,206 @@ public class Validator {
      * @throws MaxLengthViolationException Violation Exception thrown if the target length does not match its max length requirement.
      */
     public static void max(String target, Nullable nullable, int maxInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, MaxLengthViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringLengthValidator.max(target, maxInclusive)) {
-            String message = String.format(ExceptionMessage.maxLengthViolationMessage, maxInclusive, target.length());
-            throwException(MaxLengthViolationException.class, name, message);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.max(target, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxLengthViolationMessage, maxInclusive, target.length());
+                throwException(MaxLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the target matches its min and max length requirement in the length mode.<br>
+     * The length is counted in a single pass, which stops as soon as the max length is exceeded.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param minInclusive Min length (inclusive).
+     * @param maxInclusive Max length (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws LengthViolationException Violation Exception thrown if the target length is out of range.
+     */
+    public static void length(String target, Nullable nullable, LengthMode mode, int minInclusive, int maxInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, LengthViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.length(target, mode, minInclusive, maxInclusive)) {
+                long length = StringLengthValidator.count(target, mode, Long.MAX_VALUE);
+                String message = String.format(ExceptionMessage.lengthViolationMessage3, minInclusive, maxInclusive, mode.getMessage(), length, mode.getMessage());
+                throwException(LengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the target matches its fixed length requirement in the length mode.<br>
+     * The length is counted in a single pass, which stops as soon as the length is exceeded.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param length length.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws LengthViolationException Violation Exception thrown if the target length does not match the fixed length.
+     */
+    public static void length(String target, Nullable nullable, LengthMode mode, int length, String name) throws NotNullViolationException, NotEmptyViolationException, LengthViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.length(target, mode, length)) {
+                String message = String.format(ExceptionMessage.lengthViolationMessage4, length, mode.getMessage(), StringLengthValidator.count(target, mode, Long.MAX_VALUE), mode.getMessage());
+                throwException(LengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the target matches its min length requirement in the length mode.<br>
+     * The length is counted in a single pass, which stops as soon as the min length is reached.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param minInclusive Min length (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws MinLengthViolationException Violation Exception thrown if the target length does not match its min length requirement.
+     */
+    public static void min(String target, Nullable nullable, LengthMode mode, int minInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, MinLengthViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.min(target, mode, minInclusive)) {
+                String message = String.format(ExceptionMessage.minLengthViolationMessage2, minInclusive, mode.getMessage(), StringLengthValidator.count(target, mode, Long.MAX_VALUE), mode.getMessage());
+                throwException(MinLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the target matches its max length requirement in the length mode.<br>
+     * The length is counted in a single pass, which stops as soon as the max length is exceeded.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws MaxLengthViolationException Violation Exception thrown if the target length does not match its max length requirement.
+     */
+    public static void max(String target, Nullable nullable, LengthMode mode, int maxInclusive, String name) throws NotNullViolationException, NotEmptyViolationException, MaxLengthViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringLengthValidator.max(target, mode, maxInclusive)) {
+                String message = String.format(ExceptionMessage.maxLengthViolationMessage2, maxInclusive, mode.getMessage(), StringLengthValidator.count(target, mode, Long.MAX_VALUE), mode.getMessage());
+                throwException(MaxLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the text read from the source matches its max length requirement in the length mode.<br>
+     * The source is read in fixed-size chunks, and reading stops as soon as the max length is exceeded, so oversized sources are rejected without reading them to the end.
+     * The source is not closed.
+     *
+     * @param source Validation target (not null).
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MaxLengthViolationException Violation Exception thrown if the source is longer than max length.
+     * @throws UncheckedIOException Exception thrown when the source cannot be read.
+     */
+    public static void max(Reader source, LengthMode mode, long maxInclusive, String name) throws MaxLengthViolationException {
+        long start = start();
+        try {
+            boolean valid;
+            try {
+                valid = StringLengthValidator.max(source, mode, maxInclusive);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if(!valid) {
+                String message = String.format(ExceptionMessage.maxLengthViolationMessage3, maxInclusive, mode.getMessage());
+                throwException(MaxLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the text read from the source matches its max length requirement in the length mode.<br>
+     * The source is read in fixed-size chunks, and reading stops as soon as the max length is exceeded, so oversized sources are rejected without reading them to the end.<br>
+     * The source is read as UTF-8 text. For UTF8_BYTES, the bytes are counted without decoding.
+     * The source is not closed.
+     *
+     * @param source Validation target (not null).
+     * @param mode Unit of the length (UTF16, CODE_POINTS, UTF8_BYTES or GRAPHEMES).
+     * @param maxInclusive Max length (inclusive).
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MaxLengthViolationException Violation Exception thrown if the source is longer than max length.
+     * @throws UncheckedIOException Exception thrown when the source cannot be read.
+     */
+    public static void max(InputStream source, LengthMode mode, long maxInclusive, String name) throws MaxLengthViolationException {
+        long start = start();
+        try {
+            boolean valid;
+            try {
+                valid = StringLengthValidator.max(source, mode, maxInclusive);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if(!valid) {
+                String message = String.format(ExceptionMessage.maxLengthViolationMessage3, maxInclusive, mode.getMessage());
+                throwException(MaxLengthViolationException.class, name, message);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -567,9 +1477,43 @@ public class Validator {
      * @throws StringFormatViolationException Validation Exception thrown if the target string does not match the regular expression.
      */
     public static void regex(String target, Nullable nullable, String regex, String name) throws NotNullViolationException, NotEmptyViolationException, StringFormatViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringRegexValidator.regex(target, regex)) {
-            throwException(StringFormatViolationException.class, name, ExceptionMessage.stringFormatViolationMessage);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringRegexValidator.regex(target, regex)) {
+                throwException(StringFormatViolationException.class, name, ExceptionMessage.stringFormatViolationMessage);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Check whether the target matches the precompiled regular expression. This is a variant for the patterns compiled once and reused.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param pattern Compiled regular expression.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws StringFormatViolationException Validation Exception thrown if the target string does not match the regular expression.
+     */
+    public static void regex(String target, Nullable nullable, Pattern pattern, String name) throws NotNullViolationException, NotEmptyViolationException, StringFormatViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringRegexValidator.regex(target, pattern)) {
+                throwException(StringFormatViolationException.class, name, ExceptionMessage.stringFormatViolationMessage);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -590,9 +1534,14 @@ public class Validator {
      * @throws EmailFormatViolationException Validation Exception thrown if the target string does not match email format.
      */
     public static void email(String target, Nullable nullable, String name) throws NotNullViolationException, NotEmptyViolationException, EmailFormatViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringRegexValidator.email(target)) {
-            throwException(EmailFormatViolationException.class, name, ExceptionMessage.emailFormatViolationMessage);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringRegexValidator.email(target)) {
+                throwException(EmailFormatViolationException.class, name, ExceptionMessage.emailFormatViolationMessage);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -613,9 +1562,14 @@ public class Validator {
      * @throws HttpFormatViolationException Validation Exception thrown if the target string does not match http uri format.
      */
     public static void http(String target, Nullable nullable, String name) throws NotNullViolationException, EmptyViolationException, HttpFormatViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringRegexValidator.http(target)) {
-            throwException(HttpFormatViolationException.class, name, ExceptionMessage.httpFormatViolationMessage);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringRegexValidator.http(target)) {
+                throwException(HttpFormatViolationException.class, name, ExceptionMessage.httpFormatViolationMessage);
+            }
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -637,9 +1591,234 @@ public class Validator {
      * @throws PhoneFormatViolationException Validation Exception thrown if the target string does not match phone number format.
      */
     public static void phone(String target, Nullable nullable, String name) throws NotNullViolationException, EmptyViolationException, PhoneFormatViolationException {
-        if(stringNullCheck(target, nullable, name)) {return;}
-        if(!StringRegexValidator.phone(target)) {
-            throwException(PhoneFormatViolationException.class, name, ExceptionMessage.phoneFormatViolationMessage);
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!StringRegexValidator.phone(target)) {
+                throwException(PhoneFormatViolationException.class, name, ExceptionMessage.phoneFormatViolationMessage);
+            }
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the string target to be one of the values in the set (allow-list).<br>
+     * Case-insensitive sets ("StringSet.ofIgnoreCase()") match the target without converting its case.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param values Allowed values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws MembershipViolationException Validation Exception thrown when the target is not in the set.
+     */
+    public static void in(String target, Nullable nullable, StringSet values, String name) throws NotNullViolationException, NotEmptyViolationException, MembershipViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(!values.contains(target)) {throwException(MembershipViolationException.class, name, String.format(ExceptionMessage.membershipViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target to be one of the values in the set (allow-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Allowed values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MembershipViolationException Validation Exception thrown when the target is not in the set.
+     */
+    public static void in(int target, IntSet values, String name) throws MembershipViolationException {
+        long start = start();
+        try {
+            if(!values.contains(target)) {throwException(MembershipViolationException.class, name, String.format(ExceptionMessage.membershipViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target to be one of the values in the set (allow-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Allowed values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws MembershipViolationException Validation Exception thrown when the target is not in the set.
+     */
+    public static void in(long target, LongSet values, String name) throws MembershipViolationException {
+        long start = start();
+        try {
+            if(!values.contains(target)) {throwException(MembershipViolationException.class, name, String.format(ExceptionMessage.membershipViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Integer" target to be one of the values in the set (allow-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Allowed values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MembershipViolationException Validation Exception thrown when the target is not in the set.
+     */
+    public static void in(Integer target, Nullable nullable, IntSet values, String name) throws NotNullViolationException, MembershipViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!values.contains(target)) {throwException(MembershipViolationException.class, name, String.format(ExceptionMessage.membershipViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Long" target to be one of the values in the set (allow-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Allowed values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws MembershipViolationException Validation Exception thrown when the target is not in the set.
+     */
+    public static void in(Long target, Nullable nullable, LongSet values, String name) throws NotNullViolationException, MembershipViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(!values.contains(target)) {throwException(MembershipViolationException.class, name, String.format(ExceptionMessage.membershipViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the string target NOT to be any of the values in the set (deny-list).<br>
+     * Case-insensitive sets ("StringSet.ofIgnoreCase()") match the target without converting its case.
+     *
+     * @param target Validation target.
+     * @param nullable Six options:<br>
+     *                 NOT_NULL: If the target is NULL, then the validation fails.<br>
+     *                 ALLOW_NULL: If the target is NULL, then the validation succeeds, and skips the following validation process.<br>
+     *                 NOT_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation fails.<br>
+     *                 ALLOW_EMPTY: If the target is EMPTY (NULL or length = 0), then the validation succeeds, and skips the following validation process.<br>
+     *                 ALLOW_NULL_NOT_EMPTY: If the target is null, then the validation succeeds, and skips the following validation process. But if the target is empty (length = 0), then validation fails.<br>
+     *                 NOT_NULL_ALLOW_EMPTY: If the target is null, then the validation fails. But if the target is not null but empty (length=0), then the validation succeeds, and skips the following validation process.
+     * @param values Denied values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
+     * @throws DeniedValueViolationException Validation Exception thrown when the target is in the set.
+     */
+    public static void notIn(String target, Nullable nullable, StringSet values, String name) throws NotNullViolationException, NotEmptyViolationException, DeniedValueViolationException {
+        long start = start();
+        try {
+            if(stringNullCheck(target, nullable, name)) {return;}
+            if(values.contains(target)) {throwException(DeniedValueViolationException.class, name, String.format(ExceptionMessage.deniedValueViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the integer target NOT to be any of the values in the set (deny-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Denied values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws DeniedValueViolationException Validation Exception thrown when the target is in the set.
+     */
+    public static void notIn(int target, IntSet values, String name) throws DeniedValueViolationException {
+        long start = start();
+        try {
+            if(values.contains(target)) {throwException(DeniedValueViolationException.class, name, String.format(ExceptionMessage.deniedValueViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the long integer target NOT to be any of the values in the set (deny-list).<br>
+     * NOTE: For wrapper classes, use another variant instead.
+     *
+     * @param target Validation target.
+     * @param values Denied values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws DeniedValueViolationException Validation Exception thrown when the target is in the set.
+     */
+    public static void notIn(long target, LongSet values, String name) throws DeniedValueViolationException {
+        long start = start();
+        try {
+            if(values.contains(target)) {throwException(DeniedValueViolationException.class, name, String.format(ExceptionMessage.deniedValueViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Integer" target NOT to be any of the values in the set (deny-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Denied values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws DeniedValueViolationException Validation Exception thrown when the target is in the set.
+     */
+    public static void notIn(Integer target, Nullable nullable, IntSet values, String name) throws NotNullViolationException, DeniedValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(values.contains(target)) {throwException(DeniedValueViolationException.class, name, String.format(ExceptionMessage.deniedValueViolationMessage, values));}
+        } finally {
+            finish(name, start);
+        }
+    }
+
+    /**
+     * Requires the "Long" target NOT to be any of the values in the set (deny-list). This is a variant for wrapper classes.
+     *
+     * @param target Validation target (Wrapper class).
+     * @param nullable Two options:<br>
+     *                 NOT_NULL: If null, the validation fails.<br>
+     *                 ALLOW_NULL: If null, the validation succeeds.<br>
+     *                 NOTE: Using other values are not recommended.
+     * @param values Denied values.
+     * @param name Name of the field to be checked. This parameter is used for the exception message.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
+     * @throws DeniedValueViolationException Validation Exception thrown when the target is in the set.
+     */
+    public static void notIn(Long target, Nullable nullable, LongSet values, String name) throws NotNullViolationException, DeniedValueViolationException {
+        long start = start();
+        try {
+            if(numberNullCheck(target, nullable, name)) {return;}
+            if(values.contains(target)) {throwException(DeniedValueViolationException.class, name, String.format(ExceptionMessage.deniedValueViolationMessage, values));}
+        } finally {
+            finish(name, start);
         }
     }
 
@@ -651,16 +1830,59 @@ public class Validator {
      * @param message Exception Message.
      */
     private static void throwException(Class<? extends ValidationException> exceptionClass, String name, String message) throws ValidationException {
+        ValidationMetrics registry = metrics;
+        if(registry != null) {registry.constraint("Validator." + name).recordFailure(exceptionClass);}
+        String formatted = formatMessage(name, message);
+        ViolationEvent event = new ViolationEvent();
+        if(event.isEnabled() && ViolationEvent.sampled()) {
+            event.exceptionType = exceptionClass;
+            event.field = name;
+            event.message = formatted;
+            event.commit();
+        }
         Constructor<? extends ValidationException> constructor;
         try {
             constructor = exceptionClass.getConstructor(String.class);
-            throw constructor.newInstance(formatMessage(name, message));
+            throw constructor.newInstance(formatted);
         } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
             System.err.println(ExceptionMessage.unexpectedExceptionMessage);
             e.printStackTrace();
         }
     }
 
+    /**
+     * Private internal method to start measuring a static check.
+     *
+     * @return Start time (System.nanoTime()), or 0 if the instrumentation is disabled.
+     */
+    private static long start() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Private internal method to record the invocation and the duration of a static check. The failure itself is recorded by "throwException()".
+     *
+     * @param name Field name.
+     * @param start Start time returned by "start()".
+     */
+    private static void finish(String name, long start) {
+        if(start == 0) {return;}
+        ValidationMetrics registry = metrics;
+        if(registry != null) {registry.constraint("Validator." + name).record(System.nanoTime() - start);}
+    }
+
+    /**
+     * Private internal method to choose the exception class for the range.
+     *
+     * @param hasMin Whether the range has min value.
+     * @param hasMax Whether the range has max value.
+     * @return NumericValueRangeViolationException, or MinValueViolationException / MaxValueViolationException for the range with one side only.
+     */
+    private static Class<? extends ValidationException> rangeException(boolean hasMin, boolean hasMax) {
+        if(hasMin && hasMax) {return NumericValueRangeViolationException.class;}
+        return hasMin ? MinValueViolationException.class : MaxValueViolationException.class;
+    }
+
     /**
      * private internal method to format exception message.
      *
@@ -673,7 +1895,7 @@ public class Validator {
     }
 
     /**
-     * Private internal method for null check of numeric values.
+     * Private internal method for null check of numeric values. The action is looked up in the decision table of the Nullable option.
      *
      * @param target Validation target
      * @param nullable Nullability of the target.
@@ -683,23 +1905,34 @@ public class Validator {
      * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is NULL.
      */
     private static boolean numberNullCheck(Number target, Nullable nullable, String name) throws NotNullViolationException {
-        switch (nullable) {
-            case NOT_NULL:
-            case NOT_EMPTY:
-            case NOT_NULL_ALLOW_EMPTY:
-                if (NullCheckValidator.isNull(target)) {throwException(NotBlankViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
+        return presenceCheck(target != null, nullable, name);
+    }
+
+    /**
+     * Private internal method for null check of numeric values held as primitives with the presence flag.
+     *
+     * @param present false if the value is absent (treated as NULL).
+     * @param nullable Nullability of the target.
+     * @param name Field name.
+     * @return true: validation is finished, and the following process can be skipped.<br>
+     *         false: validation is not finished, and the following process need to be proceeded.
+     * @throws NotNullViolationException Validation Exception thrown if "nullable" is set NOT_NULL but the target is absent.
+     */
+    private static boolean presenceCheck(boolean present, Nullable nullable, String name) throws NotNullViolationException {
+        switch (NullPolicy.number(nullable, present ? NullPolicy.PRESENT : NullPolicy.NULL)) {
+            case NullPolicy.PASS:
+                return true;
+            case NullPolicy.FAIL_NULL:
+                throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);
                 break;
-            case ALLOW_NULL:
-            case ALLOW_EMPTY:
-            case ALLOW_NULL_NOT_EMPTY:
-                if (NullCheckValidator.isNull(target)) {return true;}
+            default:
                 break;
         }
         return false;
     }
 
     /**
-     * Private internal method for null check
+     * Private internal method for null check. The target is classified once, and the action is looked up in the decision table of the Nullable option.
      *
      * @param target Validation target.
      * @param nullable Six options:<br>
@@ -716,26 +1949,16 @@ public class Validator {
      * @throws NotEmptyViolationException Validation Exception thrown if "nullable" is set NOT_EMPTY but the target is EMPTY.
      */
     private static boolean stringNullCheck(String target, Nullable nullable, String name) throws NotNullViolationException, NotEmptyViolationException {
-        switch (nullable) {
-            case NOT_NULL:
-                if(NullCheckValidator.isNull(target)) {throwException(NotBlankViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
-                break;
-            case ALLOW_NULL:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                break;
-            case NOT_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {throwException(NotEmptyViolationException.class, name, ExceptionMessage.notEmptyViolationMessage);}
-                break;
-            case ALLOW_EMPTY:
-                if(NullCheckValidator.isEmpty(target)) {return true;}
+        switch (NullPolicy.string(nullable, NullPolicy.state(target))) {
+            case NullPolicy.PASS:
+                return true;
+            case NullPolicy.FAIL_NULL:
+                throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);
                 break;
-            case ALLOW_NULL_NOT_EMPTY:
-                if(NullCheckValidator.isNull(target)) {return true;}
-                if(NullCheckValidator.isEmpty(target)) {throwException(NotEmptyViolationException.class, name, ExceptionMessage.notEmptyViolationMessage);}
+            case NullPolicy.FAIL_EMPTY:
+                throwException(NotEmptyViolationException.class, name, ExceptionMessage.notEmptyViolationMessage);
                 break;
-            case NOT_NULL_ALLOW_EMPTY:
-                if(NullCheckValidator.isNull(target)) {throwException(NotNullViolationException.class, name, ExceptionMessage.notNullViolationMessage);}
-                if(NullCheckValidator.isEmpty(target)) {return true;}
+            default:
                 break;
         }
         return false;
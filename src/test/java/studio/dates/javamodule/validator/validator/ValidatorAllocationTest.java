@@ -0,0 +1,87 @@
+package studio.dates.javamodule.validator.validator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import studio.dates.javamodule.validator.booleanvalidator.BooleanValidator;
+import studio.dates.javamodule.validator.enums.BorderMethod;
+import studio.dates.javamodule.validator.enums.Nullable;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation check of the primitive presence-flag overloads.<br>
+ * The success path of the overloads must not box the values nor format any message,
+ * so the bytes allocated by the calling thread must not grow with the number of the calls.
+ *
+ * @author Laurence B. Yamamoto (DatesStudio in Toyohashi, JAPAN)
+ *
+ * @version 1.1.0 (Oct. 19, 2026)
+ */
+class ValidatorAllocationTest {
+    /**
+     * Number of the calls measured (and run before the measurement to warm up).
+     */
+    private static final int CALLS = 200_000;
+
+    /**
+     * Bytes allowed for the whole measured loop. Boxing a value outside the Integer cache costs 16 bytes per call.
+     */
+    private static final long SLACK = 4096;
+
+    /**
+     * Thread MX Bean of HotSpot measuring the allocated bytes.
+     */
+    private static final com.sun.management.ThreadMXBean threads = threadMXBean();
+
+    @Test
+    void validatorDoesNotAllocate() {
+        assertNoAllocation(() -> {
+            for(int i = 0; i < CALLS; i++) {
+                Validator.range(1000 + (i & 0xFF), true, Nullable.NOT_NULL, 0, 100_000, "int");
+                Validator.range(1_000_000L + i, true, Nullable.NOT_NULL, 0L, Long.MAX_VALUE, "long");
+                Validator.range(1000.5 + i, true, Nullable.NOT_NULL, 0, BorderMethod.INCLUSIVE, 1e9, BorderMethod.EXCLUSIVE, "double");
+                Validator.min(1000 + i, false, Nullable.ALLOW_NULL, 0, "absent");
+                Validator.max(1000L + i, true, Nullable.NOT_NULL, Long.MAX_VALUE, "max");
+            }
+        });
+    }
+
+    @Test
+    void booleanValidatorDoesNotAllocate() {
+        assertNoAllocation(() -> {
+            int passed = 0;
+            for(int i = 0; i < CALLS; i++) {
+                if(BooleanValidator.range(1000 + (i & 0xFF), true, Nullable.NOT_NULL, 0, 100_000)) {passed++;}
+                if(BooleanValidator.range(1_000_000L + i, true, Nullable.NOT_NULL, 0L, Long.MAX_VALUE)) {passed++;}
+                if(BooleanValidator.range(1000.5 + i, false, Nullable.ALLOW_NULL, 0, BorderMethod.INCLUSIVE, 1e9, BorderMethod.EXCLUSIVE)) {passed++;}
+            }
+            Assertions.assertEquals(CALLS * 3, passed);
+        });
+    }
+
+    /**
+     * Private internal method to run the loop twice (warm-up and measurement) and check the bytes allocated by the measurement.
+     *
+     * @param loop Loop of the calls.
+     */
+    private static void assertNoAllocation(Runnable loop) {
+        Assumptions.assumeTrue(threads != null && threads.isThreadAllocatedMemorySupported(), "Allocated bytes are not measurable on this JVM.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        loop.run();
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        loop.run();
+        long allocated = threads.getThreadAllocatedBytes(id) - before;
+        Assertions.assertTrue(allocated < SLACK, "Hot path allocated " + allocated + " bytes for " + CALLS + " iterations.");
+    }
+
+    /**
+     * Private internal method to get the Thread MX Bean of HotSpot.
+     *
+     * @return Thread MX Bean, or null if the JVM does not provide it.
+     */
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+    }
+}